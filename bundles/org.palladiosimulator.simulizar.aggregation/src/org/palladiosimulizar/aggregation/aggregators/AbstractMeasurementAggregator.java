@@ -5,15 +5,18 @@ import java.util.Optional;
 
 import javax.measure.Measure;
 import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
 
 import org.jscience.physics.amount.Amount;
 import org.palladiosimulator.edp2.util.MetricDescriptionUtility;
 import org.palladiosimulator.measurementframework.MeasuringValue;
 import org.palladiosimulator.measurementframework.listener.IMeasurementSourceListener;
 import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.ScopeOfValidity;
 import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
 import org.palladiosimulator.monitorrepository.MeasurementDrivenAggregation;
 import org.palladiosimulator.monitorrepository.MonitorRepositoryPackage;
+import org.palladiosimulator.monitorrepository.statisticalcharacterization.ArithmeticMeanAggregator;
 import org.palladiosimulator.monitorrepository.statisticalcharacterization.StatisticalCharacterizationAggregator;
 import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
 import org.palladiosimulator.simulizar.metrics.PRMRecorder;
@@ -32,6 +35,7 @@ public abstract class AbstractMeasurementAggregator extends PRMRecorder implemen
     private final StatisticalCharacterizationAggregator aggregator;
     private final NumericalBaseMetricDescription expectedMetric;
     private final int frequencyOfAggregation;
+    private final boolean aggregatedIncrementally;
 
     private int measurementsUntilNextAggregation = 0;
 
@@ -61,6 +65,8 @@ public abstract class AbstractMeasurementAggregator extends PRMRecorder implemen
         this.expectedMetric = Objects.requireNonNull(expectedMetric);
         this.aggregator = measurementDrivenAggregation.getStatisticalCharacterization().getAggregator(expectedMetric);
         this.frequencyOfAggregation = measurementDrivenAggregation.getFrequency();
+        this.aggregatedIncrementally = this.aggregator instanceof ArithmeticMeanAggregator
+                && expectedMetric.getScopeOfValidity() == ScopeOfValidity.DISCRETE;
         if (this.frequencyOfAggregation < 1) {
             throw new IllegalStateException(
                     "Value of '" + MonitorRepositoryPackage.Literals.MEASUREMENT_DRIVEN_AGGREGATION__FREQUENCY.getName()
@@ -199,12 +205,42 @@ public abstract class AbstractMeasurementAggregator extends PRMRecorder implemen
     protected abstract Amount<Duration> getIntervalEndTime();
 
     /**
-     * Gets the sequence of measurements to be aggregated.
+     * Gets the sequence of measurements to be aggregated.<br>
+     * This method is only invoked if the aggregation is not computed incrementally.
      * 
      * @return An {@link Iterable} encapsulating the sequence of measurements to be aggregated.
+     * @see #isAggregatedIncrementally()
      */
     protected abstract Iterable<MeasuringValue> getDataToAggregate();
 
+    /**
+     * Gets the number of measurements to be aggregated.
+     * 
+     * @return The number of measurements.
+     */
+    protected abstract int getNumberOfValues();
+
+    /**
+     * Gets the sum of the values of the measurements to be aggregated, expressed in the default
+     * unit of the expected metric.
+     * 
+     * @return The sum of the measured values.
+     * @see #getValueInDefaultUnit(MeasuringValue)
+     */
+    protected abstract double getSumOfValues();
+
+    /**
+     * Indicates whether the aggregation result can be computed from the number and the sum of the
+     * collected values, which is the case for the arithmetic mean of discrete metrics. If so,
+     * subclasses do not need to retain the collected {@link MeasuringValue}s.
+     * 
+     * @return {@code true} if the aggregation is computed incrementally, {@code false} if
+     *         {@link #getDataToAggregate()} is passed to the {@link StatisticalCharacterizationAggregator}.
+     */
+    protected final boolean isAggregatedIncrementally() {
+        return this.aggregatedIncrementally;
+    }
+
     /**
      * This method has to be implemented by subclasses to collect a new measurement for aggregation.
      * 
@@ -266,7 +302,43 @@ public abstract class AbstractMeasurementAggregator extends PRMRecorder implemen
         return Amount.valueOf(pointInTimeMeasure.getValue(), pointInTimeMeasure.getUnit());
     }
 
+    /**
+     * Convenience method for all subclasses to obtain the point in time (which is assumed to be
+     * present) a measurement was taken.
+     *
+     * @param measurement
+     *            A {@link MeasuringValue} representing the measurement.
+     * @return The corresponding point in time in seconds.
+     */
+    protected static double getPointInTimeInSeconds(final MeasuringValue measurement) {
+        assert measurement != null;
+
+        Measure<Double, Duration> pointInTimeMeasure = measurement
+                .getMeasureForMetric(MetricDescriptionConstants.POINT_IN_TIME_METRIC);
+
+        return pointInTimeMeasure.doubleValue(SI.SECOND);
+    }
+
+    /**
+     * Convenience method for all subclasses to obtain the measured value of the expected metric.
+     *
+     * @param measurement
+     *            A {@link MeasuringValue} representing the measurement.
+     * @return The measured value, expressed in the default unit of the expected metric.
+     */
+    protected final double getValueInDefaultUnit(final MeasuringValue measurement) {
+        assert measurement != null;
+
+        return measurement.getMeasureForMetric(this.expectedMetric)
+            .doubleValue(this.expectedMetric.getDefaultUnit());
+    }
+
     private void aggregate() {
+        if (this.aggregatedIncrementally) {
+            final int numberOfValues = getNumberOfValues();
+            super.updateMeasurementValue(numberOfValues == 0 ? 0d : getSumOfValues() / numberOfValues);
+            return;
+        }
         MeasuringValue aggregatedData = this.aggregator.aggregateData(getDataToAggregate(), getIntervalStartTime(),
                 getIntervalEndTime(), Optional.empty());
 
@@ -1,13 +1,10 @@
 package org.palladiosimulizar.aggregation.aggregators;
 
-import static org.apache.commons.collections15.IteratorUtils.arrayIterator;
-import static org.apache.commons.collections15.IteratorUtils.unmodifiableIterator;
-
-import java.util.Arrays;
-import java.util.Iterator;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
 
 import org.jscience.physics.amount.Amount;
 import org.palladiosimulator.measurementframework.MeasuringValue;
@@ -26,7 +23,8 @@ import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
  */
 public class FixedSizeMeasurementsAggregator extends AbstractMeasurementAggregator {
 
-    private final InternalBuffer buffer;
+    // the least recent measurement is overwritten once the buffer is full
+    private final MeasurementRing buffer;
 
     /**
      * Initializes a new instance of the {@link FixedSizeMeasurementsAggregator} class with the
@@ -52,7 +50,8 @@ public class FixedSizeMeasurementsAggregator extends AbstractMeasurementAggregat
         super(Objects.requireNonNull(expectedMetric), Objects.requireNonNull(runtimeMeasurementModel),
                 Objects.requireNonNull(fixedSizeAggregation));
 
-        this.buffer = new InternalBuffer(checkAndGetNumberOfMeasurementsAttribute(fixedSizeAggregation));
+        this.buffer = new MeasurementRing(checkAndGetNumberOfMeasurementsAttribute(fixedSizeAggregation), false,
+                !isAggregatedIncrementally());
     }
 
     private static int checkAndGetNumberOfMeasurementsAttribute(final FixedSizeAggregation fixedSizeAggregation) {
@@ -68,7 +67,8 @@ public class FixedSizeMeasurementsAggregator extends AbstractMeasurementAggregat
 
     @Override
     protected void collectMeasurement(final MeasuringValue newMeasurement) {
-        this.buffer.add(newMeasurement);
+        this.buffer.add(getPointInTimeInSeconds(newMeasurement), getValueInDefaultUnit(newMeasurement),
+                newMeasurement);
     }
 
     @Override
@@ -78,94 +78,31 @@ public class FixedSizeMeasurementsAggregator extends AbstractMeasurementAggregat
 
     @Override
     protected Amount<Duration> getIntervalStartTime() {
-        return getPointInTimeOfMeasurement(this.buffer.getEldestElement());
+        return Amount.valueOf(this.buffer.getEldestPointInTime(), SI.SECOND);
     }
 
     @Override
     protected Amount<Duration> getIntervalEndTime() {
-        return getPointInTimeOfMeasurement(this.buffer.getNewestElement());
+        return Amount.valueOf(this.buffer.getNewestPointInTime(), SI.SECOND);
     }
 
     @Override
     protected Iterable<MeasuringValue> getDataToAggregate() {
-        return this.buffer;
+        return () -> IntStream.range(0, this.buffer.size()).mapToObj(this.buffer::getMeasurement).iterator();
     }
 
     @Override
-    public void clear() {
-        this.buffer.clear();
+    protected int getNumberOfValues() {
+        return this.buffer.size();
     }
 
-    private static final class InternalBuffer implements Iterable<MeasuringValue> {
-
-        // the data container will be used in a circular way
-        private final MeasuringValue[] data;
-        // pointer to the least recent element of the data
-        // that is the element which was added least recently
-        // this is used as base "address" for all data accesses
-        private int eldestElementPointer = 0;
-        private int currentElementCount = 0;
-
-        private InternalBuffer(final int capacity) {
-            assert capacity > 0;
-            this.data = new MeasuringValue[capacity];
-        }
-
-        public int size() {
-            return this.currentElementCount;
-        }
-
-        public int capacity() {
-            return this.data.length;
-        }
-
-        public boolean isFull() {
-            return size() == capacity();
-        }
-
-        public boolean add(final MeasuringValue measuringValue) {
-            if (isFull()) {
-                addFull(measuringValue);
-            } else {
-                addNotFull(measuringValue);
-            }
-            return true;
-        }
-
-        public MeasuringValue getEldestElement() {
-            return this.data[this.eldestElementPointer];
-        }
-
-        private void addFull(final MeasuringValue newElemement) {
-            assert isFull() && newElemement != null;
-
-            this.data[this.eldestElementPointer] = newElemement;
-            // adjust the pointer to the eldest/least recent element
-            this.eldestElementPointer++;
-            this.eldestElementPointer %= capacity();
-            assert this.eldestElementPointer >= 0 && this.eldestElementPointer < capacity();
-        }
-
-        private void addNotFull(final MeasuringValue elementToAdd) {
-            assert !isFull() && elementToAdd != null;
-
-            this.data[this.currentElementCount++] = elementToAdd;
-        }
-
-        public void clear() {
-            Arrays.fill(data, null);
-            this.eldestElementPointer = this.currentElementCount = 0;
-        }
-
-        public MeasuringValue getNewestElement() {
-            return this.data[(this.eldestElementPointer + size() - 1) % capacity()];
-        }
-
-        @Override
-        public Iterator<MeasuringValue> iterator() {
-            return unmodifiableIterator(arrayIterator(this.data));
-        }
-
+    @Override
+    protected double getSumOfValues() {
+        return this.buffer.getSum();
     }
 
+    @Override
+    public void clear() {
+        this.buffer.clear();
+    }
 }
@@ -0,0 +1,198 @@
+package org.palladiosimulizar.aggregation.aggregators;
+
+import java.util.Arrays;
+
+import org.palladiosimulator.measurementframework.MeasuringValue;
+
+/**
+ * Ring buffer of chronologically ordered measurements used by the measurement aggregators. Points
+ * in time (in seconds) and values (in the default unit of the aggregated metric) are kept in
+ * parallel {@code double} arrays, and the sum of the values is maintained incrementally.
+ *
+ * The {@link MeasuringValue}s themselves are only retained if requested, i.e., if the aggregation
+ * cannot be computed from the primitive values. Whether they are retained is fixed on construction.
+ */
+public final class MeasurementRing {
+
+    private final boolean growable;
+
+    private double[] pointsInTime;
+    private double[] values;
+    private MeasuringValue[] measurements;
+
+    // index of the least recently added element, base "address" for all data accesses
+    private int head = 0;
+    private int size = 0;
+
+    private double sum = 0d;
+    // number of additions and removals since the sum was computed from scratch
+    private int updatesSinceSummation = 0;
+
+    /**
+     * @param capacity
+     *            the (initial) capacity of the ring.
+     * @param growable
+     *            {@code true} if the capacity is increased when adding to a full ring,
+     *            {@code false} if the least recent element is overwritten instead.
+     * @param retainMeasurements
+     *            whether the added {@link MeasuringValue}s are to be retained.
+     */
+    public MeasurementRing(final int capacity, final boolean growable, final boolean retainMeasurements) {
+        assert capacity > 0;
+
+        this.growable = growable;
+        this.pointsInTime = new double[capacity];
+        this.values = new double[capacity];
+        this.measurements = retainMeasurements ? new MeasuringValue[capacity] : null;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int capacity() {
+        return this.values.length;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    public boolean isFull() {
+        return this.size == capacity();
+    }
+
+    public double getSum() {
+        return this.sum;
+    }
+
+    public double getEldestPointInTime() {
+        return this.pointsInTime[index(0)];
+    }
+
+    public double getNewestPointInTime() {
+        return this.pointsInTime[index(this.size - 1)];
+    }
+
+    /**
+     * @param position
+     *            the position relative to the least recent element.
+     * @return the point in time of the element at the given position.
+     */
+    public double getPointInTime(final int position) {
+        assert position >= 0 && position < this.size;
+
+        return this.pointsInTime[index(position)];
+    }
+
+    /**
+     * @param position
+     *            the position relative to the least recent element.
+     * @return the value of the element at the given position.
+     */
+    public double getValue(final int position) {
+        assert position >= 0 && position < this.size;
+
+        return this.values[index(position)];
+    }
+
+    /**
+     * @return whether the added {@link MeasuringValue}s are retained.
+     */
+    public boolean isRetainingMeasurements() {
+        return this.measurements != null;
+    }
+
+    /**
+     * Only to be called if the ring {@link #isRetainingMeasurements() retains the measurements}.
+     *
+     * @param position
+     *            the position relative to the least recent element.
+     * @return the measurement of the element at the given position.
+     */
+    public MeasuringValue getMeasurement(final int position) {
+        assert isRetainingMeasurements();
+        assert position >= 0 && position < this.size;
+
+        return this.measurements[index(position)];
+    }
+
+    public void add(final double pointInTime, final double value, final MeasuringValue measurement) {
+        if (isFull()) {
+            if (this.growable) {
+                grow();
+            } else {
+                removeFirst();
+            }
+        }
+        final int index = index(this.size);
+        this.pointsInTime[index] = pointInTime;
+        this.values[index] = value;
+        if (this.measurements != null) {
+            this.measurements[index] = measurement;
+        }
+        this.size++;
+        this.sum += value;
+        onUpdate();
+    }
+
+    public void removeFirst() {
+        assert !isEmpty();
+
+        this.sum -= this.values[this.head];
+        if (this.measurements != null) {
+            this.measurements[this.head] = null;
+        }
+        this.head = (this.head + 1) % capacity();
+        this.size--;
+        onUpdate();
+    }
+
+    public void clear() {
+        if (this.measurements != null) {
+            Arrays.fill(this.measurements, null);
+        }
+        this.head = this.size = 0;
+        this.sum = 0d;
+        this.updatesSinceSummation = 0;
+    }
+
+    private int index(final int position) {
+        return (this.head + position) % capacity();
+    }
+
+    /**
+     * Adding and subtracting values accumulates rounding errors, so the sum is recomputed from
+     * scratch once the number of updates exceeds the capacity. This keeps the amortized cost per
+     * update constant.
+     */
+    private void onUpdate() {
+        if (++this.updatesSinceSummation > capacity()) {
+            double exactSum = 0d;
+            for (int i = 0; i < this.size; i++) {
+                exactSum += this.values[index(i)];
+            }
+            this.sum = exactSum;
+            this.updatesSinceSummation = 0;
+        }
+    }
+
+    private void grow() {
+        final int newCapacity = capacity() * 2;
+        final double[] newPointsInTime = new double[newCapacity];
+        final double[] newValues = new double[newCapacity];
+        final MeasuringValue[] newMeasurements = this.measurements != null ? new MeasuringValue[newCapacity] : null;
+        for (int i = 0; i < this.size; i++) {
+            final int index = index(i);
+            newPointsInTime[i] = this.pointsInTime[index];
+            newValues[i] = this.values[index];
+            if (newMeasurements != null) {
+                newMeasurements[i] = this.measurements[index];
+            }
+        }
+        this.pointsInTime = newPointsInTime;
+        this.values = newValues;
+        this.measurements = newMeasurements;
+        this.head = 0;
+    }
+}
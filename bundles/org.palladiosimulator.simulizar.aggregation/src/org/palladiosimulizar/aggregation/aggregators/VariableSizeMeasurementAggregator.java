@@ -1,12 +1,11 @@
 package org.palladiosimulizar.aggregation.aggregators;
 
-import java.util.Collections;
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 import javax.measure.Measure;
 import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
 
 import org.jscience.physics.amount.Amount;
 import org.palladiosimulator.measurementframework.MeasuringValue;
@@ -26,11 +25,13 @@ import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
 public class VariableSizeMeasurementAggregator extends AbstractMeasurementAggregator {
 
     // assume that the consecutive measurements are chronologically ordered
-    private final Deque<MeasuringValue> buffer;
+    private final MeasurementRing buffer;
     private final VariableSizeAggregation variableSizeAggregation;
-    private final Amount<Duration> retrospectionLength;
+    // in seconds
+    private final double retrospectionLength;
 
     private static final Amount<Duration> ZERO_DURATION = Amount.valueOf(0, Duration.UNIT);
+    private static final int INITIAL_BUFFER_CAPACITY = 64;
 
     /**
      * Initializes a new instance of the {@link VariableSizeMeasurementAggregator} class with the
@@ -57,7 +58,7 @@ public class VariableSizeMeasurementAggregator extends AbstractMeasurementAggreg
         super(Objects.requireNonNull(expectedMetric), Objects.requireNonNull(runtimeMeasurementModel),
                 Objects.requireNonNull(variableSizeAggregation));
 
-        this.buffer = new LinkedList<>();
+        this.buffer = new MeasurementRing(INITIAL_BUFFER_CAPACITY, true, !isAggregatedIncrementally());
         this.variableSizeAggregation = variableSizeAggregation;
         Measure<Double, Duration> retrospectionMeasure = this.variableSizeAggregation.getRetrospectionLengthAsMeasure();
         if (retrospectionMeasure.compareTo(ZERO_DURATION) <= 0) {
@@ -68,7 +69,7 @@ public class VariableSizeMeasurementAggregator extends AbstractMeasurementAggreg
                             + "' attribute of '" + variableSizeAggregation.eClass().getName() + "' with id "
                             + variableSizeAggregation.getId() + " must be positive!");
         }
-        this.retrospectionLength = Amount.valueOf(retrospectionMeasure.getValue(), retrospectionMeasure.getUnit());
+        this.retrospectionLength = retrospectionMeasure.doubleValue(SI.SECOND);
     }
 
     @Override
@@ -78,54 +79,59 @@ public class VariableSizeMeasurementAggregator extends AbstractMeasurementAggreg
 
     @Override
     protected boolean aggregationRequired() {
-        return !this.buffer.isEmpty() && !getPointInTimeOfMeasurement(this.buffer.getLast())
-                .minus(this.retrospectionLength).isLessThan(getPointInTimeOfMeasurement(this.buffer.getFirst()));
+        return !this.buffer.isEmpty() && !(this.buffer.getNewestPointInTime()
+                - this.retrospectionLength < this.buffer.getEldestPointInTime());
     }
 
     @Override
     protected Amount<Duration> getIntervalStartTime() {
-        Amount<Duration> result = getIntervalEndTime().minus(this.retrospectionLength);
-        return result.compareTo(ZERO_DURATION) < 0 ? ZERO_DURATION : result;
+        return Amount.valueOf(Math.max(0d, this.buffer.getNewestPointInTime() - this.retrospectionLength),
+                SI.SECOND);
     }
 
     @Override
     protected Amount<Duration> getIntervalEndTime() {
-        return getPointInTimeOfMeasurement(this.buffer.getLast());
+        return Amount.valueOf(this.buffer.getNewestPointInTime(), SI.SECOND);
     }
 
     @Override
     protected Iterable<MeasuringValue> getDataToAggregate() {
-        return Collections.unmodifiableCollection(this.buffer);
+        return () -> IntStream.range(0, this.buffer.size()).mapToObj(this.buffer::getMeasurement).iterator();
+    }
+
+    @Override
+    protected int getNumberOfValues() {
+        return this.buffer.size();
+    }
+
+    @Override
+    protected double getSumOfValues() {
+        return this.buffer.getSum();
     }
 
     @Override
     protected void collectMeasurement(final MeasuringValue newMeasurement) {
         // assume that newMeasurement is more recent than the last in buffer
         // i.e., the measurements are chronologically ordered
-        this.buffer.add(newMeasurement);
+        this.buffer.add(getPointInTimeInSeconds(newMeasurement), getValueInDefaultUnit(newMeasurement),
+                newMeasurement);
     }
 
     private void evictMeasurements() {
+        final double newestPointInTime = this.buffer.isEmpty() ? 0d : this.buffer.getNewestPointInTime();
         switch (getExpectedMetric().getScopeOfValidity()) {
         // in the case of a continuous scope
         // maintain the first measurement prior to the left interval bound
         case CONTINUOUS:
-            MeasuringValue first = this.buffer.peekFirst(); // null if buffer is empty
-            MeasuringValue lastPolled = null;
-            while (first != null && getPointInTimeOfMeasurement(this.buffer.getLast())
-                    .minus(getPointInTimeOfMeasurement(first)).isGreaterThan(this.retrospectionLength)) {
-                lastPolled = this.buffer.pollFirst();
-                first = this.buffer.peekFirst();
-            }
-            if (lastPolled != null) {
-                this.buffer.addFirst(lastPolled);
+            while (this.buffer.size() > 1
+                    && newestPointInTime - this.buffer.getPointInTime(1) > this.retrospectionLength) {
+                this.buffer.removeFirst();
             }
             break;
         case DISCRETE:
-            while (!this.buffer.isEmpty() && getPointInTimeOfMeasurement(this.buffer.getLast())
-                    .minus(getPointInTimeOfMeasurement(this.buffer.getFirst()))
-                    .isGreaterThan(this.retrospectionLength)) {
-                this.buffer.pollFirst();
+            while (!this.buffer.isEmpty()
+                    && newestPointInTime - this.buffer.getEldestPointInTime() > this.retrospectionLength) {
+                this.buffer.removeFirst();
             }
             break;
         default:
@@ -14,6 +14,10 @@ import de.uka.ipd.sdq.statistics.IBatchAlgorithm;
 import de.uka.ipd.sdq.statistics.estimation.ConfidenceInterval;
 import de.uka.ipd.sdq.statistics.estimation.IConfidenceEstimator;
 
+/**
+ * Aggregates reconfiguration times until the requested confidence is reached. The aggregator may
+ * be shared by concurrently executed simulation runs.
+ */
 public class ReconfigurationTimeAggregatorWithConfidence implements IMeasurementSourceListener {
 
 	private static final Logger LOGGER = Logger.getLogger(ReconfigurationTimeAggregatorWithConfidence.class);
@@ -53,7 +57,7 @@ public class ReconfigurationTimeAggregatorWithConfidence implements IMeasurement
      * (org.palladiosimulator.measurementframework.AbstractMeasureProvider)
      */
     @Override
-    public void newMeasurementAvailable(final MeasuringValue measurement) {
+    public synchronized void newMeasurementAvailable(final MeasuringValue measurement) {
     	final Measure<Double, Duration> responseTimeMeasure = measurement
                 .getMeasureForMetric(MetricDescriptionConstants.RECONFIGURATION_TIME_METRIC);
         final double responseTime = responseTimeMeasure.doubleValue(SI.SECOND);
@@ -119,15 +123,15 @@ public class ReconfigurationTimeAggregatorWithConfidence implements IMeasurement
         // Nothing to do
     }
 
-	public boolean isConfidenceReached() {
+	public synchronized boolean isConfidenceReached() {
 		return confidenceReached;
 	}
 
-    public ConfidenceInterval getConfidence() {
+    public synchronized ConfidenceInterval getConfidence() {
         return confidence;
     }
 	
-	public void setConfidenceReached(boolean confidenceReached) {
+	public synchronized void setConfidenceReached(boolean confidenceReached) {
 		this.confidenceReached = confidenceReached;
 	}
     
@@ -2,10 +2,20 @@ package org.palladiosimulator.simulizar.elasticity.jobs;
 
 import static org.palladiosimulator.metricspec.constants.MetricDescriptionConstants.RECONFIGURATION_TIME_METRIC_TUPLE;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.apache.log4j.Logger;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceImpl;
+import org.palladiosimulator.analyzer.workflow.blackboard.PCMResourceSetPartition;
+import org.palladiosimulator.analyzer.workflow.configurations.AbstractPCMWorkflowRunConfiguration;
 import org.palladiosimulator.commons.eclipseutils.ExtensionHelper;
 import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPoint;
 import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
@@ -26,6 +36,7 @@ import org.palladiosimulator.simulizar.runtimestate.IRuntimeStateAccessor;
 import org.palladiosimulator.simulizar.runtimestate.SimulationCancelationDelegate;
 import org.palladiosimulator.simulizar.utils.PCMPartitionManager;
 
+import de.uka.ipd.sdq.simucomframework.SimuComConfig;
 import de.uka.ipd.sdq.simucomframework.model.SimuComModel;
 import de.uka.ipd.sdq.simucomframework.resources.CalculatorHelper;
 import de.uka.ipd.sdq.statistics.StaticBatchAlgorithm;
@@ -35,6 +46,7 @@ import de.uka.ipd.sdq.workflow.jobs.IBlackboardInteractingJob;
 import de.uka.ipd.sdq.workflow.jobs.JobFailedException;
 import de.uka.ipd.sdq.workflow.jobs.UserCanceledException;
 import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
+import de.uka.ipd.sdq.workflow.mdsd.blackboard.ResourceSetPartition;
 
 public class RunElasticityAnalysisJob implements IBlackboardInteractingJob<MDSDBlackboard> {
 	private static final Logger LOGGER = Logger.getLogger(RunElasticityAnalysisJob.class.getName());
@@ -51,6 +63,29 @@ public class RunElasticityAnalysisJob implements IBlackboardInteractingJob<MDSDB
 
 	private static final double ONE_HUNDERT_PERCENT = 100.0;
 
+	/**
+	 * Number of components of the seed of the MRG32k3a random number generator
+	 * used by SimuCom.
+	 */
+	private static final int SEED_LENGTH = 6;
+
+	/**
+	 * Moduli of the two component generators of MRG32k3a.
+	 */
+	private static final long SEED_MODULUS_1 = 4294967087L;
+	private static final long SEED_MODULUS_2 = 4294944443L;
+
+	/**
+	 * Transition matrices of the two component generators of MRG32k3a to the
+	 * next substream, i.e. 2^76 steps ahead (see L'Ecuyer et al., An
+	 * Object-Oriented Random-Number Package with Many Long Streams and
+	 * Substreams, 2002).
+	 */
+	private static final long[][] SUBSTREAM_MATRIX_1 = { { 82758667L, 1871391091L, 4127413238L },
+			{ 3672831523L, 69195019L, 1871391091L }, { 3672091415L, 3528743235L, 69195019L } };
+	private static final long[][] SUBSTREAM_MATRIX_2 = { { 1511326704L, 3759209742L, 1610795712L },
+			{ 4292754251L, 1511326704L, 3889917532L }, { 3859662829L, 4292754251L, 3708466080L } };
+
 	private LoadSimuLizarModelsIntoBlackboardJob loadSimuLizarModelsIntoBlackboardJob;
 
 	/**
@@ -72,38 +107,153 @@ public class RunElasticityAnalysisJob implements IBlackboardInteractingJob<MDSDB
 	 */
 	@Override
 	public void execute(final IProgressMonitor monitor) throws JobFailedException, UserCanceledException {
+		LOGGER.info("Start job: " + this);
+
+		// The models are loaded once, each run simulates a deep copy of them.
+		final RecordingBlackboard modelTemplate = new RecordingBlackboard();
+		this.loadSimuLizarModelsIntoBlackboardJob.setBlackboard(modelTemplate);
+		this.loadSimuLizarModelsIntoBlackboardJob.execute(monitor);
+		for (final String partitionId : modelTemplate.getPartitionIds()) {
+			modelTemplate.getPartition(partitionId).resolveAllProxies();
+		}
+
+		// The runs are executed one after another: a run installs its runtime
+		// state through the runtime state accessors, which keep it in static
+		// fields, and its measurements are fed into the shared aggregator, so
+		// the batches and the number of runs are reproducible.
 		int numberOfRuns = 0;
-		while ((aggregatorWithConfidence == null || !aggregatorWithConfidence.isConfidenceReached()) && numberOfRuns++ < NUMBER_OF_RUNS_LIMIT) {
-			LOGGER.info("Elasticity analysis, run No. " + numberOfRuns);
+		while (!isConfidenceReached() && numberOfRuns++ < NUMBER_OF_RUNS_LIMIT) {
+			this.runSimulation(numberOfRuns, copyBlackboard(modelTemplate, modelTemplate.getPartitionIds()), monitor);
+		}
+		LOGGER.info("finished job: " + this);
+	}
+
+	private void runSimulation(final int runNumber, final MDSDBlackboard runBlackboard,
+			final IProgressMonitor monitor) {
+		LOGGER.info("Elasticity analysis, run No. " + runNumber);
+
+		LOGGER.info("Initialise Simulizar runtime state");
+
+		// every run gets its own simulation configuration, so the runs do not
+		// share their random number generators.
+		final SimuLizarWorkflowConfiguration runConfiguration = this.configuration.getClone();
+		runConfiguration.setSimuComConfiguration(
+				new SimuComConfig(getRunAttributes(runNumber), this.configuration.isDebug()));
+
+		final List<IConfigurator> configurators = ExtensionHelper.getExecutableExtensions(
+				SimulizarConstants.CONFIGURATOR_EXTENSION_POINT_ID,
+				SimulizarConstants.CONFIGURATOR_EXTENSION_POINT_ATTRIBUTE);
+		for (final IConfigurator configurator : configurators) {
+			configurator.configure(runConfiguration, runBlackboard);
+		}
+
+		final AbstractSimuLizarRuntimeState runtimeState = new SimuLizarRuntimeStateElasticity(runConfiguration,
+				runBlackboard, new SimulationCancelationDelegate(monitor::isCanceled));
+		this.initializeRuntimeStateAccessors(runtimeState);
+		runtimeState.runSimulation();
+		runtimeState.cleanUp();
+		LOGGER.info("Elasticity analysis, finished run No. " + runNumber);
+	}
+
+	/**
+	 * Gets the attributes of the simulation configuration of a run. If a fixed
+	 * seed is configured, the run starts at the substream of that seed given
+	 * by its run number, so the runs are reproducible and simulate independent
+	 * sequences of random numbers.
+	 *
+	 * @param runNumber
+	 *            the number of the run, starting at 1.
+	 * @return the attributes.
+	 */
+	private Map<String, Object> getRunAttributes(final int runNumber) {
+		final Map<String, Object> attributes = new HashMap<String, Object>(this.configuration.getAttributes());
+		if (Boolean.TRUE.equals(attributes.get(SimuComConfig.USE_FIXED_SEED))) {
+			final long[] seed = new long[SEED_LENGTH];
+			for (int i = 0; i < SEED_LENGTH; i++) {
+				seed[i] = Long.parseLong(attributes.get(SimuComConfig.FIXED_SEED_PREFIX + i).toString());
+			}
+			for (int substream = 1; substream < runNumber; substream++) {
+				advanceToNextSubstream(seed);
+			}
+			for (int i = 0; i < SEED_LENGTH; i++) {
+				attributes.put(SimuComConfig.FIXED_SEED_PREFIX + i, Long.toString(seed[i]));
+			}
+		}
+		return attributes;
+	}
 
-			LOGGER.info("Start job: " + this);
+	/**
+	 * Advances the given MRG32k3a seed to the start of its next substream.
+	 */
+	private static void advanceToNextSubstream(final long[] seed) {
+		final long[] first = multiply(SUBSTREAM_MATRIX_1, seed[0], seed[1], seed[2], SEED_MODULUS_1);
+		final long[] second = multiply(SUBSTREAM_MATRIX_2, seed[3], seed[4], seed[5], SEED_MODULUS_2);
+		System.arraycopy(first, 0, seed, 0, 3);
+		System.arraycopy(second, 0, seed, 3, 3);
+	}
 
-			LOGGER.info("Initialise Simulizar runtime state");
+	private static long[] multiply(final long[][] matrix, final long x, final long y, final long z,
+			final long modulus) {
+		final long[] result = new long[3];
+		for (int row = 0; row < 3; row++) {
+			// all factors are below 2^32, so each product fits into an
+			// unsigned long and each remainder into a signed one
+			long sum = Long.remainderUnsigned(matrix[row][0] * x, modulus);
+			sum = (sum + Long.remainderUnsigned(matrix[row][1] * y, modulus)) % modulus;
+			result[row] = (sum + Long.remainderUnsigned(matrix[row][2] * z, modulus)) % modulus;
+		}
+		return result;
+	}
 
-			final List<IConfigurator> configurators = ExtensionHelper.getExecutableExtensions(
-					SimulizarConstants.CONFIGURATOR_EXTENSION_POINT_ID,
-					SimulizarConstants.CONFIGURATOR_EXTENSION_POINT_ATTRIBUTE);
-			this.setBlackboard(new MDSDBlackboard());
-			loadSimuLizarModelsIntoBlackboardJob.setBlackboard(this.blackboard);
-			loadSimuLizarModelsIntoBlackboardJob.execute(monitor);
-			for (final IConfigurator configurator : configurators) {
-				configurator.configure(this.configuration, this.blackboard);
+	/**
+	 * Creates a blackboard which contains deep copies of the given partitions.
+	 * References between the partitions are redirected to the copies.
+	 *
+	 * @param template
+	 *            the blackboard to copy.
+	 * @param partitionIds
+	 *            the ids of the partitions to copy.
+	 * @return the copy.
+	 */
+	private static MDSDBlackboard copyBlackboard(final MDSDBlackboard template, final Collection<String> partitionIds) {
+		final MDSDBlackboard copy = new MDSDBlackboard();
+		final EcoreUtil.Copier copier = new EcoreUtil.Copier();
+		for (final String partitionId : partitionIds) {
+			if (!template.hasPartition(partitionId)) {
+				continue;
 			}
+			final ResourceSetPartition partition = template.getPartition(partitionId);
+			final ResourceSetPartition partitionCopy;
+			if (partition instanceof PCMResourceSetPartition) {
+				final PCMResourceSetPartition pcmPartitionCopy = new PCMResourceSetPartition();
+				pcmPartitionCopy.initialiseResourceSetEPackages(AbstractPCMWorkflowRunConfiguration.PCM_EPACKAGES);
+				partitionCopy = pcmPartitionCopy;
+			} else {
+				partitionCopy = new ResourceSetPartition();
+			}
+			for (final Resource resource : partition.getResourceSet().getResources()) {
+				final Resource resourceCopy = new XMIResourceImpl(resource.getURI());
+				resourceCopy.getContents().addAll(copier.copyAll(resource.getContents()));
+				partitionCopy.getResourceSet().getResources().add(resourceCopy);
+			}
+			copy.addPartition(partitionId, partitionCopy);
+		}
+		copier.copyReferences();
+		return copy;
+	}
+
+	private static boolean isConfidenceReached() {
+		return aggregatorWithConfidence != null && aggregatorWithConfidence.isConfidenceReached();
+	}
 
-			this.configuration.setReconfigurationRulesFolder(this.configuration.getReconfigurationRulesFolder());
-
-			// FIXME @Igor: Use ModelAccess instead of
-			// ModelAccessUseOriginalReferences.
-			// After we find a way to copy models so that their links do not
-			// point to intermediary, but
-			// to the models directly.
-			final AbstractSimuLizarRuntimeState runtimeState = new SimuLizarRuntimeStateElasticity(this.configuration, this.blackboard,
-					new SimulationCancelationDelegate(monitor::isCanceled));
-			this.initializeRuntimeStateAccessors(runtimeState);
-			runtimeState.runSimulation();
-			runtimeState.cleanUp();
-			LOGGER.info("finished job: " + this);
+	private static ReconfigurationTimeAggregatorWithConfidence getAggregatorWithConfidence(
+			final SimuComConfig simulationConfiguration) {
+		if (aggregatorWithConfidence == null) {
+			aggregatorWithConfidence = new ReconfigurationTimeAggregatorWithConfidence(new StaticBatchAlgorithm(5, 5),
+					new SampleMeanEstimator(), simulationConfiguration.getConfidenceLevel() / ONE_HUNDERT_PERCENT,
+					simulationConfiguration.getConfidenceHalfWidth() / ONE_HUNDERT_PERCENT);
 		}
+		return aggregatorWithConfidence;
 	}
 
 	private void initializeRuntimeStateAccessors(final AbstractSimuLizarRuntimeState runtimeState) {
@@ -138,6 +288,24 @@ public class RunElasticityAnalysisJob implements IBlackboardInteractingJob<MDSDB
 	public void setBlackboard(final MDSDBlackboard blackboard) {
 		this.blackboard = blackboard;
 	}
+
+	/**
+	 * Blackboard which remembers the ids of the partitions added to it.
+	 */
+	private static final class RecordingBlackboard extends MDSDBlackboard {
+
+		private final Set<String> partitionIds = new LinkedHashSet<String>();
+
+		@Override
+		public void addPartition(final String id, final ResourceSetPartition partition) {
+			super.addPartition(id, partition);
+			this.partitionIds.add(id);
+		}
+
+		private Set<String> getPartitionIds() {
+			return this.partitionIds;
+		}
+	}
 	
 	private class SimuLizarRuntimeStateElasticity extends AbstractSimuLizarRuntimeState {
 		
@@ -173,12 +341,8 @@ public class RunElasticityAnalysisJob implements IBlackboardInteractingJob<MDSDB
 				try {
 					final Calculator calculator = this.getCalculatorFactory()
 							.buildReconfigurationTimeCalculator(measuringPoint, probe);
-					calculator.addObserver(RunElasticityAnalysisJob.aggregatorWithConfidence == null ? RunElasticityAnalysisJob.aggregatorWithConfidence = new ReconfigurationTimeAggregatorWithConfidence(
-																								new StaticBatchAlgorithm(5, 5),
-																								new SampleMeanEstimator(), 
-																								this.getSimuComModel().getConfiguration().getConfidenceLevel() / ONE_HUNDERT_PERCENT,
-																								this.getSimuComModel().getConfiguration().getConfidenceHalfWidth() / ONE_HUNDERT_PERCENT) 
-																			: RunElasticityAnalysisJob.aggregatorWithConfidence);
+					calculator.addObserver(RunElasticityAnalysisJob
+							.getAggregatorWithConfidence(this.getSimuComModel().getConfiguration()));
 				} catch (IllegalArgumentException iae) {
 					LOGGER.info("Tried to add a calculator that already exists");
 				}
@@ -0,0 +1,114 @@
+package org.palladiosimulator.simulizar.reconfiguration.henshin;
+
+import java.util.Collection;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.henshin.interpreter.EGraph;
+
+/**
+ * Keeps an {@link EGraph} in sync with the models it was built from, so the graph can be kept
+ * across reconfiguration checks instead of being rebuilt from the models each time.<br>
+ * Objects added to the observed content tree are added to the graph together with their contents,
+ * objects removed from it are removed from the graph. Objects which are only moved to another
+ * container stay in the graph.
+ */
+final class EGraphSynchronizer extends EContentAdapter {
+
+	private final EGraph graph;
+	private final Notifier observedRoot;
+
+	/**
+	 * @param graph
+	 *            the graph to keep in sync.
+	 * @param observedRoot
+	 *            the root of the content tree whose changes are applied to the graph, i.e., the
+	 *            root of the model the graph was built from.
+	 */
+	EGraphSynchronizer(final EGraph graph, final Notifier observedRoot) {
+		this.graph = graph;
+		this.observedRoot = observedRoot;
+		this.observedRoot.eAdapters().add(this);
+	}
+
+	EGraph getGraph() {
+		return this.graph;
+	}
+
+	Notifier getObservedRoot() {
+		return this.observedRoot;
+	}
+
+	/**
+	 * Stops synchronizing the graph. Afterwards, the graph must no longer be used.
+	 */
+	void dispose() {
+		this.observedRoot.eAdapters().remove(this);
+	}
+
+	@Override
+	public void notifyChanged(final Notification notification) {
+		super.notifyChanged(notification);
+		if (notification.isTouch() || !isContainmentChange(notification)) {
+			return;
+		}
+		switch (notification.getEventType()) {
+		case Notification.SET:
+		case Notification.UNSET:
+			this.remove(notification.getOldValue());
+			this.add(notification.getNewValue());
+			break;
+		case Notification.ADD:
+			this.add(notification.getNewValue());
+			break;
+		case Notification.ADD_MANY:
+			((Collection<?>) notification.getNewValue()).forEach(this::add);
+			break;
+		case Notification.REMOVE:
+			this.remove(notification.getOldValue());
+			break;
+		case Notification.REMOVE_MANY:
+			((Collection<?>) notification.getOldValue()).forEach(this::remove);
+			break;
+		default:
+			break;
+		}
+	}
+
+	private static boolean isContainmentChange(final Notification notification) {
+		final Object feature = notification.getFeature();
+		if (feature instanceof EReference) {
+			return ((EReference) feature).isContainment();
+		}
+		// contents of resources and resources of resource sets
+		return notification.getNotifier() instanceof Resource
+				&& notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS
+				|| notification.getNotifier() instanceof ResourceSet
+						&& notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES;
+	}
+
+	private void add(final Object value) {
+		if (value instanceof EObject) {
+			this.graph.addTree((EObject) value);
+		} else if (value instanceof Resource) {
+			((Resource) value).getContents().forEach(this.graph::addTree);
+		}
+	}
+
+	private void remove(final Object value) {
+		if (value instanceof EObject) {
+			final EObject eObject = (EObject) value;
+			// moved objects are still part of the models
+			if (eObject.eContainer() == null && eObject.eResource() == null) {
+				this.graph.removeTree(eObject);
+			}
+		} else if (value instanceof Resource) {
+			((Resource) value).getContents().forEach(this.graph::removeTree);
+		}
+	}
+}
@@ -1,6 +1,8 @@
 package org.palladiosimulator.simulizar.reconfiguration.henshin;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.log4j.Logger;
@@ -16,10 +18,12 @@ import org.eclipse.emf.henshin.model.Module;
 import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
 import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementPackage;
 import org.palladiosimulator.simulizar.reconfiguration.AbstractReconfigurator;
+import org.palladiosimulator.simulizar.reconfiguration.ISeparableReconfigurationEngine;
 import org.palladiosimulator.simulizar.reconfigurationrule.ModelTransformation;
 import org.palladiosimulator.simulizar.runconfig.SimuLizarWorkflowConfiguration;
+import org.palladiosimulator.simulizar.utils.PCMPartitionManager;
 
-public class HenshinReconfigurator extends AbstractReconfigurator {
+public class HenshinReconfigurator extends AbstractReconfigurator implements ISeparableReconfigurationEngine {
 
 	/**
 	 * Henshin reconfigurator default constructor.
@@ -33,6 +37,31 @@ public class HenshinReconfigurator extends AbstractReconfigurator {
 	 */
 	private static final Logger LOGGER = Logger.getLogger(HenshinReconfigurator.class);
 
+	/**
+	 * The checks of several reconfigurators may run concurrently, and their
+	 * graphs observe the same models. Attaching and detaching the adapters of
+	 * the graphs modifies these models' adapter lists, so it is serialized.
+	 */
+	private static final Object GRAPH_LOCK = new Object();
+
+	/**
+	 * The engine is kept across reconfiguration checks, so that the information
+	 * it caches about the rules is reused. Its options are set only once, as
+	 * changing them clears these caches.
+	 */
+	private Engine engine;
+
+	// graphs over the allocation and the runtime measurement model, kept in
+	// sync with the models and initialized lazily
+	private EGraphSynchronizer allocationGraph;
+	private EGraphSynchronizer measurementGraph;
+
+	@Override
+	public void setPCMPartitionManager(final PCMPartitionManager pcmPartitionManager) {
+		this.disposeGraphs();
+		super.setPCMPartitionManager(pcmPartitionManager);
+	}
+
 	@Override
 	public void setConfiguration(final SimuLizarWorkflowConfiguration configuration) {
 		this.configuration = configuration;
@@ -47,7 +76,7 @@ public class HenshinReconfigurator extends AbstractReconfigurator {
 	private boolean executeReconfiguration(UnitApplication app, Module module) {
 		// Load the measurement model into an EGraph
 		LOGGER.info("Called Henshin reconfiguration engine.");
-		EGraph graph = new EGraphImpl(this.pcmPartitionManager.getGlobalPCMModel().getAllocation());
+		EGraph graph = this.getAllocationGraph();
 
 		app.setEGraph(graph);
 
@@ -73,8 +102,7 @@ public class HenshinReconfigurator extends AbstractReconfigurator {
 	private boolean analyzeReconfiguration(UnitApplication app, Module module) {
 		
 		// Load the example model into an EGraph:
-		RuntimeMeasurementModel rmModel = this.pcmPartitionManager.findModel(RuntimeMeasurementPackage.eINSTANCE.getRuntimeMeasurementModel());
-		EGraph graph = new EGraphImpl(rmModel);
+		EGraph graph = this.getMeasurementGraph();
 		app.setEGraph(graph);
 
 		// Execute analyze step of rule
@@ -91,8 +119,8 @@ public class HenshinReconfigurator extends AbstractReconfigurator {
 
 	@Override
 	public boolean runCheck(EList<? extends ModelTransformation<? extends Object>> checks, EObject monitoredElement) {
-		// TODO Auto-generated method stub
-		return false;
+		final Match match = this.findMatch(checks, monitoredElement);
+		return match != null && this.applyMatch(match, monitoredElement);
 	}
 
 	@Override
@@ -115,8 +143,7 @@ public class HenshinReconfigurator extends AbstractReconfigurator {
 	}
 
 	private boolean executeTransformations(List<HenshinModelTransformation> transformations) {
-		Engine engine = new EngineImpl();
-		UnitApplication app = new UnitApplicationImpl(engine);
+		UnitApplication app = new UnitApplicationImpl(this.getEngine());
 		boolean result = false;
 		for (final HenshinModelTransformation transformation : transformations) {
 			if (analyzeReconfiguration(app, transformation.getModelTransformation())) {
@@ -126,4 +153,116 @@ public class HenshinReconfigurator extends AbstractReconfigurator {
 		return result;
 	}
 
+	/**
+	 * Runs the analyze units of the Henshin transformations, which only read
+	 * the runtime measurement model.
+	 */
+	@Override
+	public Match findMatch(EList<? extends ModelTransformation<? extends Object>> checks, EObject monitoredElement) {
+		UnitApplication app = new UnitApplicationImpl(this.getEngine());
+		List<HenshinModelTransformation> matchedTransformations = new ArrayList<HenshinModelTransformation>();
+		for (ModelTransformation<? extends Object> check : checks) {
+			if (check instanceof HenshinModelTransformation) {
+				HenshinModelTransformation transformation = (HenshinModelTransformation) check;
+				if (analyzeReconfiguration(app, transformation.getModelTransformation())) {
+					matchedTransformations.add(transformation);
+				}
+			}
+		}
+		if (matchedTransformations.isEmpty()) {
+			return null;
+		}
+		return new HenshinMatch(matchedTransformations, this.pcmPartitionManager.getGlobalPCMModel().getAllocation());
+	}
+
+	/**
+	 * Runs the execute units of the matched Henshin transformations on the
+	 * allocation.
+	 */
+	@Override
+	public boolean applyMatch(Match match, EObject monitoredElement) {
+		UnitApplication app = new UnitApplicationImpl(this.getEngine());
+		boolean result = false;
+		for (final HenshinModelTransformation transformation : ((HenshinMatch) match).transformations) {
+			result |= executeReconfiguration(app, transformation.getModelTransformation());
+		}
+		return result;
+	}
+
+	private Engine getEngine() {
+		if (this.engine == null) {
+			this.engine = new EngineImpl();
+		}
+		return this.engine;
+	}
+
+	/**
+	 * Gets the graph over the allocation, which is built once and afterwards
+	 * kept in sync with the allocation.
+	 */
+	private EGraph getAllocationGraph() {
+		EObject allocation = this.pcmPartitionManager.getGlobalPCMModel().getAllocation();
+		synchronized (GRAPH_LOCK) {
+			if (this.allocationGraph == null || this.allocationGraph.getObservedRoot() != allocation) {
+				if (this.allocationGraph != null) {
+					this.allocationGraph.dispose();
+				}
+				this.allocationGraph = new EGraphSynchronizer(new EGraphImpl(allocation), allocation);
+			}
+		}
+		return this.allocationGraph.getGraph();
+	}
+
+	/**
+	 * Gets the graph over the runtime measurement model, which is built once
+	 * and afterwards kept in sync with the model.
+	 */
+	private EGraph getMeasurementGraph() {
+		RuntimeMeasurementModel rmModel = this.pcmPartitionManager
+				.findModel(RuntimeMeasurementPackage.eINSTANCE.getRuntimeMeasurementModel());
+		synchronized (GRAPH_LOCK) {
+			if (this.measurementGraph == null || this.measurementGraph.getObservedRoot() != rmModel) {
+				if (this.measurementGraph != null) {
+					this.measurementGraph.dispose();
+				}
+				this.measurementGraph = new EGraphSynchronizer(new EGraphImpl(rmModel), rmModel);
+			}
+		}
+		return this.measurementGraph.getGraph();
+	}
+
+	private void disposeGraphs() {
+		synchronized (GRAPH_LOCK) {
+			if (this.allocationGraph != null) {
+				this.allocationGraph.dispose();
+				this.allocationGraph = null;
+			}
+			if (this.measurementGraph != null) {
+				this.measurementGraph.dispose();
+				this.measurementGraph = null;
+			}
+		}
+	}
+
+	/**
+	 * The Henshin transformations whose analyze units matched. Their execute
+	 * units reconfigure the allocation, so the match is checked again if the
+	 * allocation was changed before it is applied.
+	 */
+	private static final class HenshinMatch implements Match {
+
+		private final List<HenshinModelTransformation> transformations;
+		private final Collection<EObject> matchedElements;
+
+		private HenshinMatch(List<HenshinModelTransformation> transformations, EObject allocation) {
+			this.transformations = transformations;
+			this.matchedElements = Collections.singletonList(allocation);
+		}
+
+		@Override
+		public Collection<? extends EObject> getMatchedElements() {
+			return this.matchedElements;
+		}
+	}
+
 }
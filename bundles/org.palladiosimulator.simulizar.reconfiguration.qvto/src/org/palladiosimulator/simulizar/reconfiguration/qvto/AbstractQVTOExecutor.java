@@ -1,14 +1,12 @@
 package org.palladiosimulator.simulizar.reconfiguration.qvto;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collector;
 
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
@@ -22,8 +20,6 @@ import org.eclipse.m2m.qvt.oml.ExecutionDiagnostic;
 import org.eclipse.m2m.qvt.oml.ModelExtent;
 import org.eclipse.m2m.qvt.oml.TransformationExecutor;
 import org.eclipse.m2m.qvt.oml.util.Log;
-import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
-import org.palladiosimulator.runtimemeasurement.util.RuntimeMeasurementSwitch;
 import org.palladiosimulator.simulizar.reconfiguration.qvto.util.ModelTransformationCache;
 import org.palladiosimulator.simulizar.reconfiguration.qvto.util.QVToModelCache;
 /**
@@ -44,34 +40,10 @@ public abstract class AbstractQVTOExecutor {
     private final QVToModelCache availableModels;
     private final ModelTransformationCache transformationCache;
 
- // this switch encapsulates the special treatment of the RuntimeMeasurementModel
-    // to incorporate other special cases, use nested switches within the 'defaultCase(EObject)'
-    // method
-    private static final RuntimeMeasurementSwitch<Collection<EObject>> CREATE_NON_EMPTY_MODEL_ELEMENTS_SWITCH = new RuntimeMeasurementSwitch<Collection<EObject>>() {
-
-        // special treatment for RuntimeMeasurementModel: directly pass contained measurements to
-        // model extent
-        @Override
-        public Collection<EObject> caseRuntimeMeasurementModel(RuntimeMeasurementModel runtimeMeasurementModel) {
-            return new ArrayList<EObject>(runtimeMeasurementModel.getMeasurements());
-        }
-
-        // default case to handle all other models
-        // to incorporate other special treatments, call nested switches inside this method
-        @Override
-        public Collection<EObject> defaultCase(EObject model) {
-            return Collections.singletonList(model);
-        }
-    };
-    
-    /**
-     * Accumulates the model elements and finally creates a basic model extent
-     */
-    private static final Collector<EObject, List<EObject>, ModelExtent> BASIC_MODEL_EXTENT_COLLECTOR = 
-            Collector.of(ArrayList<EObject>::new, 
-                         (List<EObject> acc, EObject t) -> acc.add(t), 
-                         (List<EObject> l, List<EObject> r) -> {l.addAll(r); return l;},
-                         BasicModelExtent::new);
+    // store mapping transformation -> model extents of its in/inout params (indexed by param
+    // index), valid as long as the model cache is not modified
+    private final Map<QvtoModelTransformation, ReusableModelExtent[]> inModelExtents = new HashMap<>();
+    private int inModelExtentsModificationCount;
 
     /**
      * Initializes a new instance of the {@link AbstractQVTOExecutor} class with the given
@@ -89,6 +61,7 @@ public abstract class AbstractQVTOExecutor {
     protected AbstractQVTOExecutor(ModelTransformationCache knownTransformations, QVToModelCache knownModels) {
     	this.transformationCache = Objects.requireNonNull(knownTransformations);
         this.availableModels = Objects.requireNonNull(knownModels);
+        this.inModelExtentsModificationCount = this.availableModels.getModificationCount();
     }
     
     /**
@@ -184,7 +157,12 @@ public abstract class AbstractQVTOExecutor {
      */
     protected final ExecutionDiagnostic doExecution(QvtoModelTransformation modelTransformation, ExecutionContext context,
             ModelExtent[] params) {
-        return modelTransformation.getTransformationExecutor().execute(context, params);
+        QVTOTransformationExecutor executor = modelTransformation.getTransformationExecutor();
+        try {
+            return executor.execute(context, params);
+        } finally {
+            modelTransformation.releaseTransformationExecutor(executor);
+        }
     }
     
     /**
@@ -239,7 +217,9 @@ public abstract class AbstractQVTOExecutor {
 
     /**
      * First step of the {@link #executeTransformation(TransformationData)} template method.
-     * Examines the required transformation parameters and creates appropriate model extents.
+     * Examines the required transformation parameters and creates appropriate model extents.<br>
+     * The model extents of 'in' and 'inout' parameters are created once per transformation and
+     * reused by subsequent executions until the models in the {@link QVToModelCache} change.
      * 
      * @param modelTransformation
      *            The {@link TransformationData} that represents the transformation to be executed.
@@ -251,21 +231,16 @@ public abstract class AbstractQVTOExecutor {
      * @see #doExecution(TransformationData, ExecutionContext, ModelExtent[])
      */
     protected ModelExtent[] setupModelExtents(QvtoModelTransformation transformation) {
-        assert transformation != null && transformation.getTransformationExecutor() != null;
+        assert transformation != null;
 
         ModelExtent[] modelExtents = new ModelExtent[transformation.getParameterCount()];
         // prepare the in/inout params first
+        ReusableModelExtent[] reusableExtents = getInModelExtents(transformation);
         for (TransformationParameterInformation inParams : transformation.getInParameters()) {
-            Collection<EObject> sourceModel = this.availableModels.getModelsByType(inParams.getParameterType());
-            if (sourceModel.isEmpty()) {
-                throw new IllegalStateException("No model in QVTo model cache for "
-                        + (inParams.getParameterIndex() + 1) + ". parameter of transformation '"
-                        + transformation.getTransformationName() + "'");
-            }
-            modelExtents[inParams.getParameterIndex()] = sourceModel.stream()
-                    .map(CREATE_NON_EMPTY_MODEL_ELEMENTS_SWITCH::doSwitch)
-                    .flatMap(Collection::stream)
-                    .collect(BASIC_MODEL_EXTENT_COLLECTOR);
+            ReusableModelExtent modelExtent = reusableExtents[inParams.getParameterIndex()];
+            // discard the contents an 'inout' parameter received by the previous execution
+            modelExtent.reset();
+            modelExtents[inParams.getParameterIndex()] = modelExtent;
         }
         // now the pure out params, they need empty model extents
         transformation.getPureOutParameters().stream()
@@ -274,4 +249,28 @@ public abstract class AbstractQVTOExecutor {
 
         return modelExtents;
     }
+
+    private ReusableModelExtent[] getInModelExtents(QvtoModelTransformation transformation) {
+        if (this.inModelExtentsModificationCount != this.availableModels.getModificationCount()) {
+            this.inModelExtents.values().stream().flatMap(Arrays::stream).filter(Objects::nonNull)
+                    .forEach(ReusableModelExtent::dispose);
+            this.inModelExtents.clear();
+            this.inModelExtentsModificationCount = this.availableModels.getModificationCount();
+        }
+        ReusableModelExtent[] result = this.inModelExtents.get(transformation);
+        if (result == null) {
+            result = new ReusableModelExtent[transformation.getParameterCount()];
+            for (TransformationParameterInformation inParams : transformation.getInParameters()) {
+                Collection<EObject> sourceModel = this.availableModels.getModelsByType(inParams.getParameterType());
+                if (sourceModel.isEmpty()) {
+                    throw new IllegalStateException("No model in QVTo model cache for "
+                            + (inParams.getParameterIndex() + 1) + ". parameter of transformation '"
+                            + transformation.getTransformationName() + "'");
+                }
+                result[inParams.getParameterIndex()] = new ReusableModelExtent(sourceModel);
+            }
+            this.inModelExtents.put(transformation, result);
+        }
+        return result;
+    }
 }
@@ -19,4 +19,9 @@ public class QVTOPoolingModelTransformation extends QvtoModelTransformation {
 	public QVTOTransformationExecutor getTransformationExecutor() {
 		return executorPool.getExecutor();
 	}
+
+	@Override
+	public void releaseTransformationExecutor(QVTOTransformationExecutor executor) {
+		executorPool.releaseExecutor(executor);
+	}
 }
@@ -84,5 +84,16 @@ public class QvtoModelTransformation extends ModelTransformationImpl<Operational
     public QVTOTransformationExecutor getTransformationExecutor() {
         return this.transformationExecutor;
     }
+
+    /**
+     * Indicates that an executor obtained by {@link #getTransformationExecutor()} is no longer
+     * used, e.g., so that it can be handed out again.<br>
+     * The default implementation does nothing.
+     * 
+     * @param executor
+     *            The {@link QVTOTransformationExecutor} that has executed the transformation.
+     */
+    public void releaseTransformationExecutor(QVTOTransformationExecutor executor) {
+    }
     
 }
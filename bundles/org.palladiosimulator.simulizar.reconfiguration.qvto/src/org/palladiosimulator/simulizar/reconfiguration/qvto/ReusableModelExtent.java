@@ -0,0 +1,163 @@
+package org.palladiosimulator.simulizar.reconfiguration.qvto;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.m2m.qvt.oml.ModelExtent;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementPackage;
+
+/**
+ * {@link ModelExtent} for an 'in' or 'inout' transformation parameter that is kept across
+ * executions of the same transformation.<br>
+ * The contents are the given models, in order, where a {@link RuntimeMeasurementModel} is expanded
+ * into its measurements. The measurements are kept up to date by listening to changes of the
+ * measurement model, so the contents need not be rebuilt before each execution.<br>
+ * Contents set by a transformation (i.e., the result of an 'inout' parameter) only replace the
+ * contents until the next {@link #reset()}, just like a freshly created extent would not see them.
+ */
+final class ReusableModelExtent implements ModelExtent {
+
+    private final List<EObject> models;
+    private final List<EObject> elements = new ArrayList<>();
+    private final List<EObject> elementsView = Collections.unmodifiableList(this.elements);
+    private final List<MeasurementsListener> listeners = new ArrayList<>();
+
+    private List<EObject> contents = this.elementsView;
+
+    /**
+     * @param models
+     *            the models which make up the contents of the extent.
+     */
+    ReusableModelExtent(final Collection<EObject> models) {
+        this.models = new ArrayList<>(Objects.requireNonNull(models));
+        for (final EObject model : this.models) {
+            if (model instanceof RuntimeMeasurementModel) {
+                final RuntimeMeasurementModel measurementModel = (RuntimeMeasurementModel) model;
+                this.elements.addAll(measurementModel.getMeasurements());
+                final MeasurementsListener listener = new MeasurementsListener(this);
+                measurementModel.eAdapters().add(listener);
+                this.listeners.add(listener);
+            } else {
+                this.elements.add(model);
+            }
+        }
+    }
+
+    @Override
+    public List<EObject> getContents() {
+        return this.contents;
+    }
+
+    @Override
+    public void setContents(final List<? extends EObject> contents) {
+        this.contents = Collections.unmodifiableList(new ArrayList<EObject>(Objects.requireNonNull(contents)));
+    }
+
+    /**
+     * Restores the contents of the extent, i.e., discards the contents set by the last
+     * transformation execution.
+     */
+    void reset() {
+        this.contents = this.elementsView;
+    }
+
+    /**
+     * Stops listening to changes of the underlying measurement models. Afterwards, the extent must
+     * no longer be used.
+     */
+    void dispose() {
+        for (final MeasurementsListener listener : this.listeners) {
+            listener.getTarget().eAdapters().remove(listener);
+        }
+        this.listeners.clear();
+    }
+
+    /**
+     * Gets the index of the first element of the given model's segment in the contents.
+     */
+    private int getSegmentStart(final EObject model) {
+        int start = 0;
+        for (final EObject current : this.models) {
+            if (current == model) {
+                return start;
+            }
+            start += current instanceof RuntimeMeasurementModel
+                    ? ((RuntimeMeasurementModel) current).getMeasurements().size()
+                    : 1;
+        }
+        throw new IllegalStateException("Model is not part of this extent.");
+    }
+
+    private void measurementsChanged(final RuntimeMeasurementModel model, final Notification notification) {
+        // the segments in front of the changed one are in sync, so the start is still valid
+        final int start = getSegmentStart(model);
+        switch (notification.getEventType()) {
+        case Notification.ADD:
+            this.elements.add(start + notification.getPosition(), (EObject) notification.getNewValue());
+            break;
+        case Notification.REMOVE:
+            this.elements.remove(start + notification.getPosition());
+            break;
+        default:
+            // bulk changes and moves: re-synchronize the segment of this model
+            final List<EObject> measurements = new ArrayList<>(model.getMeasurements());
+            final int oldSize = this.elements.size() - sizeOfOtherSegments(model);
+            this.elements.subList(start, start + oldSize).clear();
+            this.elements.addAll(start, measurements);
+            break;
+        }
+    }
+
+    private int sizeOfOtherSegments(final EObject model) {
+        int size = 0;
+        for (final EObject current : this.models) {
+            if (current != model) {
+                size += current instanceof RuntimeMeasurementModel
+                        ? ((RuntimeMeasurementModel) current).getMeasurements().size()
+                        : 1;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Listens to changes of the measurements of a {@link RuntimeMeasurementModel}. The extent is
+     * only weakly referenced, so an abandoned extent does not stay attached to the model; the
+     * listener detaches itself once the extent has been collected.
+     */
+    private static final class MeasurementsListener extends AdapterImpl {
+
+        private final WeakReference<ReusableModelExtent> extent;
+
+        private MeasurementsListener(final ReusableModelExtent extent) {
+            this.extent = new WeakReference<>(extent);
+        }
+
+        @Override
+        public void notifyChanged(final Notification notification) {
+            if (notification.isTouch() || notification.getFeature() != RuntimeMeasurementPackage.eINSTANCE
+                    .getRuntimeMeasurementModel_Measurements()) {
+                return;
+            }
+            final ReusableModelExtent modelExtent = this.extent.get();
+            if (modelExtent == null) {
+                ((RuntimeMeasurementModel) notification.getNotifier()).eAdapters().remove(this);
+            } else {
+                modelExtent.measurementsChanged((RuntimeMeasurementModel) notification.getNotifier(), notification);
+            }
+        }
+
+        @Override
+        public RuntimeMeasurementModel getTarget() {
+            return (RuntimeMeasurementModel) super.getTarget();
+        }
+    }
+}
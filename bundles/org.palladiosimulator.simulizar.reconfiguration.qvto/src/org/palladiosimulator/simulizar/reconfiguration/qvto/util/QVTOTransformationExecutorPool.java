@@ -3,34 +3,72 @@ package org.palladiosimulator.simulizar.reconfiguration.qvto.util;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
-import java.util.Collection;
-import java.util.LinkedList;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.function.Supplier;
 
 import org.palladiosimulator.simulizar.reconfiguration.qvto.QVTOTransformationExecutor;
 
+/**
+ * Pool of the executors of a single QVTo transformation, i.e., of a single transformation URI.<br>
+ * Executors are handed out exclusively by {@link #getExecutor()} and become available again once
+ * they are passed to {@link #releaseExecutor(QVTOTransformationExecutor)}. Idle executors are kept
+ * in a lock-free stack, so the most recently used executor is reused first. They are only softly
+ * referenced, and references to executors which have been collected are removed via a
+ * {@link ReferenceQueue}.
+ */
 public class QVTOTransformationExecutorPool {
-	private final Collection<SoftReference<QVTOTransformationExecutor>> availableExecutors;
+	private final Deque<SoftReference<QVTOTransformationExecutor>> idleExecutors;
 	private final ReferenceQueue<QVTOTransformationExecutor> collectedExecutors;
-	
+
 	protected final Supplier<QVTOTransformationExecutor> executorSupplier;
-	
+
 	public QVTOTransformationExecutorPool(Supplier<QVTOTransformationExecutor> executorSupplier) {
-		availableExecutors = new LinkedList<SoftReference<QVTOTransformationExecutor>>();
+		idleExecutors = new ConcurrentLinkedDeque<SoftReference<QVTOTransformationExecutor>>();
 		collectedExecutors = new ReferenceQueue<QVTOTransformationExecutor>();
 		this.executorSupplier = executorSupplier;
 	}
-	
+
+	/**
+	 * Acquires an idle executor, or creates a new one if there is none. The executor is not handed
+	 * out again until it is released.
+	 *
+	 * @return A {@link QVTOTransformationExecutor} which is exclusively used by the caller.
+	 * @see #releaseExecutor(QVTOTransformationExecutor)
+	 */
 	public QVTOTransformationExecutor getExecutor() {
+		removeCollectedExecutors();
+		for (SoftReference<QVTOTransformationExecutor> ref = idleExecutors.pollFirst(); ref != null; ref = idleExecutors.pollFirst()) {
+			QVTOTransformationExecutor exec = ref.get();
+			if (exec != null) {
+				// the reference is no longer needed, the executor is strongly referenced by the caller
+				ref.clear();
+				return exec;
+			}
+		}
+		return executorSupplier.get();
+	}
+
+	/**
+	 * Makes an executor which was acquired from this pool available again.
+	 *
+	 * @param executor
+	 *            The {@link QVTOTransformationExecutor} which is no longer used by the caller.
+	 * @throws IllegalStateException
+	 *             In case the executor is still executing a transformation.
+	 */
+	public void releaseExecutor(QVTOTransformationExecutor executor) {
+		if (executor.isInUse()) {
+			throw new IllegalStateException("A QVTOTransformationExecutor instance must not be released while in use");
+		}
+		idleExecutors.offerFirst(new SoftReference<QVTOTransformationExecutor>(executor, collectedExecutors));
+	}
+
+	private void removeCollectedExecutors() {
 		for (Reference<? extends QVTOTransformationExecutor> ref = collectedExecutors.poll(); ref != null; ref = collectedExecutors.poll()) {
-			availableExecutors.remove(ref);
+			// references which have been polled or cleared above are no longer contained
+			idleExecutors.removeFirstOccurrence(ref);
 		}
-		return availableExecutors.stream().map(ref -> ref.get()).filter(ref -> ref != null).filter(exec -> !exec.isInUse()).findFirst()
-			.orElseGet(() -> {
-				QVTOTransformationExecutor exec = executorSupplier.get();
-				availableExecutors.add(new SoftReference<QVTOTransformationExecutor>(exec, collectedExecutors));
-				return exec;
-			});
 	}
 
 }
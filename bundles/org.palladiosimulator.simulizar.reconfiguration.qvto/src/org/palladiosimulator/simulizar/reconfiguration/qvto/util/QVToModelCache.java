@@ -37,6 +37,9 @@ public class QVToModelCache {
 
     // use a map: EPackage, i.e, meta-model serves as key/tag
     private final Map<EPackage, Set<EObject>> cache;
+
+    // incremented whenever the set of stored models changes
+    private int modificationCount = 0;
     
     private final PCMPartitionManager pcmPartitionManager;
 
@@ -119,12 +122,15 @@ public class QVToModelCache {
                 return;
             
             //Optional.ofNullable(this.namespaceIndex.get(metaModel.getNsURI())
-            Optional.ofNullable(this.cache.get(metaModel))
+            boolean added = Optional.ofNullable(this.cache.get(metaModel))
                 .orElseGet(() -> 
                 {
                     this.cache.put(metaModel, new HashSet<>());
                     return this.cache.get(metaModel);
                 }).add(modelInstance);
+            if (added) {
+                this.modificationCount++;
+            }
         }
     }
 
@@ -166,8 +172,8 @@ public class QVToModelCache {
      *            An {@link EPackage} that describes a meta-model.
      */
     public void removeModelOfType(EPackage metaModel) {
-        if (metaModel != null) {
-            this.cache.remove(metaModel);
+        if (metaModel != null && this.cache.remove(metaModel) != null) {
+            this.modificationCount++;
         }
     }
 
@@ -179,8 +185,8 @@ public class QVToModelCache {
      *            The {@link EObject} to remove from the cache.
      */
     public void removeModel(EObject model) {
-        if (model != null) {
-            this.cache.get(MODELTYPE_RETRIEVER.doSwitch(model)).remove(model);
+        if (model != null && this.cache.get(MODELTYPE_RETRIEVER.doSwitch(model)).remove(model)) {
+            this.modificationCount++;
         }
     }
 
@@ -189,6 +195,17 @@ public class QVToModelCache {
      */
     public void clear() {
         this.cache.clear();
+        this.modificationCount++;
+    }
+
+    /**
+     * Gets the number of changes of the set of stored models so far. Clients which derive data
+     * from the stored models can compare it to detect that their data is outdated.
+     * 
+     * @return The modification count of this instance.
+     */
+    public int getModificationCount() {
+        return this.modificationCount;
     }
 
     /**
@@ -1,8 +1,8 @@
 package org.palladiosimulator.simulizar.reconfiguration.storydiagrams.exploration.jobs;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -10,7 +10,6 @@ import java.util.TreeMap;
 import org.apache.log4j.Logger;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IWorkspaceRoot;
-import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -19,16 +18,12 @@ import org.eclipse.emf.common.util.Diagnostic;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.util.Diagnostician;
 import org.eclipse.emf.ecore.util.EcoreUtil;
-import org.eclipse.emf.ecore.xmi.XMLResource;
 import org.palladiosimulator.analyzer.workflow.blackboard.PCMResourceSetPartition;
 import org.palladiosimulator.analyzer.workflow.configurations.AbstractPCMWorkflowRunConfiguration;
 import org.palladiosimulator.analyzer.workflow.jobs.LoadPCMModelsIntoBlackboardJob;
 import org.palladiosimulator.analyzer.workflow.jobs.PreparePCMBlackboardPartitionJob;
-import org.palladiosimulator.pcm.repository.Repository;
 import org.palladiosimulator.simulizar.launcher.jobs.LoadMonitorRepositoryModelIntoBlackboardJob;
 import org.palladiosimulator.simulizar.launcher.jobs.LoadServiceLevelObjectiveRepositoryIntoBlackboardJob;
 import org.palladiosimulator.simulizar.launcher.jobs.LoadSimuLizarModelsIntoBlackboardJob;
@@ -52,6 +47,14 @@ public class RunSimuLizarScalabilityAnalysisJob extends SequentialJob
 
 	// private final SDMReconfigurationSpaceExplorer explorer;
 
+	/**
+	 * The partitions which are shared by the simulations of all states.
+	 */
+	private static final String[] SHARED_PARTITION_IDS = {
+			LoadSimuLizarModelsIntoBlackboardJob.PCM_MODELS_ANALYZED_PARTITION_ID,
+			LoadSDMModelsIntoBlackboardJob.SDM_MODEL_PARTITION_ID,
+			SDMReconfigurationSpaceExplorer.SDM_RECONFIGURATION_STATE_SPACE };
+
 	private final SimuLizarWorkflowConfiguration configuration;
 
 	private MDSDBlackboard blackboard;
@@ -89,148 +92,104 @@ public class RunSimuLizarScalabilityAnalysisJob extends SequentialJob
 		Map<String, Object> attributes = new TreeMap<String, Object>(configuration.getAttributes());
 		attributes.put("variationId", Calendar.getInstance().getTime().toString());
 
-		// List<PCMStartInterpretationJob> simuLizarJobs;
+		/*
+		 * The states are simulated one after another: a simulation installs
+		 * its runtime state through the runtime state accessors, which keep it
+		 * in static fields, and the evaluation of a state reads the last
+		 * ExperimentRun of the shared ExperimentSetting. Each simulation gets
+		 * its own blackboard with an in-memory copy of the state's models.
+		 */
 		int j = 0;
 		for (final EObject stepGraph : reachabilityGraph) {
-			final StepGraph models = ((StepGraph) stepGraph);
-			final PCMResourceSetPartition pcmPartition = new PCMResourceSetPartition();
-			pcmPartition.initialiseResourceSetEPackages(AbstractPCMWorkflowRunConfiguration.PCM_EPACKAGES);
-			pcmPartition.loadModel(PreparePCMBlackboardPartitionJob.PCM_PALLADIO_PRIMITIVE_TYPE_REPOSITORY_URI);
-			pcmPartition.loadModel(PreparePCMBlackboardPartitionJob.PCM_PALLADIO_RESOURCE_TYPE_URI);
-			String modelsDirectory = temporaryDataLocation + "/model/PCM_partition_state_" + j++;
-			URI modelURI = URI.createFileURI(modelsDirectory);
-
-			for (int i = 0; i < models.getContainedNodes().size(); i++) {
-				final EObject model = EcoreUtil.copy(models.getContainedNodes().get(i));
-				final Resource resource = pcmPartition.getResourceSet()
-						.createResource(URI.createFileURI(modelsDirectory + model.hashCode()));
-				Diagnostic diagnostic = Diagnostician.INSTANCE.validate(model);
-				if (!(diagnostic.getSeverity() == Diagnostic.OK)) {
-					StringBuilder sb = new StringBuilder();
-					sb.append("The validation failed at: ").append(model.toString()).append("\n");
-					sb.append(diagnostic).append("\n");
-					throw new RuntimeException(sb.toString());
-				}
-				LOGGER.info("Adding model " + model.toString());
-
-				resource.getContents().add(model);
-				exportPcmModel(model, modelURI, monitor);
-			}
-
-			final MDSDBlackboard jobBlackboard = new MDSDBlackboard();
-			jobBlackboard.addPartition(LoadPCMModelsIntoBlackboardJob.PCM_MODELS_PARTITION_ID, pcmPartition);
-			jobBlackboard.addPartition(LoadSimuLizarModelsIntoBlackboardJob.PCM_MODELS_ANALYZED_PARTITION_ID,
-					this.blackboard
-							.getPartition(LoadSimuLizarModelsIntoBlackboardJob.PCM_MODELS_ANALYZED_PARTITION_ID));
-			jobBlackboard.addPartition(LoadSDMModelsIntoBlackboardJob.SDM_MODEL_PARTITION_ID,
-					this.blackboard.getPartition(LoadSDMModelsIntoBlackboardJob.SDM_MODEL_PARTITION_ID));
-			jobBlackboard.addPartition(SDMReconfigurationSpaceExplorer.SDM_RECONFIGURATION_STATE_SPACE,
-					this.blackboard.getPartition(SDMReconfigurationSpaceExplorer.SDM_RECONFIGURATION_STATE_SPACE));
-
-			/*
-			 * Creating a new configuration for a job with a new SimuComConfig
-			 * in order to have a new ExperimentRun in the EDP2 repository per
-			 * job. New ExperimentRun is created every time new SimuComConfig is
-			 * created.
-			 */
-			SimuLizarWorkflowConfiguration conf = new SimuLizarWorkflowConfiguration(attributes);
-
-			conf.setMonitorRepositoryFile(this.configuration.getMonitorRepositoryFile());
-			conf.setReconfigurationRulesFolder(this.configuration.getReconfigurationRulesFolder());
-			conf.setUsageEvolutionFile(this.configuration.getUsageEvolutionFile());
-			conf.setServiceLevelObjectivesFile(this.configuration.getServiceLevelObjectivesFile());
-
-			SimuComConfig simulationConfiguration = new SimuComConfig(attributes, false);
-			conf.setSimuComConfiguration(simulationConfiguration);
-			LoadMonitorRepositoryModelIntoBlackboardJob mrJob = new LoadMonitorRepositoryModelIntoBlackboardJob(conf);
-			mrJob.setBlackboard(jobBlackboard);
-			mrJob.execute(monitor);
-			LoadServiceLevelObjectiveRepositoryIntoBlackboardJob slJob = new LoadServiceLevelObjectiveRepositoryIntoBlackboardJob(
-					conf);
-			slJob.setBlackboard(jobBlackboard);
-			slJob.execute(monitor);
-
-			final PCMInterpretationAndEvaluationJob simulizarJob = new PCMInterpretationAndEvaluationJob(conf);
-			simulizarJob.setBlackboard(jobBlackboard);
-			this.add(simulizarJob);
-			// A separate NullProgressMonitor is used per simulation, so that
-			// the cancellation
-			// does not propagate to the main ProgressMonitor. If
-			// simulizarJobMonitor is cancelled
-			// it is an indicator that no other
-			// PCMInterpretationAndEvaluationJobs should be
-			// executed. The state has reached, where no SLOs are violated.
-			NullProgressMonitor simulizarJobMonitor = new NullProgressMonitor();
-			super.execute(simulizarJobMonitor);
-			if (simulizarJobMonitor.isCanceled()) {
+			if (simulateState((StepGraph) stepGraph, j++, attributes)) {
+				// The state has been reached, where no SLOs are violated.
 				break;
 			}
 		}
 	}
 
 	/**
-	 * Exports the PCM {@code model} to the file whose path is
-	 * {@code folderPath}.
+	 * Simulates a reachable state. The models of the state are copied into a
+	 * new PCM partition of a new blackboard, so the simulation does not modify
+	 * the state space.
 	 * 
-	 * @param model
-	 *            model to be exported
-	 * @param folderPath
-	 *            the path to which the {@code model} will be exported.
-	 * @param monitor
-	 *            ProgressMonitor.
+	 * @param models
+	 *            the reachable state.
+	 * @param stateIndex
+	 *            the index of the state in the reachability graph.
+	 * @param attributes
+	 *            the attributes of the configuration of the simulation.
+	 * @return whether the evaluation of the state cancelled the analysis of
+	 *         further states.
 	 */
-	private void exportPcmModel(final EObject model, final URI folderPath, IProgressMonitor monitor) {
-		IWorkspaceRunnable exportPcmModelRunnable = new IWorkspaceRunnable() {
-
-			@Override
-			public void run(IProgressMonitor monitor) throws CoreException {
-				try {
-					final ResourceSet resourceSet = new ResourceSetImpl();
-					String modelURI = folderPath.toString() + "/" + model.toString();
-					if (model.toString().contains("Repository")) {
-						Repository r = (Repository) model;
-						// We do not want to export PrimitiveDataTypes
-						// definition, but the defaultRepository.
-						// We are interested in components definitions rather
-						// than in PrimitiveDataTypes definitions.
-						if (r.getEntityName().equals("PrimitiveDataTypes")) {
-							return;
-						}
-						modelURI += ".repository";
-					}
-					if (model.toString().contains("System")) {
-						modelURI += ".system";
-					}
-					if (model.toString().contains("ResourceEnvironment")) {
-						modelURI += ".resourceenvironment";
-					}
-					if (model.toString().contains("Allocation")) {
-						modelURI += ".allocation";
-					}
-					if (model.toString().contains("UsageModel")) {
-						modelURI += ".usagemodel";
-					}
-					final URI fileURI = URI.createPlatformResourceURI(modelURI, true);
-					final Resource resource = resourceSet.createResource(fileURI);
-					resource.getContents().add(EcoreUtil.copy(model));
-
-					// Save the contents of the resource to the file system.
-					final Map<Object, Object> options = new HashMap<Object, Object>();
-					options.put(XMLResource.OPTION_ENCODING, "utf-8");
-					resource.save(options);
-				} catch (IOException e) {
-					LOGGER.error("PCM model \"" + model.toString() + "\" could not be exported!");
-					e.printStackTrace();
-				}
+	private boolean simulateState(final StepGraph models, final int stateIndex, final Map<String, Object> attributes)
+			throws JobFailedException, UserCanceledException {
+		final PCMResourceSetPartition pcmPartition = new PCMResourceSetPartition();
+		pcmPartition.initialiseResourceSetEPackages(AbstractPCMWorkflowRunConfiguration.PCM_EPACKAGES);
+		pcmPartition.loadModel(PreparePCMBlackboardPartitionJob.PCM_PALLADIO_PRIMITIVE_TYPE_REPOSITORY_URI);
+		pcmPartition.loadModel(PreparePCMBlackboardPartitionJob.PCM_PALLADIO_RESOURCE_TYPE_URI);
+		final String modelsDirectory = this.configuration.getTemporaryDataLocation() + "/model/PCM_partition_state_"
+				+ stateIndex;
+
+		// the models are copied at once, so references between them are
+		// redirected to the copies instead of the shared state space
+		final EcoreUtil.Copier copier = new EcoreUtil.Copier();
+		final List<EObject> stateModels = new ArrayList<EObject>(copier.copyAll(models.getContainedNodes()));
+		copier.copyReferences();
+		for (final EObject model : stateModels) {
+			final Resource resource = pcmPartition.getResourceSet()
+					.createResource(URI.createFileURI(modelsDirectory + model.hashCode()));
+			final Diagnostic diagnostic = Diagnostician.INSTANCE.validate(model);
+			if (!(diagnostic.getSeverity() == Diagnostic.OK)) {
+				StringBuilder sb = new StringBuilder();
+				sb.append("The validation failed at: ").append(model.toString()).append("\n");
+				sb.append(diagnostic).append("\n");
+				throw new RuntimeException(sb.toString());
 			}
-		};
-		try {
-			ResourcesPlugin.getWorkspace().run(exportPcmModelRunnable, monitor);
-		} catch (CoreException e) {
-			LOGGER.error("IWorkspaceRunnable could not be executed ");
-			e.printStackTrace();
+			LOGGER.info("Adding model " + model.toString());
+
+			resource.getContents().add(model);
 		}
 
+		final MDSDBlackboard jobBlackboard = new MDSDBlackboard();
+		jobBlackboard.addPartition(LoadPCMModelsIntoBlackboardJob.PCM_MODELS_PARTITION_ID, pcmPartition);
+		for (final String partitionId : SHARED_PARTITION_IDS) {
+			jobBlackboard.addPartition(partitionId, this.blackboard.getPartition(partitionId));
+		}
+
+		/*
+		 * Creating a new configuration for a job with a new SimuComConfig in
+		 * order to have a new ExperimentRun in the EDP2 repository per job. New
+		 * ExperimentRun is created every time new SimuComConfig is created.
+		 */
+		final SimuLizarWorkflowConfiguration conf = new SimuLizarWorkflowConfiguration(attributes);
+
+		conf.setMonitorRepositoryFile(this.configuration.getMonitorRepositoryFile());
+		conf.setReconfigurationRulesFolder(this.configuration.getReconfigurationRulesFolder());
+		conf.setUsageEvolutionFile(this.configuration.getUsageEvolutionFile());
+		conf.setServiceLevelObjectivesFile(this.configuration.getServiceLevelObjectivesFile());
+
+		final SimuComConfig simulationConfiguration = new SimuComConfig(attributes, false);
+		conf.setSimuComConfiguration(simulationConfiguration);
+
+		// A separate NullProgressMonitor is used per simulation, so that the
+		// cancellation does not propagate to the main ProgressMonitor. If
+		// simulizarJobMonitor is cancelled it is an indicator that no other
+		// PCMInterpretationAndEvaluationJobs should be executed. The state has
+		// reached, where no SLOs are violated.
+		final NullProgressMonitor simulizarJobMonitor = new NullProgressMonitor();
+		final LoadMonitorRepositoryModelIntoBlackboardJob mrJob = new LoadMonitorRepositoryModelIntoBlackboardJob(conf);
+		mrJob.setBlackboard(jobBlackboard);
+		mrJob.execute(simulizarJobMonitor);
+		final LoadServiceLevelObjectiveRepositoryIntoBlackboardJob slJob = new LoadServiceLevelObjectiveRepositoryIntoBlackboardJob(
+				conf);
+		slJob.setBlackboard(jobBlackboard);
+		slJob.execute(simulizarJobMonitor);
+
+		final PCMInterpretationAndEvaluationJob simulizarJob = new PCMInterpretationAndEvaluationJob(conf);
+		simulizarJob.setBlackboard(jobBlackboard);
+		simulizarJob.execute(simulizarJobMonitor);
+		return simulizarJobMonitor.isCanceled();
 	}
 
 	@Override
@@ -0,0 +1,252 @@
+package org.palladiosimulator.simulizar.slidingwindow.aggregators;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.palladiosimulator.monitorrepository.statisticalcharacterization.ArithmeticMeanAggregator;
+import org.palladiosimulator.monitorrepository.statisticalcharacterization.GeometricMeanAggregator;
+import org.palladiosimulator.monitorrepository.statisticalcharacterization.HarmonicMeanAggregator;
+import org.palladiosimulator.monitorrepository.statisticalcharacterization.MedianAggregator;
+import org.palladiosimulator.monitorrepository.statisticalcharacterization.StatisticalCharacterizationAggregator;
+
+/**
+ * Statistical characterization of discrete values which is updated whenever a value is added to or
+ * removed from the characterized data, so its cost depends on the number of changed values rather
+ * than on the number of values.
+ */
+abstract class IncrementalStatistic {
+
+    /**
+     * Creates the incremental counterpart of the given aggregator.
+     *
+     * @param aggregator
+     *            A {@link StatisticalCharacterizationAggregator}.
+     * @return The incremental statistic, or {@code null} if there is none for the given aggregator.
+     */
+    static IncrementalStatistic forAggregator(final StatisticalCharacterizationAggregator aggregator) {
+        if (aggregator instanceof ArithmeticMeanAggregator) {
+            return new ArithmeticMean();
+        } else if (aggregator instanceof GeometricMeanAggregator) {
+            return new GeometricMean();
+        } else if (aggregator instanceof HarmonicMeanAggregator) {
+            return new HarmonicMean();
+        } else if (aggregator instanceof MedianAggregator) {
+            return new Median();
+        }
+        return null;
+    }
+
+    abstract void add(double value);
+
+    abstract void remove(double value);
+
+    abstract void clear();
+
+    /**
+     * @return The statistic of the current values, which must not be empty.
+     */
+    abstract double getValue();
+
+    /**
+     * @return {@code false} if the current values cannot be characterized by this statistic, e.g.,
+     *         non-positive values for the geometric mean.
+     */
+    boolean isApplicable() {
+        return true;
+    }
+
+    /**
+     * @return {@code true} if the statistic accumulates rounding errors on updates, i.e., it should
+     *         be recomputed from scratch now and then.
+     */
+    boolean isSubjectToRoundingErrors() {
+        return true;
+    }
+
+    /**
+     * Base class of the means which are derived from a running sum of (transformed) values.
+     */
+    private abstract static class RunningSum extends IncrementalStatistic {
+
+        private double sum = 0d;
+        private int count = 0;
+        private int inapplicableValues = 0;
+
+        @Override
+        final void add(final double value) {
+            if (isApplicable(value)) {
+                this.sum += transform(value);
+            } else {
+                this.inapplicableValues++;
+            }
+            this.count++;
+        }
+
+        @Override
+        final void remove(final double value) {
+            if (isApplicable(value)) {
+                this.sum -= transform(value);
+            } else {
+                this.inapplicableValues--;
+            }
+            this.count--;
+        }
+
+        @Override
+        final void clear() {
+            this.sum = 0d;
+            this.count = 0;
+            this.inapplicableValues = 0;
+        }
+
+        @Override
+        final boolean isApplicable() {
+            return this.inapplicableValues == 0;
+        }
+
+        @Override
+        final double getValue() {
+            assert this.count > 0;
+            return getValue(this.sum, this.count);
+        }
+
+        boolean isApplicable(final double value) {
+            return true;
+        }
+
+        abstract double transform(double value);
+
+        abstract double getValue(double sumOfTransformedValues, int count);
+    }
+
+    private static final class ArithmeticMean extends RunningSum {
+
+        @Override
+        double transform(final double value) {
+            return value;
+        }
+
+        @Override
+        double getValue(final double sumOfValues, final int count) {
+            return sumOfValues / count;
+        }
+    }
+
+    private static final class GeometricMean extends RunningSum {
+
+        @Override
+        boolean isApplicable(final double value) {
+            return value > 0d;
+        }
+
+        @Override
+        double transform(final double value) {
+            return Math.log(value);
+        }
+
+        @Override
+        double getValue(final double sumOfLogarithms, final int count) {
+            return Math.exp(sumOfLogarithms / count);
+        }
+    }
+
+    private static final class HarmonicMean extends RunningSum {
+
+        @Override
+        boolean isApplicable(final double value) {
+            return value > 0d;
+        }
+
+        @Override
+        double transform(final double value) {
+            return 1d / value;
+        }
+
+        @Override
+        double getValue(final double sumOfReciprocals, final int count) {
+            return count / sumOfReciprocals;
+        }
+    }
+
+    /**
+     * Median of the values, which are kept in two sorted multisets: the lower half (which holds
+     * one more value if the number of values is odd) and the upper half. Updates take logarithmic
+     * time.
+     */
+    private static final class Median extends IncrementalStatistic {
+
+        private final TreeMap<Double, Integer> lowerHalf = new TreeMap<>();
+        private final TreeMap<Double, Integer> upperHalf = new TreeMap<>();
+        private int lowerSize = 0;
+        private int upperSize = 0;
+
+        @Override
+        void add(final double value) {
+            if (this.lowerSize == 0 || value <= this.lowerHalf.lastKey()) {
+                increment(this.lowerHalf, value);
+                this.lowerSize++;
+            } else {
+                increment(this.upperHalf, value);
+                this.upperSize++;
+            }
+            rebalance();
+        }
+
+        @Override
+        void remove(final double value) {
+            if (this.lowerSize > 0 && value <= this.lowerHalf.lastKey()) {
+                decrement(this.lowerHalf, value);
+                this.lowerSize--;
+            } else {
+                decrement(this.upperHalf, value);
+                this.upperSize--;
+            }
+            rebalance();
+        }
+
+        @Override
+        void clear() {
+            this.lowerHalf.clear();
+            this.upperHalf.clear();
+            this.lowerSize = this.upperSize = 0;
+        }
+
+        @Override
+        double getValue() {
+            assert this.lowerSize > 0;
+            if (this.lowerSize > this.upperSize) {
+                return this.lowerHalf.lastKey();
+            }
+            return (this.lowerHalf.lastKey() + this.upperHalf.firstKey()) / 2d;
+        }
+
+        @Override
+        boolean isSubjectToRoundingErrors() {
+            return false;
+        }
+
+        private void rebalance() {
+            if (this.lowerSize > this.upperSize + 1) {
+                final double value = this.lowerHalf.lastKey();
+                decrement(this.lowerHalf, value);
+                increment(this.upperHalf, value);
+                this.lowerSize--;
+                this.upperSize++;
+            } else if (this.upperSize > this.lowerSize) {
+                final double value = this.upperHalf.firstKey();
+                decrement(this.upperHalf, value);
+                increment(this.lowerHalf, value);
+                this.upperSize--;
+                this.lowerSize++;
+            }
+        }
+
+        private static void increment(final Map<Double, Integer> multiset, final double value) {
+            multiset.merge(value, 1, Integer::sum);
+        }
+
+        private static void decrement(final Map<Double, Integer> multiset, final double value) {
+            multiset.computeIfPresent(value, (key, count) -> count == 1 ? null : count - 1);
+        }
+    }
+}
@@ -1,8 +1,15 @@
 package org.palladiosimulator.simulizar.slidingwindow.aggregators;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 
 import javax.measure.Measure;
 import javax.measure.quantity.Duration;
@@ -10,7 +17,11 @@ import javax.measure.quantity.Duration;
 import org.jscience.physics.amount.Amount;
 import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowAggregator;
 import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.MetricSetDescription;
 import org.palladiosimulator.metricspec.NumericalBaseMetricDescription;
+import org.palladiosimulator.metricspec.ScopeOfValidity;
 import org.palladiosimulator.monitorrepository.StatisticalCharacterization;
 import org.palladiosimulator.monitorrepository.statisticalcharacterization.StatisticalCharacterizationAggregator;
 import org.palladiosimulator.recorderframework.IRecorder;
@@ -18,6 +29,11 @@ import org.palladiosimulator.recorderframework.IRecorder;
 /**
  * Specialization of the {@link SlidingWindowAggregator} which is devoted to aggregate the
  * measurements collected by a sliding window (usually at simulation-time) in a statistical manner.
+ * <br>
+ * The arithmetic, geometric and harmonic mean as well as the median of discrete metrics are
+ * computed incrementally: Only the measurements which were evicted from or added to the window
+ * since the last aggregation are taken into account, so the cost of an aggregation does not depend
+ * on the size of the window.
  * 
  * @see StatisticalCharacterization
  * 
@@ -27,6 +43,10 @@ import org.palladiosimulator.recorderframework.IRecorder;
 public class SlidingWindowStatisticalCharacterizationAggregator extends SlidingWindowAggregator {
 
     private final StatisticalCharacterizationAggregator aggregator;
+    // null if the window data is not aggregated incrementally
+    private final IncrementalStatistic statistic;
+    private final Deque<WindowEntry> windowEntries = new ArrayDeque<>();
+    private int updatesSinceRecomputation = 0;
 
     /**
      * Initializes a new instance of the {@link SlidingWindowStatisticalCharacterizationAggregator}
@@ -40,6 +60,7 @@ public class SlidingWindowStatisticalCharacterizationAggregator extends SlidingW
      */
     public SlidingWindowStatisticalCharacterizationAggregator(final StatisticalCharacterizationAggregator aggregator) {
         this.aggregator = Objects.requireNonNull(aggregator);
+        this.statistic = createIncrementalStatistic(aggregator);
     }
 
     /**
@@ -59,6 +80,7 @@ public class SlidingWindowStatisticalCharacterizationAggregator extends SlidingW
         super(recorderToWriteInto);
 
         this.aggregator = Objects.requireNonNull(aggregator);
+        this.statistic = createIncrementalStatistic(aggregator);
     }
 
     /**
@@ -80,6 +102,16 @@ public class SlidingWindowStatisticalCharacterizationAggregator extends SlidingW
             final StatisticalCharacterizationAggregator aggregator) {
         super(recordersToWriteInto);
         this.aggregator = Objects.requireNonNull(aggregator);
+        this.statistic = createIncrementalStatistic(aggregator);
+    }
+
+    private static IncrementalStatistic createIncrementalStatistic(
+            final StatisticalCharacterizationAggregator aggregator) {
+        if (aggregator.getDataMetric().getScopeOfValidity() != ScopeOfValidity.DISCRETE) {
+            // continuous metrics are weighted by the time between the measurements
+            return null;
+        }
+        return IncrementalStatistic.forAggregator(aggregator);
     }
 
     /**
@@ -100,6 +132,144 @@ public class SlidingWindowStatisticalCharacterizationAggregator extends SlidingW
         Amount<Duration> length = Amount.valueOf(windowLength.getValue(), windowLength.getUnit());
         Amount<Duration> rightBound = leftBound.plus(length);
 
-        return this.aggregator.aggregateData(windowData, leftBound, rightBound, Optional.of(length));
+        return this.aggregator.aggregateData(getDataToAggregate(windowData), leftBound, rightBound,
+                Optional.of(length));
+    }
+
+    /**
+     * Gets the measurements to pass to the {@link StatisticalCharacterizationAggregator}. If the
+     * window data is aggregated incrementally, this is a single measurement carrying the
+     * statistical characterization of the window data, otherwise it is the window data itself.
+     */
+    private Iterable<MeasuringValue> getDataToAggregate(final Iterable<MeasuringValue> windowData) {
+        if (this.statistic == null) {
+            return windowData;
+        }
+        if (!synchronizeWindowEntries(windowData)) {
+            this.windowEntries.clear();
+            this.statistic.clear();
+            windowData.forEach(this::addWindowEntry);
+        }
+        if (this.statistic.isSubjectToRoundingErrors() && this.updatesSinceRecomputation > this.windowEntries.size()) {
+            // recompute from scratch to get rid of accumulated rounding errors, amortized O(1)
+            this.statistic.clear();
+            this.windowEntries.forEach(entry -> this.statistic.add(entry.value));
+            this.updatesSinceRecomputation = 0;
+        }
+        if (this.windowEntries.isEmpty() || !this.statistic.isApplicable()) {
+            return windowData;
+        }
+        final MeasuringValue characterization = createCharacterizingMeasurement(
+                this.windowEntries.getLast().measurement, this.statistic.getValue());
+        return characterization == null ? windowData : Collections.singletonList(characterization);
+    }
+
+    /**
+     * Applies the changes of the window data since the last aggregation to the window entries and
+     * the statistic, assuming that the window evicts its oldest measurements and appends new ones.
+     * 
+     * @return {@code false} if the window data does not match the retained window entries, in
+     *         which case the entries have to be rebuilt.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean synchronizeWindowEntries(final Iterable<MeasuringValue> windowData) {
+        final Iterator<MeasuringValue> iterator = windowData.iterator();
+        final MeasuringValue first = iterator.hasNext() ? iterator.next() : null;
+        // evict the entries in front of the oldest measurement which is still in the window
+        while (!this.windowEntries.isEmpty() && this.windowEntries.getFirst().measurement != first) {
+            this.statistic.remove(this.windowEntries.removeFirst().value);
+            this.updatesSinceRecomputation++;
+        }
+        if (first == null) {
+            return true;
+        }
+        final int retained = this.windowEntries.size();
+        final MeasuringValue lastRetained = retained == 0 ? null : this.windowEntries.getLast().measurement;
+        if (windowData instanceof List && windowData instanceof RandomAccess) {
+            final List<MeasuringValue> list = (List<MeasuringValue>) windowData;
+            if (list.size() < retained || retained > 0 && list.get(retained - 1) != lastRetained) {
+                return false;
+            }
+            list.subList(retained, list.size()).forEach(this::addWindowEntry);
+        } else if (windowData instanceof Deque) {
+            // also covers linked lists, which are walked from their end instead of being indexed
+            final Deque<MeasuringValue> deque = (Deque<MeasuringValue>) windowData;
+            final Deque<MeasuringValue> added = new ArrayDeque<>();
+            final Iterator<MeasuringValue> newestFirst = deque.descendingIterator();
+            while (newestFirst.hasNext()) {
+                final MeasuringValue measurement = newestFirst.next();
+                if (measurement == lastRetained) {
+                    break;
+                }
+                added.addFirst(measurement);
+            }
+            if (deque.size() != retained + added.size()) {
+                return false;
+            }
+            added.forEach(this::addWindowEntry);
+        } else {
+            // no access from the end, so at least skip over the retained measurements
+            final Iterator<WindowEntry> retainedEntries = this.windowEntries.iterator();
+            final List<MeasuringValue> added = new ArrayList<>();
+            MeasuringValue measurement = first;
+            while (measurement != null) {
+                if (!retainedEntries.hasNext()) {
+                    added.add(measurement);
+                } else if (retainedEntries.next().measurement != measurement) {
+                    return false;
+                }
+                measurement = iterator.hasNext() ? iterator.next() : null;
+            }
+            if (retainedEntries.hasNext()) {
+                return false;
+            }
+            added.forEach(this::addWindowEntry);
+        }
+        return true;
+    }
+
+    private void addWindowEntry(final MeasuringValue measurement) {
+        final NumericalBaseMetricDescription dataMetric = getExpectedWindowDataMetric();
+        final double value = measurement.getMeasureForMetric(dataMetric).doubleValue(dataMetric.getDefaultUnit());
+        this.windowEntries.addLast(new WindowEntry(measurement, value));
+        this.statistic.add(value);
+        this.updatesSinceRecomputation++;
+    }
+
+    /**
+     * Creates a measurement like the given one, except that the measured value is replaced by the
+     * given statistic. The statistical characterization of this single measurement is the
+     * statistic itself.
+     * 
+     * @return The measurement, or {@code null} if the template is not a tuple measurement.
+     */
+    private MeasuringValue createCharacterizingMeasurement(final MeasuringValue template, final double statistic) {
+        final MetricDescription metricDescription = template.getMetricDesciption();
+        if (!(metricDescription instanceof MetricSetDescription)) {
+            return null;
+        }
+        final NumericalBaseMetricDescription dataMetric = getExpectedWindowDataMetric();
+        final List<MetricDescription> subsumedMetrics = ((MetricSetDescription) metricDescription)
+            .getSubsumedMetrics();
+        final Measure<?, ?>[] measures = new Measure<?, ?>[subsumedMetrics.size()];
+        for (int i = 0; i < measures.length; i++) {
+            final MetricDescription metric = subsumedMetrics.get(i);
+            measures[i] = metric.getId().equals(dataMetric.getId())
+                    ? Measure.valueOf(statistic, dataMetric.getDefaultUnit())
+                    : template.getMeasureForMetric(metric);
+        }
+        return new TupleMeasurement((MetricSetDescription) metricDescription, measures);
+    }
+
+    private static final class WindowEntry {
+
+        private final MeasuringValue measurement;
+        // the measured value, expressed in the default unit of the window data metric
+        private final double value;
+
+        private WindowEntry(final MeasuringValue measurement, final double value) {
+            this.measurement = measurement;
+            this.value = value;
+        }
     }
 }
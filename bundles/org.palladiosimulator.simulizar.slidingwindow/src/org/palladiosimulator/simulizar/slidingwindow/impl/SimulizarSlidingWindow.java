@@ -11,7 +11,6 @@ import org.palladiosimulator.experimentanalysis.ISlidingWindowMoveOnStrategy;
 import org.palladiosimulator.experimentanalysis.SlidingWindow;
 import org.palladiosimulator.experimentanalysis.windowaggregators.SlidingWindowAggregator;
 import org.palladiosimulator.metricspec.MetricDescription;
-import org.palladiosimulator.simulizar.simulationevents.PeriodicallyTriggeredSimulationEntity;
 
 import de.uka.ipd.sdq.simucomframework.model.SimuComModel;
 import de.uka.ipd.sdq.simulation.ISimulationListener;
@@ -23,7 +22,8 @@ import de.uka.ipd.sdq.simulation.ISimulationListener;
  * length, the window moves forward by a fixed increment and the collected measurements are
  * propagated to all connected {@link ISlidingWindowListener}s, e.g., certain
  * {@link SlidingWindowAggregator}s.<br>
- * 
+ * The windows of a simulation are moved by a shared {@link SlidingWindowTimerWheel}, so that
+ * windows due at the same simulation time are moved by a single simulation event.
  * 
  * @author Florian Rosenthal
  */
@@ -31,7 +31,7 @@ public class SimulizarSlidingWindow extends SlidingWindow {
     
 	private SimuComModel model;
 	
-    private PeriodicallyTriggeredSimulationEntity simulationEntity = null;
+    private SlidingWindowTimerWheel timerWheel = null;
     private ISimulationListener simulationListener = null;
     
 
@@ -136,15 +136,9 @@ public class SimulizarSlidingWindow extends SlidingWindow {
     private void initializeTriggeredSimulationEntity(SimuComModel model) {
         // ensure that point in times are given in seconds, as the simulation is
         // in sec
-    	simulationEntity = new PeriodicallyTriggeredSimulationEntity(model,
-                SimulizarSlidingWindow.this.getSpecifiedWindowLength().doubleValue(SI.SECOND),
-                SimulizarSlidingWindow.this.getIncrement().doubleValue(SI.SECOND)) {
-
-            @Override
-            protected void triggerInternal() {
-                onWindowFullEvent();
-            }
-        };
+        timerWheel = SlidingWindowTimerWheel.getTimerWheel(model);
+        timerWheel.register(this, this.getSpecifiedWindowLength().doubleValue(SI.SECOND),
+                this.getIncrement().doubleValue(SI.SECOND));
         simulationListener = new ISimulationListener() {
 
             @Override
@@ -159,6 +153,14 @@ public class SimulizarSlidingWindow extends SlidingWindow {
         model.getConfiguration().addListener(simulationListener);
     }
 
+    /**
+     * This method is invoked by the {@link SlidingWindowTimerWheel} whenever the window is due to
+     * move forward.
+     */
+    void onWindowMoveEvent() {
+        onWindowFullEvent();
+    }
+
     /**
      * This method is invoked once the {@link ISimulationListener#simulationStop()} has occurred.
      */
@@ -219,7 +221,7 @@ public class SimulizarSlidingWindow extends SlidingWindow {
     }
     
     public void flushAndStopAggregation() {
-    	this.simulationEntity.stopScheduling();
+    	this.timerWheel.unregister(this);
     	this.model.getConfiguration().getListeners().remove(this.simulationListener);
     	this.onSimulationStop();
     }
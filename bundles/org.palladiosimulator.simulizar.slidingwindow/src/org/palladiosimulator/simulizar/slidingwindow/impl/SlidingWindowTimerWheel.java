@@ -0,0 +1,221 @@
+package org.palladiosimulator.simulizar.slidingwindow.impl;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.WeakHashMap;
+
+import org.apache.log4j.Logger;
+
+import de.uka.ipd.sdq.simucomframework.entities.SimuComEntity;
+import de.uka.ipd.sdq.simucomframework.model.SimuComModel;
+import de.uka.ipd.sdq.simulation.abstractsimengine.AbstractSimEventDelegator;
+
+/**
+ * Simulation entity which moves all {@link SimulizarSlidingWindow}s of a simulation.<br>
+ * Instead of each window scheduling its own periodic event, the windows are registered at the
+ * timer wheel of their {@link SimuComModel}. Windows which are first moved at the same simulation
+ * time and share the same increment form a group, and the timer wheel schedules a single event
+ * for the earliest group which is due. All groups due at that time are triggered by this event.
+ */
+final class SlidingWindowTimerWheel extends SimuComEntity {
+
+    private static final Logger LOGGER = Logger.getLogger(SlidingWindowTimerWheel.class);
+
+    // the wheels are referenced by their windows, so they are only weakly referenced here
+    private static final Map<SimuComModel, WeakReference<SlidingWindowTimerWheel>> TIMER_WHEELS = new WeakHashMap<>();
+
+    private final Map<GroupKey, WindowGroup> groups = new LinkedHashMap<>();
+    private final PriorityQueue<WindowGroup> dueGroups = new PriorityQueue<>();
+    private final TimerWheelEvent event;
+
+    private boolean eventScheduled = false;
+    private double eventTime;
+    // used to keep the order of groups due at the same time stable
+    private long nextGroupNumber = 0;
+
+    private SlidingWindowTimerWheel(final SimuComModel model) {
+        super(model, "SlidingWindowTimerWheel");
+        this.event = new TimerWheelEvent(model);
+    }
+
+    /**
+     * Gets the timer wheel of the given simulation.
+     *
+     * @param model
+     *            The {@link SimuComModel} which governs the windows.
+     * @return The timer wheel, which is created upon the first request.
+     */
+    static SlidingWindowTimerWheel getTimerWheel(final SimuComModel model) {
+        Objects.requireNonNull(model);
+        synchronized (TIMER_WHEELS) {
+            final WeakReference<SlidingWindowTimerWheel> reference = TIMER_WHEELS.get(model);
+            SlidingWindowTimerWheel timerWheel = reference == null ? null : reference.get();
+            if (timerWheel == null) {
+                timerWheel = new SlidingWindowTimerWheel(model);
+                TIMER_WHEELS.put(model, new WeakReference<>(timerWheel));
+            }
+            return timerWheel;
+        }
+    }
+
+    /**
+     * Registers a window which is first moved after the given delay, and then periodically.
+     *
+     * @param window
+     *            The window to move.
+     * @param firstOccurrence
+     *            The delay until the window is moved for the first time, in seconds.
+     * @param increment
+     *            The period after which the window is moved again, in seconds.
+     */
+    void register(final SimulizarSlidingWindow window, final double firstOccurrence, final double increment) {
+        if (increment <= 0) {
+            throw new RuntimeException("Delay must be greater than 0!");
+        }
+        final double firstTime = this.getModel().getSimulationControl().getCurrentSimulationTime() + firstOccurrence;
+        final GroupKey key = new GroupKey(firstTime, increment);
+        WindowGroup group = this.groups.get(key);
+        if (group == null) {
+            group = new WindowGroup(key, this.nextGroupNumber++);
+            this.groups.put(key, group);
+            this.dueGroups.add(group);
+            this.scheduleEvent();
+        }
+        group.windows.add(window);
+    }
+
+    /**
+     * Unregisters the given window, so that it is no longer moved.
+     *
+     * @param window
+     *            A window which has been registered before.
+     */
+    void unregister(final SimulizarSlidingWindow window) {
+        for (final WindowGroup group : this.groups.values()) {
+            if (group.windows.remove(window)) {
+                if (group.windows.isEmpty()) {
+                    this.groups.remove(group.key);
+                    this.dueGroups.remove(group);
+                    this.scheduleEvent();
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * (Re-)schedules the event for the earliest group, if it is not scheduled for that time
+     * already.
+     */
+    private void scheduleEvent() {
+        final WindowGroup earliestGroup = this.dueGroups.peek();
+        if (this.eventScheduled && (earliestGroup == null || earliestGroup.nextTime != this.eventTime)) {
+            this.event.removeEvent();
+            this.eventScheduled = false;
+        }
+        if (!this.eventScheduled && earliestGroup != null) {
+            final double delay = earliestGroup.nextTime
+                    - this.getModel().getSimulationControl().getCurrentSimulationTime();
+            this.event.schedule(this, Math.max(0d, delay));
+            this.eventScheduled = true;
+            this.eventTime = earliestGroup.nextTime;
+        }
+    }
+
+    private void triggerDueGroups() {
+        final double currentTime = this.getModel().getSimulationControl().getCurrentSimulationTime();
+        final List<WindowGroup> triggeredGroups = new ArrayList<>();
+        while (!this.dueGroups.isEmpty() && this.dueGroups.peek().nextTime <= this.eventTime) {
+            triggeredGroups.add(this.dueGroups.poll());
+        }
+        for (final WindowGroup group : triggeredGroups) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Moving " + group.windows.size() + " sliding windows at simulation time " + currentTime);
+            }
+            // copy, as windows might unregister while being moved
+            for (final SimulizarSlidingWindow window : new ArrayList<>(group.windows)) {
+                // skip windows which have been unregistered by one moved before
+                if (group.windows.contains(window)) {
+                    window.onWindowMoveEvent();
+                }
+            }
+            if (this.groups.get(group.key) == group) {
+                group.nextTime = currentTime + group.key.increment;
+                this.dueGroups.add(group);
+            }
+        }
+        this.scheduleEvent();
+    }
+
+    /**
+     * Identifies the windows which are moved at the same points in time.
+     */
+    private static final class GroupKey {
+
+        private final double firstTime;
+        private final double increment;
+
+        private GroupKey(final double firstTime, final double increment) {
+            this.firstTime = firstTime;
+            this.increment = increment;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof GroupKey)) {
+                return false;
+            }
+            final GroupKey other = (GroupKey) obj;
+            return Double.compare(this.firstTime, other.firstTime) == 0
+                    && Double.compare(this.increment, other.increment) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(this.firstTime, this.increment);
+        }
+    }
+
+    private static final class WindowGroup implements Comparable<WindowGroup> {
+
+        private final GroupKey key;
+        private final long number;
+        private final List<SimulizarSlidingWindow> windows = new ArrayList<>();
+        private double nextTime;
+
+        private WindowGroup(final GroupKey key, final long number) {
+            this.key = key;
+            this.number = number;
+            this.nextTime = key.firstTime;
+        }
+
+        @Override
+        public int compareTo(final WindowGroup other) {
+            final int result = Double.compare(this.nextTime, other.nextTime);
+            return result != 0 ? result : Long.compare(this.number, other.number);
+        }
+    }
+
+    private final class TimerWheelEvent extends AbstractSimEventDelegator<SlidingWindowTimerWheel> {
+
+        private TimerWheelEvent(final SimuComModel model) {
+            super(model, "SlidingWindowTimerWheelEvent");
+        }
+
+        @Override
+        public void eventRoutine(final SlidingWindowTimerWheel who) {
+            SlidingWindowTimerWheel.this.eventScheduled = false;
+            if (this.getModel().getSimulationControl().isRunning()) {
+                SlidingWindowTimerWheel.this.triggerDueGroups();
+            }
+        }
+    }
+}
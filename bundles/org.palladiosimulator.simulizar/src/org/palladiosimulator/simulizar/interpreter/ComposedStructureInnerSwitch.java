@@ -51,9 +51,9 @@ class ComposedStructureInnerSwitch extends CompositionSwitch<SimulatedStackframe
 
     @Override
     public SimulatedStackframe<Object> caseAssemblyConnector(final AssemblyConnector assemblyConnector) {
-        final RepositoryComponentSwitch repositoryComponentSwitch = new RepositoryComponentSwitch(this.context,
-                assemblyConnector.getProvidingAssemblyContext_AssemblyConnector(), this.signature,
-                assemblyConnector.getProvidedRole_AssemblyConnector());
+        final RepositoryComponentSwitch repositoryComponentSwitch = this.context.getSwitchCache()
+                .getRepositoryComponentSwitch(assemblyConnector.getProvidingAssemblyContext_AssemblyConnector(),
+                        this.signature, assemblyConnector.getProvidedRole_AssemblyConnector());
         return repositoryComponentSwitch.doSwitch(assemblyConnector.getProvidedRole_AssemblyConnector());
     }
 
@@ -67,9 +67,10 @@ class ComposedStructureInnerSwitch extends CompositionSwitch<SimulatedStackframe
     @Override
     public SimulatedStackframe<Object> caseAssemblyInfrastructureConnector(
             final AssemblyInfrastructureConnector assemblyInfrastructureConnector) {
-        final RepositoryComponentSwitch repositoryComponentSwitch = new RepositoryComponentSwitch(this.context,
-                assemblyInfrastructureConnector.getProvidingAssemblyContext__AssemblyInfrastructureConnector(),
-                this.signature, assemblyInfrastructureConnector.getProvidedRole__AssemblyInfrastructureConnector());
+        final RepositoryComponentSwitch repositoryComponentSwitch = this.context.getSwitchCache()
+                .getRepositoryComponentSwitch(
+                        assemblyInfrastructureConnector.getProvidingAssemblyContext__AssemblyInfrastructureConnector(),
+                        this.signature, assemblyInfrastructureConnector.getProvidedRole__AssemblyInfrastructureConnector());
         return repositoryComponentSwitch
                 .doSwitch(assemblyInfrastructureConnector.getProvidedRole__AssemblyInfrastructureConnector());
     }
@@ -78,8 +79,9 @@ class ComposedStructureInnerSwitch extends CompositionSwitch<SimulatedStackframe
     public SimulatedStackframe<Object> caseRequiredDelegationConnector(
             final RequiredDelegationConnector requiredDelegationConnector) {
         final AssemblyContext parentContext = this.context.getAssemblyContextStack().pop();
-        final ComposedStructureInnerSwitch composedStructureInnerSwitch = new ComposedStructureInnerSwitch(this.context,
-                this.signature, requiredDelegationConnector.getOuterRequiredRole_RequiredDelegationConnector());
+        final ComposedStructureInnerSwitch composedStructureInnerSwitch = this.context.getSwitchCache()
+                .getComposedStructureInnerSwitch(this.signature,
+                        requiredDelegationConnector.getOuterRequiredRole_RequiredDelegationConnector());
         final SimulatedStackframe<Object> result = composedStructureInnerSwitch.doSwitch(parentContext);
         this.context.getAssemblyContextStack().push(parentContext);
         return result;
@@ -89,8 +91,9 @@ class ComposedStructureInnerSwitch extends CompositionSwitch<SimulatedStackframe
     public SimulatedStackframe<Object> caseRequiredInfrastructureDelegationConnector(
             final RequiredInfrastructureDelegationConnector requiredInfrastructureDelegationConnector) {
         final AssemblyContext parentContext = this.context.getAssemblyContextStack().pop();
-        final ComposedStructureInnerSwitch composedStructureInnerSwitch = new ComposedStructureInnerSwitch(this.context,
-                this.signature, requiredInfrastructureDelegationConnector.getOuterRequiredRole__RequiredInfrastructureDelegationConnector());
+        final ComposedStructureInnerSwitch composedStructureInnerSwitch = this.context.getSwitchCache()
+                .getComposedStructureInnerSwitch(this.signature, requiredInfrastructureDelegationConnector
+                        .getOuterRequiredRole__RequiredInfrastructureDelegationConnector());
         final SimulatedStackframe<Object> result = composedStructureInnerSwitch.doSwitch(parentContext);
         this.context.getAssemblyContextStack().push(parentContext);
         return result;
@@ -103,7 +106,8 @@ class ComposedStructureInnerSwitch extends CompositionSwitch<SimulatedStackframe
     }
 
     /**
-     * Determines the assembly connector which is connected with the required role.
+     * Determines the assembly connector which is connected with the required role. The connector
+     * is looked up in the {@link ConnectorIndex} of the parent structure of the given context.
      *
      * @param requiredRole
      *            the required role.
@@ -116,63 +120,10 @@ class ComposedStructureInnerSwitch extends CompositionSwitch<SimulatedStackframe
         if (requiredRole == null) {
             throw new IllegalArgumentException("Required role must not be null");
         }
-        final CompositionSwitch<Connector> connectorSelector = new CompositionSwitch<Connector>() {
-
-            @Override
-            public Connector caseRequiredDelegationConnector(final RequiredDelegationConnector delegationConnector) {
-                if (delegationConnector.getAssemblyContext_RequiredDelegationConnector() == myContext
-                        && delegationConnector.getInnerRequiredRole_RequiredDelegationConnector() == requiredRole) {
-                    return delegationConnector;
-                }
-                return null;
-            }
-
-            @Override
-            public Connector caseAssemblyConnector(final AssemblyConnector assemblyConnector) {
-                if (assemblyConnector.getRequiringAssemblyContext_AssemblyConnector() == myContext
-                        && assemblyConnector.getRequiredRole_AssemblyConnector() == requiredRole) {
-                    return assemblyConnector;
-                }
-                return null;
-            }
-
-            /*
-             * (non-Javadoc)
-             *
-             * @see org.palladiosimulator.pcm.core.composition.util.CompositionSwitch#
-             * caseAssemblyInfrastructureConnector
-             * (org.palladiosimulator.pcm.core.composition.AssemblyInfrastructureConnector)
-             */
-            @Override
-            public Connector caseAssemblyInfrastructureConnector(
-                    final AssemblyInfrastructureConnector assemblyInfrastructureConnector) {
-                if (assemblyInfrastructureConnector
-                        .getRequiringAssemblyContext__AssemblyInfrastructureConnector() == myContext
-                        && assemblyInfrastructureConnector
-                                .getRequiredRole__AssemblyInfrastructureConnector() == requiredRole) {
-                    return assemblyInfrastructureConnector;
-                }
-                return null;
-            }
-
-            @Override
-            public Connector caseRequiredInfrastructureDelegationConnector(
-                    final RequiredInfrastructureDelegationConnector requiredInfrastructureDelegationConnector) {
-                if (requiredInfrastructureDelegationConnector
-                        .getAssemblyContext__RequiredInfrastructureDelegationConnector() == myContext
-                        && requiredInfrastructureDelegationConnector
-                                .getInnerRequiredRole__RequiredInfrastructureDelegationConnector() == requiredRole) {
-                    return requiredInfrastructureDelegationConnector;
-                }
-                return null;
-            }
-        };
-        for (final Connector connector : myContext.getParentStructure__AssemblyContext()
-                .getConnectors__ComposedStructure()) {
-            final Connector result = connectorSelector.doSwitch(connector);
-            if (result != null) {
-                return result;
-            }
+        final Connector result = ConnectorIndex.getIndex(myContext.getParentStructure__AssemblyContext())
+                .getConnectedConnector(myContext, requiredRole);
+        if (result != null) {
+            return result;
         }
         throw new PCMModelInterpreterException("Found unbound provided role. PCM model is invalid.");
     }
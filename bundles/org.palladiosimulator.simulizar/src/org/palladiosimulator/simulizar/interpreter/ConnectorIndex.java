@@ -0,0 +1,134 @@
+package org.palladiosimulator.simulizar.interpreter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.palladiosimulator.pcm.core.composition.AssemblyConnector;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.core.composition.AssemblyInfrastructureConnector;
+import org.palladiosimulator.pcm.core.composition.ComposedStructure;
+import org.palladiosimulator.pcm.core.composition.Connector;
+import org.palladiosimulator.pcm.core.composition.RequiredDelegationConnector;
+import org.palladiosimulator.pcm.core.composition.RequiredInfrastructureDelegationConnector;
+import org.palladiosimulator.pcm.core.composition.util.CompositionSwitch;
+import org.palladiosimulator.pcm.repository.RequiredRole;
+
+/**
+ * Index of the connectors of a {@link ComposedStructure} by the required role and the requiring
+ * assembly context they connect. The index is attached to the composed structure as adapter and
+ * is rebuilt lazily after the composed structure changed.
+ *
+ * As model elements do not override {@link Object#equals(Object)}, all maps are identity based.
+ * If several connectors bind the same required role, the first one in the order of the composed
+ * structure is used.
+ */
+final class ConnectorIndex extends EContentAdapter {
+
+    private final ComposedStructure composedStructure;
+
+    private volatile boolean stale = true;
+    private Map<RequiredRole, Map<AssemblyContext, Connector>> connectors;
+
+    private ConnectorIndex(final ComposedStructure composedStructure) {
+        this.composedStructure = composedStructure;
+    }
+
+    /**
+     * Gets the index of the given composed structure. The index is created and attached on first
+     * access.
+     *
+     * @param composedStructure
+     *            the composed structure.
+     * @return the index.
+     */
+    static ConnectorIndex getIndex(final ComposedStructure composedStructure) {
+        synchronized (composedStructure) {
+            ConnectorIndex index = (ConnectorIndex) EcoreUtil.getExistingAdapter(composedStructure,
+                    ConnectorIndex.class);
+            if (index == null) {
+                index = new ConnectorIndex(composedStructure);
+                composedStructure.eAdapters().add(index);
+            }
+            return index;
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return type == ConnectorIndex.class;
+    }
+
+    @Override
+    public void notifyChanged(final Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch() && notification.getEventType() != Notification.REMOVING_ADAPTER) {
+            this.stale = true;
+        }
+    }
+
+    /**
+     * Gets the connector connected with the given required role of the given assembly context.
+     *
+     * @param requiringContext
+     *            the requiring assembly context.
+     * @param requiredRole
+     *            the required role.
+     * @return the connector, or {@code null} if the role is not bound.
+     */
+    Connector getConnectedConnector(final AssemblyContext requiringContext, final RequiredRole requiredRole) {
+        synchronized (this.composedStructure) {
+            if (this.stale) {
+                this.rebuild();
+            }
+            final Map<AssemblyContext, Connector> connectorsOfRole = this.connectors.get(requiredRole);
+            return connectorsOfRole == null ? null : connectorsOfRole.get(requiringContext);
+        }
+    }
+
+    private void rebuild() {
+        this.stale = false;
+        this.connectors = new HashMap<>();
+        final CompositionSwitch<Object> indexer = new CompositionSwitch<Object>() {
+
+            @Override
+            public Object caseRequiredDelegationConnector(final RequiredDelegationConnector connector) {
+                ConnectorIndex.this.add(connector.getInnerRequiredRole_RequiredDelegationConnector(),
+                        connector.getAssemblyContext_RequiredDelegationConnector(), connector);
+                return connector;
+            }
+
+            @Override
+            public Object caseAssemblyConnector(final AssemblyConnector connector) {
+                ConnectorIndex.this.add(connector.getRequiredRole_AssemblyConnector(),
+                        connector.getRequiringAssemblyContext_AssemblyConnector(), connector);
+                return connector;
+            }
+
+            @Override
+            public Object caseAssemblyInfrastructureConnector(final AssemblyInfrastructureConnector connector) {
+                ConnectorIndex.this.add(connector.getRequiredRole__AssemblyInfrastructureConnector(),
+                        connector.getRequiringAssemblyContext__AssemblyInfrastructureConnector(), connector);
+                return connector;
+            }
+
+            @Override
+            public Object caseRequiredInfrastructureDelegationConnector(
+                    final RequiredInfrastructureDelegationConnector connector) {
+                ConnectorIndex.this.add(connector.getInnerRequiredRole__RequiredInfrastructureDelegationConnector(),
+                        connector.getAssemblyContext__RequiredInfrastructureDelegationConnector(), connector);
+                return connector;
+            }
+        };
+        for (final Connector connector : this.composedStructure.getConnectors__ComposedStructure()) {
+            indexer.doSwitch(connector);
+        }
+    }
+
+    private void add(final RequiredRole requiredRole, final AssemblyContext requiringContext,
+            final Connector connector) {
+        this.connectors.computeIfAbsent(requiredRole, r -> new HashMap<>()).putIfAbsent(requiringContext, connector);
+    }
+}
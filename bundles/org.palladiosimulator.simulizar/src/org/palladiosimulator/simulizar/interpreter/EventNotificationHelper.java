@@ -3,23 +3,23 @@
  */
 package org.palladiosimulator.simulizar.interpreter;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
-import java.util.function.BinaryOperator;
-import java.util.function.Consumer;
-import java.util.function.Function;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.palladiosimulator.commons.designpatterns.AbstractObservable;
 import org.palladiosimulator.pcm.repository.OperationProvidedRole;
 import org.palladiosimulator.pcm.repository.OperationSignature;
-import org.palladiosimulator.pcm.repository.util.RepositorySwitch;
+import org.palladiosimulator.pcm.repository.RepositoryPackage;
 import org.palladiosimulator.pcm.seff.ExternalCallAction;
-import org.palladiosimulator.pcm.seff.util.SeffSwitch;
+import org.palladiosimulator.pcm.seff.SeffPackage;
 import org.palladiosimulator.pcm.usagemodel.EntryLevelSystemCall;
 import org.palladiosimulator.pcm.usagemodel.UsageScenario;
-import org.palladiosimulator.pcm.usagemodel.util.UsagemodelSwitch;
+import org.palladiosimulator.pcm.usagemodel.UsagemodelPackage;
 import org.palladiosimulator.simulizar.interpreter.listener.AssemblyProvidedOperationPassedEvent;
 import org.palladiosimulator.simulizar.interpreter.listener.EventType;
 import org.palladiosimulator.simulizar.interpreter.listener.IInterpreterListener;
@@ -27,109 +27,245 @@ import org.palladiosimulator.simulizar.interpreter.listener.ModelElementPassedEv
 import org.palladiosimulator.simulizar.interpreter.listener.RDSEFFElementPassedEvent;
 
 /**
+ * Distributes {@link ModelElementPassedEvent}s to the registered {@link IInterpreterListener}s.
+ *
+ * The listener method to call is determined by the {@link EClass} of the passed model element. The
+ * resolution is done once per EClass and kept in a routing table, so firing an event neither runs
+ * EMF switches nor allocates dispatching lambdas. If no listener is registered, events are dropped
+ * right away.
+ *
+ * Listeners declare which element types and elements they observe (see
+ * {@link IInterpreterListener#isObservingElementType(EClass)} and
+ * {@link IInterpreterListener#isObservingElement(EObject)}). Events are only passed to interested
+ * listeners. Interpreters should fire events via {@link #firePassedEvent(EObject, Supplier)}, which
+ * only creates the event if any listener observes the passed element, so that no event objects are
+ * allocated for elements nobody observes.
+ *
  * @author snowball, Sebastian Krach
  *
  */
 public class EventNotificationHelper extends AbstractObservable<IInterpreterListener> {
-    
-    
-    private static BinaryOperator<Consumer<ModelElementPassedEvent<? extends EObject>>> BEGIN_END_SWITCH = (beginFunc, endFunc) -> 
-    	((ModelElementPassedEvent<? extends EObject> event) -> {
-    	    if (event.getEventType() == EventType.BEGIN) 
-    	    	beginFunc.accept(event);
-    	    else
-    	    	endFunc.accept(event);
-    	    
-    	});
-    
-    @SuppressWarnings("unchecked")
-    private UsagemodelSwitch<Optional<Consumer<ModelElementPassedEvent<? extends EObject>>>> USAGE_MODEL_NOTIFICATOR_SELECTOR = new UsagemodelSwitch<Optional<Consumer<ModelElementPassedEvent<? extends EObject>>>>() {
-		public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> caseEntryLevelSystemCall(EntryLevelSystemCall object) {
-			return Optional.of(
-		    	BEGIN_END_SWITCH.apply(
-	    			(ev -> getEventDispatcher().beginEntryLevelSystemCallInterpretation((ModelElementPassedEvent<EntryLevelSystemCall>) ev)),
-	    			(ev -> getEventDispatcher().endEntryLevelSystemCallInterpretation((ModelElementPassedEvent<EntryLevelSystemCall>) ev))
-				)
-		    );
-		};
-		
-		public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> caseUsageScenario(UsageScenario object) {
-		    return Optional.of(
-				BEGIN_END_SWITCH.apply(
-	    			((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().beginUsageScenarioInterpretation((ModelElementPassedEvent<UsageScenario>) ev)),
-	    			((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().endUsageScenarioInterpretation((ModelElementPassedEvent<UsageScenario>) ev))
-	    		)
-		    );
-			    		
-		};
-		
-		public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> defaultCase(EObject object) {
-		    return Optional.empty();
-		};
-    };
-    
-    @SuppressWarnings("unchecked")
-    private RepositorySwitch<Optional<Consumer<ModelElementPassedEvent<? extends EObject>>>> REPOSITORY_NOTIFICATOR_SELECTOR = new RepositorySwitch<Optional<Consumer<ModelElementPassedEvent<? extends EObject>>>>() {
-    	public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> caseOperationSignature(OperationSignature object) {
-    		return Optional.of(    
-	    		BEGIN_END_SWITCH.apply(
-    				((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().beginSystemOperationCallInterpretation((ModelElementPassedEvent<OperationSignature>) ev)),
-    				((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().endSystemOperationCallInterpretation((ModelElementPassedEvent<OperationSignature>) ev))
-			    )
-    		);		
-		};
-		
-		public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> caseOperationProvidedRole(OperationProvidedRole object) {
-    		return Optional.of(    
-	    		BEGIN_END_SWITCH.apply(
-    				((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().beginAssemblyProvidedOperationCallInterpretation((AssemblyProvidedOperationPassedEvent<OperationProvidedRole, OperationSignature>) ev)),
-    				((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().endAssemblyProvidedOperationCallInterpretation((AssemblyProvidedOperationPassedEvent<OperationProvidedRole, OperationSignature>) ev))
-			    )
-    		);	
-		};
-		
-		public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> defaultCase(EObject object) {
-		    return Optional.empty();
-		};
-    };
-    
+
+    /**
+     * The listener methods events can be routed to. The routes are checked in declaration order,
+     * i.e. the first route whose EClass is a super type of the passed model element is taken.
+     */
     @SuppressWarnings("unchecked")
-    private SeffSwitch<Optional<Consumer<ModelElementPassedEvent<? extends EObject>>>> SEFF_NOTIFICATOR_SELECTOR = new SeffSwitch<Optional<Consumer<ModelElementPassedEvent<? extends EObject>>>> () {
-    	public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> caseExternalCallAction(ExternalCallAction object) {
-    		return Optional.of(
-		    		BEGIN_END_SWITCH.apply(
-	    				((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().beginExternalCallInterpretation((RDSEFFElementPassedEvent<ExternalCallAction>) ev)),
-	    				((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().endExternalCallInterpretation((RDSEFFElementPassedEvent<ExternalCallAction>) ev))
-				    )
-        		);		
-    		};
-    	
-    	public Optional<Consumer<ModelElementPassedEvent<? extends EObject>>> defaultCase(EObject object) {
-		    return Optional.empty();
-		};
-    };
-    
-    private Consumer<ModelElementPassedEvent<? extends EObject>> UNKNOWN_ELEMENT_NOTIFICATOR_SELECTOR =
-		BEGIN_END_SWITCH.apply(
-			((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().beginUnknownElementInterpretation(ev)),
-			((ModelElementPassedEvent<? extends EObject> ev) -> getEventDispatcher().endUnknownElementInterpretation(ev))
-	    );
-    
-
-    private final List<Function<EObject, Optional<Consumer<ModelElementPassedEvent<? extends EObject>>>>> NOTIFICATOR_SELECTOR_SWITCHES = Arrays.asList(
-		USAGE_MODEL_NOTIFICATOR_SELECTOR::doSwitch,
-		REPOSITORY_NOTIFICATOR_SELECTOR::doSwitch,
-		SEFF_NOTIFICATOR_SELECTOR::doSwitch);
-    
+    private enum EventRoute {
+        ENTRY_LEVEL_SYSTEM_CALL(UsagemodelPackage.Literals.ENTRY_LEVEL_SYSTEM_CALL) {
+            @Override
+            void begin(final IInterpreterListener listener, final ModelElementPassedEvent<? extends EObject> event) {
+                listener.beginEntryLevelSystemCallInterpretation((ModelElementPassedEvent<EntryLevelSystemCall>) event);
+            }
+
+            @Override
+            void end(final IInterpreterListener listener, final ModelElementPassedEvent<? extends EObject> event) {
+                listener.endEntryLevelSystemCallInterpretation((ModelElementPassedEvent<EntryLevelSystemCall>) event);
+            }
+        },
+        USAGE_SCENARIO(UsagemodelPackage.Literals.USAGE_SCENARIO) {
+            @Override
+            void begin(final IInterpreterListener listener, final ModelElementPassedEvent<? extends EObject> event) {
+                listener.beginUsageScenarioInterpretation((ModelElementPassedEvent<UsageScenario>) event);
+            }
+
+            @Override
+            void end(final IInterpreterListener listener, final ModelElementPassedEvent<? extends EObject> event) {
+                listener.endUsageScenarioInterpretation((ModelElementPassedEvent<UsageScenario>) event);
+            }
+        },
+        SYSTEM_OPERATION_CALL(RepositoryPackage.Literals.OPERATION_SIGNATURE) {
+            @Override
+            void begin(final IInterpreterListener listener, final ModelElementPassedEvent<? extends EObject> event) {
+                listener.beginSystemOperationCallInterpretation((ModelElementPassedEvent<OperationSignature>) event);
+            }
+
+            @Override
+            void end(final IInterpreterListener listener, final ModelElementPassedEvent<? extends EObject> event) {
+                listener.endSystemOperationCallInterpretation((ModelElementPassedEvent<OperationSignature>) event);
+            }
+        },
+        ASSEMBLY_PROVIDED_OPERATION_CALL(RepositoryPackage.Literals.OPERATION_PROVIDED_ROLE) {
+            @Override
+            void begin(final IInterpreterListener listener, final ModelElementPassedEvent<? extends EObject> event) {
+                listener.beginAssemblyProvidedOperationCallInterpretation(
+                        (AssemblyProvidedOperationPassedEvent<OperationProvidedRole, OperationSignature>) event);
+            }
+
+            @Override
+            void end(final IInterpreterListener listener, final ModelElementPassedEvent<? extends EObject> event) {
+                listener.endAssemblyProvidedOperationCallInterpretation(
+                        (AssemblyProvidedOperationPassedEvent<OperationProvidedRole, OperationSignature>) event);
+            }
+        },
+        EXTERNAL_CALL(SeffPackage.Literals.EXTERNAL_CALL_ACTION) {
+            @Override
+            void begin(final IInterpreterListener listener, final ModelElementPassedEvent<? extends EObject> event) {
+                listener.beginExternalCallInterpretation((RDSEFFElementPassedEvent<ExternalCallAction>) event);
+            }
+
+            @Override
+            void end(final IInterpreterListener listener, final ModelElementPassedEvent<? extends EObject> event) {
+                listener.endExternalCallInterpretation((RDSEFFElementPassedEvent<ExternalCallAction>) event);
+            }
+        },
+        UNKNOWN_ELEMENT(null) {
+            @Override
+            void begin(final IInterpreterListener listener, final ModelElementPassedEvent<? extends EObject> event) {
+                listener.beginUnknownElementInterpretation(event);
+            }
+
+            @Override
+            void end(final IInterpreterListener listener, final ModelElementPassedEvent<? extends EObject> event) {
+                listener.endUnknownElementInterpretation(event);
+            }
+        };
+
+        private final EClass routedType;
+
+        private EventRoute(final EClass routedType) {
+            this.routedType = routedType;
+        }
+
+        abstract void begin(IInterpreterListener listener, ModelElementPassedEvent<? extends EObject> event);
+
+        abstract void end(IInterpreterListener listener, ModelElementPassedEvent<? extends EObject> event);
+
+        private static EventRoute resolve(final EClass eClass) {
+            for (final EventRoute route : values()) {
+                if (route.routedType == null || route.routedType.isSuperTypeOf(eClass)) {
+                    return route;
+                }
+            }
+            return UNKNOWN_ELEMENT;
+        }
+    }
+
+    private static final Map<EClass, EventRoute> ROUTING_TABLE = new ConcurrentHashMap<>();
+
+    private static final IInterpreterListener[] NO_LISTENERS = new IInterpreterListener[0];
+
+    private final List<IInterpreterListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * The listeners interested in each element type. Rebuilt lazily whenever the set of registered
+     * listeners changes.
+     */
+    private final Map<EClass, IInterpreterListener[]> interestedListeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void addObserver(final IInterpreterListener observer) {
+        super.addObserver(observer);
+        this.listeners.add(observer);
+        this.interestedListeners.clear();
+    }
+
+    @Override
+    public void removeObserver(final IInterpreterListener observer) {
+        super.removeObserver(observer);
+        this.listeners.remove(observer);
+        this.interestedListeners.clear();
+    }
+
+    @Override
+    public void removeAllObserver() {
+        super.removeAllObserver();
+        this.listeners.clear();
+        this.interestedListeners.clear();
+    }
+
+    /**
+     * @return {@code true} if at least one listener is registered, i.e. fired events are
+     *         observed by anyone.
+     */
+    public boolean hasListeners() {
+        return !this.listeners.isEmpty();
+    }
+
+    /**
+     * Checks whether a passed event of the given model element would be delivered to any listener.
+     * Callers use this check to avoid creating events nobody is interested in.
+     *
+     * @param element
+     *            the model element about to be passed.
+     * @return {@code true} if at least one registered listener observes the element.
+     */
+    public boolean isObserved(final EObject element) {
+        if (this.listeners.isEmpty()) {
+            return false;
+        }
+        for (final IInterpreterListener listener : this.interestedListenersFor(element.eClass())) {
+            if (listener.isObservingElement(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public <T extends EObject> void firePassedEvent(final ModelElementPassedEvent<T> event) {
-		NOTIFICATOR_SELECTOR_SWITCHES.stream()
-			.map(sw -> sw.apply(event.getModelElement()))
-			.filter(Optional::isPresent).map(Optional::get).findFirst()
-			.orElse(UNKNOWN_ELEMENT_NOTIFICATOR_SELECTOR)
-			.accept(event);
+        this.firePassedEvent(event.getModelElement(), () -> event);
+    }
+
+    /**
+     * Fires a passed event of the given model element to all listeners observing the element. The
+     * event is only created if there is at least one such listener. Each listener is asked once
+     * whether it observes the element.
+     *
+     * @param element
+     *            the passed model element.
+     * @param eventFactory
+     *            creates the event of the passed model element.
+     */
+    public <T extends EObject> void firePassedEvent(final T element,
+            final Supplier<? extends ModelElementPassedEvent<T>> eventFactory) {
+        if (this.listeners.isEmpty()) {
+            return;
+        }
+        final IInterpreterListener[] interested = this.interestedListenersFor(element.eClass());
+        if (interested.length == 0) {
+            return;
+        }
+        ModelElementPassedEvent<T> event = null;
+        EventRoute route = null;
+        for (final IInterpreterListener listener : interested) {
+            if (!listener.isObservingElement(element)) {
+                continue;
+            }
+            if (event == null) {
+                event = eventFactory.get();
+                route = routeFor(element.eClass());
+            }
+            if (event.getEventType() == EventType.BEGIN) {
+                route.begin(listener, event);
+            } else {
+                route.end(listener, event);
+            }
+        }
     }
-    
+
     public void removeAllListener() {
         this.removeAllObserver();
     }
+
+    private IInterpreterListener[] interestedListenersFor(final EClass eClass) {
+        IInterpreterListener[] interested = this.interestedListeners.get(eClass);
+        if (interested == null) {
+            interested = this.listeners.stream().filter(listener -> listener.isObservingElementType(eClass))
+                    .toArray(IInterpreterListener[]::new);
+            if (interested.length == 0) {
+                interested = NO_LISTENERS;
+            }
+            this.interestedListeners.put(eClass, interested);
+        }
+        return interested;
+    }
+
+    private static EventRoute routeFor(final EClass eClass) {
+        EventRoute route = ROUTING_TABLE.get(eClass);
+        if (route == null) {
+            route = EventRoute.resolve(eClass);
+            ROUTING_TABLE.put(eClass, route);
+        }
+        return route;
+    }
 }
@@ -37,6 +37,8 @@ public class InterpreterDefaultContext extends Context {
 
     private IAssemblyAllocationLookup<AbstractSimulatedResourceContainer> assemblyAllocationLookup;
 
+    private final transient InterpreterSwitchCache switchCache = new InterpreterSwitchCache(this);
+
     public InterpreterDefaultContext(final AbstractSimuLizarRuntimeState simulizarModel, 
             IAssemblyAllocationLookup<AbstractSimulatedResourceContainer> assemblyAllocationLookup) {
         super(simulizarModel.getModel());
@@ -94,6 +96,13 @@ public class InterpreterDefaultContext extends Context {
         return this.localPCMModelCopy;
     }
 
+    /**
+     * @return the pool of switches used by this context to resolve calls between components.
+     */
+    InterpreterSwitchCache getSwitchCache() {
+        return this.switchCache;
+    }
+
     @Override
     public IAssemblyAllocationLookup<AbstractSimulatedResourceContainer> getAssemblyAllocationLookup() {
         return this.assemblyAllocationLookup;
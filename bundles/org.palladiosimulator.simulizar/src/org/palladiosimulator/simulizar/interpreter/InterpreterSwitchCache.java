@@ -0,0 +1,81 @@
+package org.palladiosimulator.simulizar.interpreter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.repository.ProvidedRole;
+import org.palladiosimulator.pcm.repository.RequiredRole;
+import org.palladiosimulator.pcm.repository.Signature;
+
+/**
+ * Pool of the switches used to resolve calls between components, owned by a single
+ * {@link InterpreterDefaultContext}, i.e. by a single simulated thread.
+ *
+ * {@link ComposedStructureInnerSwitch} and {@link RepositoryComponentSwitch} only hold the context
+ * and the call target they were created for and keep no state while interpreting. Hence, a switch
+ * can be reused for every call of the same target by the same simulated thread, including
+ * recursive calls. {@link RDSeffSwitch}es are not pooled, as they collect the results of a single
+ * SEFF invocation.
+ *
+ * As model elements do not override {@link Object#equals(Object)}, all maps are identity based.
+ * The model elements are taken from the context's local PCM model, so the pooled switches never
+ * outlive the model they were created for.
+ */
+class InterpreterSwitchCache {
+
+    private final InterpreterDefaultContext context;
+
+    private final Map<RequiredRole, Map<Signature, ComposedStructureInnerSwitch>> composedStructureSwitches = new HashMap<>();
+    private final Map<ProvidedRole, Map<Signature, Map<AssemblyContext, RepositoryComponentSwitch>>> repositoryComponentSwitches = new HashMap<>();
+
+    InterpreterSwitchCache(final InterpreterDefaultContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Gets the switch resolving calls of the given signature via the given required role.
+     *
+     * @param signature
+     *            the called signature.
+     * @param requiredRole
+     *            the required role the call is issued on.
+     * @return the pooled switch.
+     */
+    ComposedStructureInnerSwitch getComposedStructureInnerSwitch(final Signature signature,
+            final RequiredRole requiredRole) {
+        final Map<Signature, ComposedStructureInnerSwitch> switches = this.composedStructureSwitches
+            .computeIfAbsent(requiredRole, r -> new HashMap<>());
+        ComposedStructureInnerSwitch result = switches.get(signature);
+        if (result == null) {
+            result = new ComposedStructureInnerSwitch(this.context, signature, requiredRole);
+            switches.put(signature, result);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the switch interpreting calls of the given signature provided by the given role of the
+     * component instantiated in the given assembly context.
+     *
+     * @param assemblyContext
+     *            the assembly context of the called component.
+     * @param signature
+     *            the called signature.
+     * @param providedRole
+     *            the provided role which is called.
+     * @return the pooled switch.
+     */
+    RepositoryComponentSwitch getRepositoryComponentSwitch(final AssemblyContext assemblyContext,
+            final Signature signature, final ProvidedRole providedRole) {
+        final Map<AssemblyContext, RepositoryComponentSwitch> switches = this.repositoryComponentSwitches
+            .computeIfAbsent(providedRole, r -> new HashMap<>())
+            .computeIfAbsent(signature, s -> new HashMap<>());
+        RepositoryComponentSwitch result = switches.get(assemblyContext);
+        if (result == null) {
+            result = new RepositoryComponentSwitch(this.context, assemblyContext, signature, providedRole);
+            switches.put(assemblyContext, result);
+        }
+        return result;
+    }
+}
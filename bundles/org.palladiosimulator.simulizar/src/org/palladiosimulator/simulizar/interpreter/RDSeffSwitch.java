@@ -12,15 +12,10 @@ import org.eclipse.emf.common.util.EList;
 import org.eclipse.emf.ecore.util.ComposedSwitch;
 import org.eclipse.emf.ecore.util.Switch;
 import org.palladiosimulator.analyzer.completions.DelegatingExternalCallAction;
-import org.palladiosimulator.pcm.allocation.Allocation;
-import org.palladiosimulator.pcm.allocation.AllocationContext;
 import org.palladiosimulator.pcm.core.PCMRandomVariable;
 import org.palladiosimulator.pcm.core.composition.AssemblyContext;
-import org.palladiosimulator.pcm.core.entity.ResourceProvidedRole;
 import org.palladiosimulator.pcm.repository.Parameter;
-import org.palladiosimulator.pcm.resourceenvironment.ResourceContainer;
 import org.palladiosimulator.pcm.resourcetype.ResourceInterface;
-import org.palladiosimulator.pcm.resourcetype.ResourceRepository;
 import org.palladiosimulator.pcm.resourcetype.ResourceSignature;
 import org.palladiosimulator.pcm.resourcetype.ResourceType;
 import org.palladiosimulator.pcm.seff.AbstractAction;
@@ -47,12 +42,14 @@ import org.palladiosimulator.simulizar.exceptions.SimulatedStackAccessException;
 import org.palladiosimulator.simulizar.interpreter.listener.EventType;
 import org.palladiosimulator.simulizar.interpreter.listener.RDSEFFElementPassedEvent;
 import org.palladiosimulator.simulizar.runtimestate.SimulatedBasicComponentInstance;
+import org.palladiosimulator.simulizar.utils.CompiledStoExCache;
 import org.palladiosimulator.simulizar.utils.SimulatedStackHelper;
 import org.palladiosimulator.simulizar.utils.TransitionDeterminer;
 
-import de.uka.ipd.sdq.simucomframework.ResourceRegistry;
 import de.uka.ipd.sdq.simucomframework.fork.ForkExecutor;
 import de.uka.ipd.sdq.simucomframework.fork.ForkedBehaviourProcess;
+import de.uka.ipd.sdq.simucomframework.resources.AbstractSimulatedResourceContainer;
+import de.uka.ipd.sdq.simucomframework.resources.IAssemblyAllocationLookup;
 import de.uka.ipd.sdq.simucomframework.variables.StackContext;
 import de.uka.ipd.sdq.simucomframework.variables.converter.NumberConverter;
 import de.uka.ipd.sdq.simucomframework.variables.stackframe.SimulatedStackframe;
@@ -71,7 +68,7 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
     private ComposedSwitch<Object> parentSwitch;
     private final TransitionDeterminer transitionDeterminer;
     private final InterpreterDefaultContext context;
-    private final Allocation allocation;
+    private final CompiledStoExCache stoExCache;
 
     private final SimulatedStackframe<Object> resultStackFrame;
 
@@ -89,7 +86,7 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
             final SimulatedBasicComponentInstance basicComponentInstance) {
         super();
         this.context = context;
-        this.allocation = context.getLocalPCMModelAtContextCreation().getAllocation();
+        this.stoExCache = context.getPCMPartitionManager().getCompiledStoExCache();
         this.transitionDeterminer = new TransitionDeterminer(context);
         this.resultStackFrame = new SimulatedStackframe<Object>();
         this.basicComponentInstance = basicComponentInstance;
@@ -192,13 +189,12 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
     private void interpretInfrastructureCalls(final InternalAction internalAction) {
         for (final InfrastructureCall infrastructureCall : internalAction.getInfrastructureCall__Action()) {
             final SimulatedStackframe<Object> currentStackFrame = this.context.getStack().currentStackFrame();
-            final int repetitions = StackContext.evaluateStatic(
-                    infrastructureCall.getNumberOfCalls__InfrastructureCall().getSpecification(), Integer.class,
-                    currentStackFrame);
+            final int repetitions = this.stoExCache.evaluate(
+                    infrastructureCall.getNumberOfCalls__InfrastructureCall(), Integer.class, currentStackFrame);
             for (int i = 0; i < repetitions; i++) {
-                final ComposedStructureInnerSwitch composedStructureSwitch = new ComposedStructureInnerSwitch(
-                        this.context, infrastructureCall.getSignature__InfrastructureCall(),
-                        infrastructureCall.getRequiredRole__InfrastructureCall());
+                final ComposedStructureInnerSwitch composedStructureSwitch = this.context.getSwitchCache()
+                        .getComposedStructureInnerSwitch(infrastructureCall.getSignature__InfrastructureCall(),
+                                infrastructureCall.getRequiredRole__InfrastructureCall());
 
                 // create new stack frame for input parameter
                 SimulatedStackHelper.createAndPushNewStackFrame(this.context.getStack(),
@@ -230,8 +226,9 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
      */
     @Override
     public Object caseExternalCallAction(final ExternalCallAction externalCall) {
-        final ComposedStructureInnerSwitch composedStructureSwitch = new ComposedStructureInnerSwitch(this.context,
-                externalCall.getCalledService_ExternalService(), externalCall.getRole_ExternalService());
+        final ComposedStructureInnerSwitch composedStructureSwitch = this.context.getSwitchCache()
+                .getComposedStructureInnerSwitch(externalCall.getCalledService_ExternalService(),
+                        externalCall.getRole_ExternalService());
 
         if (externalCall instanceof DelegatingExternalCallAction) {
             final SimulatedStackframe<Object> currentFrame = this.context.getStack().currentStackFrame();
@@ -347,10 +344,9 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
     @Override
     public Object caseLoopAction(final LoopAction object) {
         final PCMRandomVariable iterationCount = object.getIterationCount_LoopAction();
-        final String stoex = iterationCount.getSpecification();
 
         // we expect an int here
-        final int numberOfLoops = StackContext.evaluateStatic(stoex, Integer.class,
+        final int numberOfLoops = this.stoExCache.evaluate(iterationCount, Integer.class,
                 this.context.getStack().currentStackFrame());
 
         if (LOGGER.isDebugEnabled()) {
@@ -426,8 +422,9 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
      * @param eventType
      */
     private <T extends AbstractAction> void firePassedEvent(final T abstractAction, final EventType eventType) {
-        this.context.getRuntimeState().getEventNotificationHelper().firePassedEvent(new RDSEFFElementPassedEvent<T>(
-                abstractAction, eventType, this.context, this.context.getAssemblyContextStack().peek()));
+        this.context.getRuntimeState().getEventNotificationHelper().firePassedEvent(abstractAction,
+                () -> new RDSEFFElementPassedEvent<T>(abstractAction, eventType, this.context,
+                        this.context.getAssemblyContextStack().peek()));
     }
 
     /**
@@ -609,21 +606,18 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
      * 				The internal action containing the resource demand
      */
     private void interpretResourceDemands(final InternalAction internalAction) {
-        final AllocationContext allocationContext = this.getAllocationContext(this.allocation);
-        final ResourceContainer resourceContainer = allocationContext.getResourceContainer_AllocationContext();
+        final AbstractSimulatedResourceContainer resourceContainer = this.getAllocatedResourceContainer();
 
         for (final ParametricResourceDemand parametricResourceDemand : internalAction.getResourceDemand_Action()) {
 
-            final ResourceRegistry resourceRegistry = this.context.getModel().getResourceRegistry();
             final String idRequiredResourceType = parametricResourceDemand
                     .getRequiredResource_ParametricResourceDemand().getId();
-            final String specification = parametricResourceDemand.getSpecification_ParametericResourceDemand()
-                    .getSpecification();
             final SimulatedStackframe<Object> currentStackFrame = this.context.getStack().currentStackFrame();
-            final Double value = StackContext.evaluateStatic(specification, Double.class, currentStackFrame);
+            final Double value = this.stoExCache.evaluate(
+                    parametricResourceDemand.getSpecification_ParametericResourceDemand(), Double.class,
+                    currentStackFrame);
 
-            resourceRegistry.getResourceContainer(resourceContainer.getId())
-            .loadActiveResource(this.context.getThread(), idRequiredResourceType, value);
+            resourceContainer.loadActiveResource(this.context.getThread(), idRequiredResourceType, value);
 
         }
     }
@@ -633,41 +627,29 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
      * @param internalAction
      */
     private void interpretResourceCall(final InternalAction internalAction) {
-        final AllocationContext allocationContext = this.getAllocationContext(this.allocation);
-        final ResourceContainer resourceContainer = allocationContext.getResourceContainer_AllocationContext();
+        final AbstractSimulatedResourceContainer resourceContainer = this.getAllocatedResourceContainer();
 
         for (final ResourceCall resourceCall : internalAction.getResourceCall__Action()) {
 
             // find the corresponding resource type which was invoked by the resource call
             final ResourceInterface resourceInterface = resourceCall.getSignature__ResourceCall()
                     .getResourceInterface__ResourceSignature();
-            final ResourceRepository resourceRepository = resourceInterface.getResourceRepository__ResourceInterface();
-            ResourceType currentResourceType = null;
-
-            for (final ResourceType resourceType : resourceRepository.getAvailableResourceTypes_ResourceRepository()) {
-                for (final ResourceProvidedRole resourceProvidedRole : resourceType
-                        .getResourceProvidedRoles__ResourceInterfaceProvidingEntity()) {
-                    if (resourceProvidedRole.getProvidedResourceInterface__ResourceProvidedRole().getId()
-                            .equals(resourceInterface.getId())) {
-                        currentResourceType = resourceType;
-                        break;
-                    }
-                }
+            final ResourceType currentResourceType = this.context.getPCMPartitionManager().getResourceTypeCache()
+                    .getProvidingResourceType(resourceInterface);
+            if (currentResourceType == null) {
+                throw new PCMModelAccessException(
+                        "No ResourceType provides the ResourceInterface " + resourceInterface + " of " + resourceCall);
             }
 
             final ResourceSignature resourceSignature = resourceCall.getSignature__ResourceCall();
             final int resourceServiceId = resourceSignature.getResourceServiceId();
 
             final SimulatedStackframe<Object> currentStackFrame = this.context.getStack().currentStackFrame();
-            final Double evaluatedDemand = NumberConverter.toDouble(
-                    StackContext.evaluateStatic(resourceCall.getNumberOfCalls__ResourceCall().getSpecification(),
-                            Double.class, currentStackFrame));
+            final Double evaluatedDemand = NumberConverter.toDouble(this.stoExCache
+                    .evaluate(resourceCall.getNumberOfCalls__ResourceCall(), Double.class, currentStackFrame));
             final String idRequiredResourceType = currentResourceType.getId();
 
-            final ResourceRegistry resourceRegistry = this.context.getModel().getResourceRegistry();
-
-            resourceRegistry.getResourceContainer(resourceContainer.getId())
-            .loadActiveResource(this.context.getThread(), resourceServiceId, idRequiredResourceType,
+            resourceContainer.loadActiveResource(this.context.getThread(), resourceServiceId, idRequiredResourceType,
                     evaluatedDemand);
 
         }
@@ -675,30 +657,30 @@ class RDSeffSwitch extends SeffSwitch<Object> implements IComposableSwitch {
 
 
     /**
-     * Gets the allocation context for the current assembly context stack. The stack is investigated
-     * in a FIFO-manner, i.e., first upper elements are checked. This is needed for the case of sub
-     * systems.
+     * Gets the simulated resource container the current assembly context stack is allocated to. The
+     * stack is investigated in a FIFO-manner, i.e., first upper elements are checked. This is needed
+     * for the case of sub systems. The containers are resolved through the allocation lookup of the
+     * context, which keeps an ID-keyed index of the allocation in sync with the global PCM model.
      *
-     * @param allocation
-     *            The allocation to find a suitable allocation context in.
-     * @return The allocation context.
+     * @return The simulated resource container.
      * @throws PCMModelAccessException
-     *             if no allocation context could be found.
+     *             if no allocated resource container could be found.
      */
-    private AllocationContext getAllocationContext(final Allocation allocation) {
+    private AbstractSimulatedResourceContainer getAllocatedResourceContainer() {
+        final IAssemblyAllocationLookup<AbstractSimulatedResourceContainer> allocationLookup = this.context
+                .getAssemblyAllocationLookup();
         // For iterating top-down through a stack see:
         // http://stackoverflow.com/questions/16992758/is-there-a-bug-in-java-util-stacks-iterator
-        for (final AllocationContext allocationContext : allocation.getAllocationContexts_Allocation()) {
-            for (final ListIterator<AssemblyContext> iterator = this.context.getAssemblyContextStack()
-                    .listIterator(this.context.getAssemblyContextStack().size()); iterator.hasPrevious();) {
-                if (allocationContext.getAssemblyContext_AllocationContext().getId()
-                        .equals(iterator.previous().getId())) {
-                    return allocationContext;
-                }
+        for (final ListIterator<AssemblyContext> iterator = this.context.getAssemblyContextStack()
+                .listIterator(this.context.getAssemblyContextStack().size()); iterator.hasPrevious();) {
+            final AbstractSimulatedResourceContainer resourceContainer = allocationLookup
+                    .getAllocatedEntity(iterator.previous().getId());
+            if (resourceContainer != null) {
+                return resourceContainer;
             }
         }
 
-        throw new PCMModelAccessException("No AllocationContext in Allocation " + allocation + " for AssemblyContext "
+        throw new PCMModelAccessException("No AllocationContext for AssemblyContext "
                 + this.context.getAssemblyContextStack().peek() + " or its parents.");
     }
 
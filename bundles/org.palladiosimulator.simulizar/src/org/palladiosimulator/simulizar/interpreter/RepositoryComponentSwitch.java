@@ -1,9 +1,8 @@
 package org.palladiosimulator.simulizar.interpreter;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.Stack;
 import java.util.stream.Collectors;
 
 import org.apache.log4j.Logger;
@@ -51,6 +50,8 @@ class RepositoryComponentSwitch extends RepositorySwitch<SimulatedStackframe<Obj
     public static final String RDSEFFSWITCH_EXTENSION_POINT_ID = "org.palladiosimulator.simulizar.interpreter.rdseffswitch";
     public static final String RDSEFFSWITCH_EXTENSION_ATTRIBUTE = "rdseffswitch";
 
+    private static volatile List<AbstractRDSeffSwitchFactory> rdseffSwitchFactories;
+
     private final Signature signature;
     private final ProvidedRole providedRole;
     private final InterpreterDefaultContext context;
@@ -125,7 +126,7 @@ class RepositoryComponentSwitch extends RepositorySwitch<SimulatedStackframe<Obj
                 LOGGER.debug("FQComponentID is " + fqID);
             }
             this.context.getRuntimeState().getComponentInstanceRegistry().addComponentInstance(
-                    new SimulatedCompositeComponentInstance(this.context.getRuntimeState(), fqID.getFQIDString()));
+                    new SimulatedCompositeComponentInstance(this.context.getRuntimeState(), fqID));
         }
 
         if (entity != this.providedRole.getProvidingEntity_ProvidedRole()) {
@@ -133,9 +134,11 @@ class RepositoryComponentSwitch extends RepositorySwitch<SimulatedStackframe<Obj
         }
         final ProvidedDelegationConnector connectedProvidedDelegationConnector = getConnectedProvidedDelegationConnector(
                 this.providedRole);
-        final RepositoryComponentSwitch repositoryComponentSwitch = new RepositoryComponentSwitch(this.context,
-                connectedProvidedDelegationConnector.getAssemblyContext_ProvidedDelegationConnector(), this.signature,
-                connectedProvidedDelegationConnector.getInnerProvidedRole_ProvidedDelegationConnector());
+        final RepositoryComponentSwitch repositoryComponentSwitch = this.context.getSwitchCache()
+                .getRepositoryComponentSwitch(
+                        connectedProvidedDelegationConnector.getAssemblyContext_ProvidedDelegationConnector(),
+                        this.signature,
+                        connectedProvidedDelegationConnector.getInnerProvidedRole_ProvidedDelegationConnector());
         return repositoryComponentSwitch
                 .doSwitch(connectedProvidedDelegationConnector.getInnerProvidedRole_ProvidedDelegationConnector());
     }
@@ -148,21 +151,23 @@ class RepositoryComponentSwitch extends RepositorySwitch<SimulatedStackframe<Obj
         this.context.getAssemblyContextStack().push(this.instanceAssemblyContext == SYSTEM_ASSEMBLY_CONTEXT
                 ? this.generateSystemAssemblyContext(providedRole) : this.instanceAssemblyContext);
         
-        this.context.getRuntimeState().getEventNotificationHelper().firePassedEvent(
-        	new AssemblyProvidedOperationPassedEvent<ProvidedRole, Signature>(providedRole, 
-        			EventType.BEGIN, this.context, this.signature, this.instanceAssemblyContext));
+        this.firePassedEvent(providedRole, EventType.BEGIN);
 
         final SimulatedStackframe<Object> result = this.doSwitch(providedRole.getProvidingEntity_ProvidedRole());
 
         this.context.getAssemblyContextStack().pop();
         
-        this.context.getRuntimeState().getEventNotificationHelper().firePassedEvent(
-            	new AssemblyProvidedOperationPassedEvent<ProvidedRole, Signature>(providedRole, 
-            			EventType.END, this.context, this.signature, this.instanceAssemblyContext));
+        this.firePassedEvent(providedRole, EventType.END);
         
         return result;
     }
 
+    private void firePassedEvent(final ProvidedRole providedRole, final EventType eventType) {
+        this.context.getRuntimeState().getEventNotificationHelper().firePassedEvent(providedRole,
+                () -> new AssemblyProvidedOperationPassedEvent<ProvidedRole, Signature>(providedRole, eventType,
+                        this.context, this.signature, this.instanceAssemblyContext));
+    }
+
     private AssemblyContext generateSystemAssemblyContext(final ProvidedRole providedRole2) {
         final AssemblyContext result = CompositionFactory.eINSTANCE.createAssemblyContext();
         result.setEntityName(this.providedRole.getProvidingEntity_ProvidedRole().getEntityName());
@@ -213,8 +218,7 @@ class RepositoryComponentSwitch extends RepositorySwitch<SimulatedStackframe<Obj
             final SimulatedBasicComponentInstance basicComponentInstance = (SimulatedBasicComponentInstance) this.context
                     .getRuntimeState().getComponentInstanceRegistry().getComponentInstance(componentID);
             
-            final List<AbstractRDSeffSwitchFactory> switchFactories = ExtensionHelper
-            		.getExecutableExtensions(RDSEFFSWITCH_EXTENSION_POINT_ID, RDSEFFSWITCH_EXTENSION_ATTRIBUTE);
+            final List<AbstractRDSeffSwitchFactory> switchFactories = getRDSeffSwitchFactories();
             final  ExplicitDispatchComposedSwitch<Object> interpreter = new ExplicitDispatchComposedSwitch<Object>();
             switchFactories.stream().forEach(s -> interpreter.addSwitch(
             		s.createRDSeffSwitch(this.context, basicComponentInstance, interpreter)));
@@ -225,17 +229,25 @@ class RepositoryComponentSwitch extends RepositorySwitch<SimulatedStackframe<Obj
         }
     }
 
-    private FQComponentID computeFQComponentID() {
-        return new FQComponentID(this.computeAssemblyContextPath());
+    /**
+     * The factories registered at the RDSEFF switch extension point are stateless, so they are
+     * looked up and instantiated only once instead of on every SEFF call.
+     *
+     * @return the RDSEFF switch factories registered at the extension point.
+     */
+    private static List<AbstractRDSeffSwitchFactory> getRDSeffSwitchFactories() {
+        List<AbstractRDSeffSwitchFactory> factories = rdseffSwitchFactories;
+        if (factories == null) {
+            factories = Collections.unmodifiableList(ExtensionHelper
+                .getExecutableExtensions(RDSEFFSWITCH_EXTENSION_POINT_ID, RDSEFFSWITCH_EXTENSION_ATTRIBUTE));
+            rdseffSwitchFactories = factories;
+        }
+        return factories;
     }
 
-    private List<AssemblyContext> computeAssemblyContextPath() {
-        final Stack<AssemblyContext> stack = this.context.getAssemblyContextStack();
-        final ArrayList<AssemblyContext> result = new ArrayList<AssemblyContext>(stack.size());
-        for (int i = 0; i < stack.size(); i++) {
-            result.add(stack.get(i));
-        }
-        return result;
+    private FQComponentID computeFQComponentID() {
+        return this.context.getRuntimeState().getComponentInstanceRegistry()
+                .getFQComponentID(this.context.getAssemblyContextStack());
     }
     
     private Optional<AssemblyContext> getNestedComponentInstanceFromAssembly(AssemblyContext contextToFind, AssemblyContext compositeAssembly) {
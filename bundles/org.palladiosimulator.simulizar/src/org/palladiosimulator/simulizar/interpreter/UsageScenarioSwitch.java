@@ -1,7 +1,7 @@
 package org.palladiosimulator.simulizar.interpreter;
 
 import org.apache.log4j.Logger;
-import org.palladiosimulator.pcm.repository.OperationSignature;
+import org.eclipse.emf.ecore.EObject;
 import org.palladiosimulator.pcm.usagemodel.AbstractUserAction;
 import org.palladiosimulator.pcm.usagemodel.Branch;
 import org.palladiosimulator.pcm.usagemodel.BranchTransition;
@@ -15,11 +15,10 @@ import org.palladiosimulator.pcm.usagemodel.util.UsagemodelSwitch;
 import org.palladiosimulator.simulizar.exceptions.PCMModelInterpreterException;
 import org.palladiosimulator.simulizar.interpreter.listener.EventType;
 import org.palladiosimulator.simulizar.interpreter.listener.ModelElementPassedEvent;
+import org.palladiosimulator.simulizar.utils.CompiledStoExCache;
 import org.palladiosimulator.simulizar.utils.SimulatedStackHelper;
 import org.palladiosimulator.simulizar.utils.TransitionDeterminer;
 
-import de.uka.ipd.sdq.simucomframework.variables.StackContext;
-
 /**
  * Switch for Usage Scenario in Usage Model
  *
@@ -35,6 +34,7 @@ public class UsageScenarioSwitch<T> extends UsagemodelSwitch<T> {
 
     private final InterpreterDefaultContext context;
     private final TransitionDeterminer transitionDeterminer;
+    private final CompiledStoExCache stoExCache;
 
     /**
      * Constructor
@@ -45,6 +45,7 @@ public class UsageScenarioSwitch<T> extends UsagemodelSwitch<T> {
     public UsageScenarioSwitch(final InterpreterDefaultContext context) {
         this.context = context;
         this.transitionDeterminer = new TransitionDeterminer(context);
+        this.stoExCache = context.getPCMPartitionManager().getCompiledStoExCache();
     }
 
     /**
@@ -68,8 +69,7 @@ public class UsageScenarioSwitch<T> extends UsagemodelSwitch<T> {
     @Override
     public T caseDelay(final Delay object) {
         // determine delay
-        final double delay = StackContext.evaluateStatic(object.getTimeSpecification_Delay().getSpecification(),
-                Double.class);
+        final double delay = this.stoExCache.evaluate(object.getTimeSpecification_Delay(), Double.class, null);
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debug("Start delay " + delay + " @ simulation time "
                     + this.context.getModel().getSimulationControl().getCurrentSimulationTime());
@@ -88,21 +88,16 @@ public class UsageScenarioSwitch<T> extends UsagemodelSwitch<T> {
      */
     @Override
     public T caseEntryLevelSystemCall(final EntryLevelSystemCall entryLevelSystemCall) {
-        final RepositoryComponentSwitch providedDelegationSwitch = new RepositoryComponentSwitch(this.context,
-                RepositoryComponentSwitch.SYSTEM_ASSEMBLY_CONTEXT,
-                entryLevelSystemCall.getOperationSignature__EntryLevelSystemCall(),
-                entryLevelSystemCall.getProvidedRole_EntryLevelSystemCall());
+        final RepositoryComponentSwitch providedDelegationSwitch = this.context.getSwitchCache()
+                .getRepositoryComponentSwitch(RepositoryComponentSwitch.SYSTEM_ASSEMBLY_CONTEXT,
+                        entryLevelSystemCall.getOperationSignature__EntryLevelSystemCall(),
+                        entryLevelSystemCall.getProvidedRole_EntryLevelSystemCall());
 
-        this.context.getRuntimeState().getEventNotificationHelper()
-                .firePassedEvent(new ModelElementPassedEvent<EntryLevelSystemCall>(entryLevelSystemCall,
-                        EventType.BEGIN, this.context));
+        this.firePassedEvent(entryLevelSystemCall, EventType.BEGIN);
 
         // FIXME We stick to single model elements here even though several would be needed to
         // uniquely identify the measuring point of interest (system + role + signature) [Lehrig]
-        this.context.getRuntimeState().getEventNotificationHelper()
-                .firePassedEvent(new ModelElementPassedEvent<OperationSignature>(
-                        entryLevelSystemCall.getOperationSignature__EntryLevelSystemCall(), EventType.BEGIN,
-                        this.context));
+        this.firePassedEvent(entryLevelSystemCall.getOperationSignature__EntryLevelSystemCall(), EventType.BEGIN);
 
         // create new stack frame for input parameter
         SimulatedStackHelper.createAndPushNewStackFrame(this.context.getStack(),
@@ -110,16 +105,11 @@ public class UsageScenarioSwitch<T> extends UsagemodelSwitch<T> {
         providedDelegationSwitch.doSwitch(entryLevelSystemCall.getProvidedRole_EntryLevelSystemCall());
         this.context.getStack().removeStackFrame();
 
-        this.context.getRuntimeState().getEventNotificationHelper()
-                .firePassedEvent(new ModelElementPassedEvent<EntryLevelSystemCall>(entryLevelSystemCall, EventType.END,
-                        this.context));
+        this.firePassedEvent(entryLevelSystemCall, EventType.END);
 
         // FIXME We stick to single model elements here even though several would be needed to
         // uniquely identify the measuring point of interest (system + role + signature) [Lehrig]
-        this.context.getRuntimeState().getEventNotificationHelper()
-                .firePassedEvent(new ModelElementPassedEvent<OperationSignature>(
-                        entryLevelSystemCall.getOperationSignature__EntryLevelSystemCall(), EventType.END,
-                        this.context));
+        this.firePassedEvent(entryLevelSystemCall.getOperationSignature__EntryLevelSystemCall(), EventType.END);
 
         return super.caseEntryLevelSystemCall(entryLevelSystemCall);
     }
@@ -130,8 +120,7 @@ public class UsageScenarioSwitch<T> extends UsagemodelSwitch<T> {
     @Override
     public T caseLoop(final Loop object) {
         // determine number of loops
-        final int numberOfLoops = StackContext.evaluateStatic(object.getLoopIteration_Loop().getSpecification(),
-                Integer.class);
+        final int numberOfLoops = this.stoExCache.evaluate(object.getLoopIteration_Loop(), Integer.class, null);
         for (int i = 0; i < numberOfLoops; i++) {
             LOGGER.debug("Interpret loop number " + i);
             this.doSwitch(object.getBodyBehaviour_Loop());
@@ -201,15 +190,26 @@ public class UsageScenarioSwitch<T> extends UsagemodelSwitch<T> {
      */
     @Override
     public T caseUsageScenario(final UsageScenario usageScenario) {
-        this.context.getRuntimeState().getEventNotificationHelper().firePassedEvent(
-                new ModelElementPassedEvent<UsageScenario>(usageScenario, EventType.BEGIN, this.context));
+        this.firePassedEvent(usageScenario, EventType.BEGIN);
         final int stacksize = this.context.getStack().size();
         this.doSwitch(usageScenario.getScenarioBehaviour_UsageScenario());
         if (this.context.getStack().size() != stacksize) {
             throw new PCMModelInterpreterException("Interpreter did not pop all pushed stackframes");
         }
-        this.context.getRuntimeState().getEventNotificationHelper().firePassedEvent(
-                new ModelElementPassedEvent<UsageScenario>(usageScenario, EventType.END, this.context));
+        this.firePassedEvent(usageScenario, EventType.END);
         return super.caseUsageScenario(usageScenario);
     }
+
+    /**
+     * Fires a passed event for the given model element, unless no listener observes the element.
+     *
+     * @param modelElement
+     *            the passed model element.
+     * @param eventType
+     *            the type of the event.
+     */
+    private <E extends EObject> void firePassedEvent(final E modelElement, final EventType eventType) {
+        this.context.getRuntimeState().getEventNotificationHelper().firePassedEvent(modelElement,
+                () -> new ModelElementPassedEvent<E>(modelElement, eventType, this.context));
+    }
 }
@@ -4,9 +4,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -24,9 +26,12 @@ import org.palladiosimulator.monitorrepository.MonitorRepositoryPackage;
 import org.palladiosimulator.monitorrepository.ProcessingType;
 import org.palladiosimulator.pcm.core.entity.Entity;
 import org.palladiosimulator.pcm.repository.OperationSignature;
+import org.palladiosimulator.pcm.repository.RepositoryPackage;
 import org.palladiosimulator.pcm.seff.ExternalCallAction;
+import org.palladiosimulator.pcm.seff.SeffPackage;
 import org.palladiosimulator.pcm.usagemodel.EntryLevelSystemCall;
 import org.palladiosimulator.pcm.usagemodel.UsageScenario;
+import org.palladiosimulator.pcm.usagemodel.UsagemodelPackage;
 import org.palladiosimulator.probeframework.calculator.ICalculatorFactory;
 import org.palladiosimulator.probeframework.probes.Probe;
 import org.palladiosimulator.probeframework.probes.TriggeredProbe;
@@ -48,6 +53,14 @@ public abstract class AbstractProbeFrameworkListener extends AbstractInterpreter
     private static final int START_PROBE_INDEX = 0;
     private static final int STOP_PROBE_INDEX = 1;
 
+    /**
+     * The element types for which response time measurements are taken, i.e. usage scenarios,
+     * entry level system calls, system operation calls and external calls.
+     */
+    private static final Set<EClass> RESPONSE_TIME_MEASURED_TYPES = Set.of(
+            UsagemodelPackage.Literals.USAGE_SCENARIO, UsagemodelPackage.Literals.ENTRY_LEVEL_SYSTEM_CALL,
+            RepositoryPackage.Literals.OPERATION_SIGNATURE, SeffPackage.Literals.EXTERNAL_CALL_ACTION);
+
     protected final SimuComModel simuComModel;
     protected final ICalculatorFactory calculatorFactory;
     protected final Reconfigurator reconfigurator;
@@ -55,6 +68,13 @@ public abstract class AbstractProbeFrameworkListener extends AbstractInterpreter
 
     private final Map<String, List<TriggeredProbe>> currentTimeProbes = new HashMap<String, List<TriggeredProbe>>();
 
+    /**
+     * The element types whose passed events are observed by this listener. Subclasses overriding
+     * further interpreter hooks add the element types of these hooks in their constructor, i.e.
+     * before the listener is registered.
+     */
+    protected final Set<EClass> observedElementTypes = new HashSet<EClass>(RESPONSE_TIME_MEASURED_TYPES);
+
     /**
      * @param modelAccessFactory
      *            Provides access to simulated models
@@ -74,6 +94,37 @@ public abstract class AbstractProbeFrameworkListener extends AbstractInterpreter
         this.initExtensionMeasurements();
     }
 
+    /**
+     * Only elements of the {@link #observedElementTypes} are observed.
+     */
+    @Override
+    public boolean isObservingElementType(final EClass elementType) {
+        for (final EClass observedElementType : this.observedElementTypes) {
+            if (observedElementType.isSuperTypeOf(elementType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Elements for which response time measurements are taken are only observed if they have a
+     * measuring point, i.e. start and stop probes. Elements of other observed types are always
+     * observed.
+     */
+    @Override
+    public boolean isObservingElement(final EObject element) {
+        if (element instanceof Entity && this.currentTimeProbes.containsKey(((Entity) element).getId())) {
+            return true;
+        }
+        for (final EClass responseTimeMeasuredType : RESPONSE_TIME_MEASURED_TYPES) {
+            if (responseTimeMeasuredType.isSuperTypeOf(element.eClass())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private void initExtensionMeasurements() {
         Iterable<AbstractRecordingProbeFrameworkListenerDecorator> extensions = ExtensionHelper.getExecutableExtensions(
                 "org.palladiosimulator.simulizar.interpreter.listener.probeframework", "decorator");
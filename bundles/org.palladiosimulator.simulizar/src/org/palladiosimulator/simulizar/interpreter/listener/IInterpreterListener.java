@@ -1,5 +1,6 @@
 package org.palladiosimulator.simulizar.interpreter.listener;
 
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.palladiosimulator.pcm.repository.OperationSignature;
 import org.palladiosimulator.pcm.repository.ProvidedRole;
@@ -10,6 +11,36 @@ import org.palladiosimulator.pcm.usagemodel.UsageScenario;
 
 public interface IInterpreterListener {
 
+    /**
+     * Declares whether this listener is interested in passed events of model elements of the given
+     * type at all. The answer is evaluated once per element type when the listener is registered,
+     * so it must not change afterwards. Events of types no registered listener is interested in
+     * are neither created nor dispatched by the interpreter.
+     *
+     * @param elementType
+     *            the {@link EClass} of the passed model element.
+     * @return {@code true} if events of elements of the given type should be passed to this
+     *         listener. The default implementation accepts all types.
+     */
+    public default boolean isObservingElementType(final EClass elementType) {
+        return true;
+    }
+
+    /**
+     * Declares whether this listener is interested in passed events of the given model element.
+     * Only called for elements whose type is accepted by {@link #isObservingElementType(EClass)}.
+     * In contrast to the type filter, the answer is evaluated whenever an element is passed and may
+     * change during the simulation, e.g. if measurements are added.
+     *
+     * @param element
+     *            the passed model element.
+     * @return {@code true} if events of the given element should be passed to this listener. The
+     *         default implementation accepts all elements.
+     */
+    public default boolean isObservingElement(final EObject element) {
+        return true;
+    }
+
     public void beginUsageScenarioInterpretation(ModelElementPassedEvent<UsageScenario> event);
 
     public void endUsageScenarioInterpretation(ModelElementPassedEvent<UsageScenario> event);
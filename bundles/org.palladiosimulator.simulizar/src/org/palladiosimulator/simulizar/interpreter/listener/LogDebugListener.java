@@ -25,6 +25,14 @@ public class LogDebugListener extends AbstractInterpreterListener {
         super();
     }
 
+    /**
+     * Nothing is logged unless debug logging is enabled, so avoid creating the events otherwise.
+     */
+    @Override
+    public boolean isObservingElement(final EObject element) {
+        return LOGGER.isDebugEnabled();
+    }
+
     /*
      * (non-Javadoc)
      *
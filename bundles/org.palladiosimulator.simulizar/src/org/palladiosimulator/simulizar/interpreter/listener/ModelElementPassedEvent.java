@@ -13,11 +13,29 @@ public class ModelElementPassedEvent<T extends EObject> {
     private final Context context;
     
     public ModelElementPassedEvent(final T modelElement, final EventType eventType, final Context context) {
+        this(modelElement, eventType, context,
+                context.getThread().getModel().getSimulationControl().getCurrentSimulationTime());
+    }
+
+    /**
+     * Creates an event which has been passed at the given simulation time.
+     *
+     * @param modelElement
+     *            the passed model element.
+     * @param eventType
+     *            whether the interpretation of the element begins or ends.
+     * @param context
+     *            the interpreter context of the passing thread.
+     * @param passageTime
+     *            the simulation time at which the element has been passed.
+     */
+    public ModelElementPassedEvent(final T modelElement, final EventType eventType, final Context context,
+            final double passageTime) {
         super();
         this.modelElement = modelElement;
         this.context = context;
         this.eventType = eventType;
-        this.passageTime = context.getThread().getModel().getSimulationControl().getCurrentSimulationTime();
+        this.passageTime = passageTime;
     }
 
     /**
@@ -15,6 +15,12 @@ public class RDSEFFElementPassedEvent<T extends EObject> extends ModelElementPas
         this.assemblyContext = assemblyContext;
     }
 
+    public RDSEFFElementPassedEvent(final T modelElement, final EventType eventType, final Context context,
+            final AssemblyContext assemblyContext, final double passageTime) {
+        super(modelElement, eventType, context, passageTime);
+        this.assemblyContext = assemblyContext;
+    }
+
     /**
      * @return the assemblyContext
      */
@@ -41,7 +41,7 @@ public class EvaluateResultsJob extends SequentialBlackboardInteractingJob<MDSDB
 
 	private final Logger LOGGER = Logger.getLogger(EvaluateResultsJob.class);
 	private final SimuLizarWorkflowConfiguration configuration;
-	private ExperimentSetting experimentSetting;
+	private ExperimentRun experimentRun;
 	private EList<ServiceLevelObjective> serviceLevelObjectives;
 
 	public EvaluateResultsJob(final SimuLizarWorkflowConfiguration configuration) {
@@ -68,13 +68,12 @@ public class EvaluateResultsJob extends SequentialBlackboardInteractingJob<MDSDB
 
 			final Repository repository = RepositoryManager.getRepositoryFromUUID(repositoryId);
 			final ExperimentGroup experimentGroup = this.getExperimentGroup(repository, basename);
-			this.experimentSetting = this.getExperimentSetting(experimentGroup, variation);
+			final ExperimentSetting experimentSetting = this.getExperimentSetting(experimentGroup, variation);
+			final int lastExperiment = experimentSetting.getExperimentRuns().size() - 1;
+			this.experimentRun = experimentSetting.getExperimentRuns().get(lastExperiment);
 
 			this.LOGGER.info("Evaluating data in repository " + repository.getId() + " in experiment run " + basename);
 
-			final int lastExperiment = this.experimentSetting.getExperimentRuns().size() - 1;
-			this.experimentSetting.getExperimentRuns().get(lastExperiment);
-
 			final double[] sloViolations = this.computeSloViolations();
 			if (sloViolations[1] == 0) {
 				this.LOGGER.info("THE STATE WITH NO SLO VIOLATIONS WAS REACHED.");
@@ -110,9 +109,6 @@ public class EvaluateResultsJob extends SequentialBlackboardInteractingJob<MDSDB
 	 * @return In Order: number of Measurements, number of SLOs, number of Failures, average fulfillment Grade
 	 */
 	private double[] computeSloViolations() {
-		final int lastExperiment = this.experimentSetting.getExperimentRuns().size() - 1;
-		final ExperimentRun experimentRun = this.experimentSetting.getExperimentRuns().get(lastExperiment);
-
 		double totalMeasurements = 0;
 		double sloViolations = 0;
 		double sloGradeSum = 0;
@@ -120,7 +116,7 @@ public class EvaluateResultsJob extends SequentialBlackboardInteractingJob<MDSDB
 
 		for (final ServiceLevelObjective serviceLevelObjective : this.serviceLevelObjectives) {
 			numberOfSlos++;
-			final Measurement measurement = this.findMeasurement(experimentRun.getMeasurement(), serviceLevelObjective);
+			final Measurement measurement = this.findMeasurement(this.experimentRun.getMeasurement(), serviceLevelObjective);
 			final RawMeasurements rawMeasurements = measurement.getMeasurementRanges().get(0).getRawMeasurements();
 
 			final Map<String, Object> properties = new HashMap<String, Object>(1);
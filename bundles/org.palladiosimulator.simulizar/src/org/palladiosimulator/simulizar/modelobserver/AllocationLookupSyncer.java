@@ -16,6 +16,7 @@ import org.palladiosimulator.pcm.allocation.AllocationContext;
 import org.palladiosimulator.pcm.allocation.AllocationPackage;
 import org.palladiosimulator.pcm.core.composition.AssemblyContext;
 import org.palladiosimulator.pcm.repository.CompositeComponent;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceContainer;
 import org.palladiosimulator.simulizar.runtimestate.AbstractSimuLizarRuntimeState;
 import org.palladiosimulator.simulizar.runtimestate.FQComponentID;
 
@@ -33,6 +34,11 @@ import de.uka.ipd.sdq.simucomframework.resources.ISimulatedModelEntityAccess;
  * syncer also supports nested assembly contexts through the usage of
  * <code>FQComponentID</code>s.
  * 
+ * The interpreter resolves the resource container of the current assembly
+ * context stack through this lookup, so the mapping is kept up to date with
+ * added and removed allocation contexts as well as with allocation contexts
+ * which are moved to a different resource container during reconfiguration.
+ * 
  * LIMITATION: Due to the way the listener is currently registered, changes to
  * CompositeComponents will not trigger notifications. If this feature is
  * required the syncer also needs to listen to changes in the repository model.
@@ -42,7 +48,7 @@ import de.uka.ipd.sdq.simucomframework.resources.ISimulatedModelEntityAccess;
  */
 public class AllocationLookupSyncer extends AbstractModelObserver<Allocation>
         implements IAssemblyAllocationLookup<AbstractSimulatedResourceContainer> {
-    private final Map<String, AbstractSimulatedResourceContainer> simulatedContainerStorage = new HashMap<>();
+    private final Map<String, ResourceContainer> allocatedContainerStorage = new HashMap<>();
     private final ISimulatedModelEntityAccess<Identifier, AbstractSimulatedResourceContainer> resourceContainerAccess;
 
     /**
@@ -73,11 +79,20 @@ public class AllocationLookupSyncer extends AbstractModelObserver<Allocation>
      * hierarchy of <code>CompositeComponent</code>s, the lookup needs to be done
      * using the string representation of the <code>FQComponentID</code>.
      * 
-     * @return the simulated resource container
+     * The simulated container is resolved on lookup, as the simulated resource
+     * containers are created by the resource environment syncer after this syncer
+     * has been initialized.
+     * 
+     * @return the simulated resource container, or <code>null</code> if the
+     *         assembly context is not allocated.
      */
     @Override
     public AbstractSimulatedResourceContainer getAllocatedEntity(String assemblyContextId) {
-        return simulatedContainerStorage.get(assemblyContextId);
+        var container = allocatedContainerStorage.get(assemblyContextId);
+        if (container == null) {
+            return null;
+        }
+        return resourceContainerAccess.getSimulatedEntity(container);
     }
 
     /**
@@ -102,23 +117,23 @@ public class AllocationLookupSyncer extends AbstractModelObserver<Allocation>
      * @param ctx          the assembly context to create a mapping for.
      * @param ctxHierarchy the assemblies of potential enclosing
      *                     CompositeComponents. Provide an empty list if none.
-     * @param container    the simulated resource container to which the assembly
-     *                     context is allocated.
+     * @param container    the resource container to which the assembly context is
+     *                     allocated.
      */
     protected void addAssemblyAllocation(AssemblyContext ctx, List<AssemblyContext> ctxHierarchy,
-            AbstractSimulatedResourceContainer container) {
+            ResourceContainer container) {
         var hierarchy = ctxHierarchy;
         if (ctxHierarchy.isEmpty()) {
-            simulatedContainerStorage.put(ctx.getId(), container);
+            allocatedContainerStorage.put(ctx.getId(), container);
         } else {
             var newHierarchy = new LinkedList<AssemblyContext>(ctxHierarchy);
             newHierarchy.push(ctx);
-            simulatedContainerStorage.put(new FQComponentID(newHierarchy).getFQIDString(), container);
+            allocatedContainerStorage.put(new FQComponentID(newHierarchy).getFQIDString(), container);
             hierarchy = newHierarchy;
         }
 
         if (ctx.getEncapsulatedComponent__AssemblyContext() instanceof CompositeComponent) {
-            var composite = (CompositeComponent) ctx;
+            var composite = (CompositeComponent) ctx.getEncapsulatedComponent__AssemblyContext();
             for (var compCtx : composite.getAssemblyContexts__ComposedStructure()) {
                 addAssemblyAllocation(compCtx, hierarchy, container);
             }
@@ -141,16 +156,16 @@ public class AllocationLookupSyncer extends AbstractModelObserver<Allocation>
     protected void removeAssemblyAllocation(AssemblyContext ctx, List<AssemblyContext> ctxHierarchy) {
         var hierarchy = ctxHierarchy;
         if (ctxHierarchy.isEmpty()) {
-            simulatedContainerStorage.remove(ctx.getId());
+            allocatedContainerStorage.remove(ctx.getId());
         } else {
             var newHierarchy = new LinkedList<AssemblyContext>(ctxHierarchy);
             newHierarchy.push(ctx);
-            simulatedContainerStorage.remove(new FQComponentID(newHierarchy).getFQIDString());
+            allocatedContainerStorage.remove(new FQComponentID(newHierarchy).getFQIDString());
             hierarchy = newHierarchy;
         }
 
         if (ctx.getEncapsulatedComponent__AssemblyContext() instanceof CompositeComponent) {
-            var composite = (CompositeComponent) ctx;
+            var composite = (CompositeComponent) ctx.getEncapsulatedComponent__AssemblyContext();
             for (var compCtx : composite.getAssemblyContexts__ComposedStructure()) {
                 removeAssemblyAllocation(compCtx, hierarchy);
             }
@@ -173,15 +188,15 @@ public class AllocationLookupSyncer extends AbstractModelObserver<Allocation>
             Consumer<AllocationContext> processor) {
         assert notification.getFeature() == AllocationPackage.Literals.ALLOCATION__ALLOCATION_CONTEXTS_ALLOCATION;
 
-        Object feature = notification.getNewValue();
+        Object feature = extractor.apply(notification);
         if (feature instanceof Collection) {
             ((Collection<AllocationContext>) feature).forEach(processor);
-        } else {
+        } else if (feature != null) {
             /*
              * If the new element is not an allocation context something about the model
              * changed. Then we will need to revisit this class again anyhow.
              */
-            doAddAllocationContext((AllocationContext) feature);
+            processor.accept((AllocationContext) feature);
         }
     }
 
@@ -189,9 +204,11 @@ public class AllocationLookupSyncer extends AbstractModelObserver<Allocation>
      * Convenience method to add the provided allocation context.
      */
     private void doAddAllocationContext(AllocationContext ctx) {
-        if (ctx.getAssemblyContext_AllocationContext() != null) {
+        if (ctx.getResourceContainer_AllocationContext() == null) {
+            doRemoveAllocationContext(ctx);
+        } else if (ctx.getAssemblyContext_AllocationContext() != null) {
             addAssemblyAllocation(ctx.getAssemblyContext_AllocationContext(), Collections.emptyList(),
-                    resourceContainerAccess.getSimulatedEntity(ctx.getResourceContainer_AllocationContext()));    
+                    ctx.getResourceContainer_AllocationContext());
         } 
     }
 
@@ -222,6 +239,22 @@ public class AllocationLookupSyncer extends AbstractModelObserver<Allocation>
         }
     }
     
+    /**
+     * Convenience method to update the mapping of an allocation context whose assembly
+     * context or resource container has been changed.
+     */
+    private void checkAndUpdateAllocationContextFromNotification(Notification notification) {
+        if (notification.getFeature() == AllocationPackage.Literals.ALLOCATION_CONTEXT__ASSEMBLY_CONTEXT_ALLOCATION_CONTEXT) {
+            if (notification.getOldValue() != null) {
+                removeAssemblyAllocation((AssemblyContext) notification.getOldValue(), Collections.emptyList());
+            }
+            doAddAllocationContext((AllocationContext) notification.getNotifier());
+        } else if (notification
+                .getFeature() == AllocationPackage.Literals.ALLOCATION_CONTEXT__RESOURCE_CONTAINER_ALLOCATION_CONTEXT) {
+            doAddAllocationContext((AllocationContext) notification.getNotifier());
+        }
+    }
+    
     @Override
     protected void add(Notification notification) {
         checkAndAddAllocationContextFromNotification(notification);
@@ -249,6 +282,7 @@ public class AllocationLookupSyncer extends AbstractModelObserver<Allocation>
     @Override
     protected void set(Notification notification) {
         checkAndAddAllocationContextFromNotification(notification);
+        checkAndUpdateAllocationContextFromNotification(notification);
         super.set(notification);
     }
 }
@@ -0,0 +1,62 @@
+package org.palladiosimulator.simulizar.reconfiguration;
+
+import java.util.Collection;
+
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
+import org.palladiosimulator.simulizar.reconfigurationrule.ModelTransformation;
+
+/**
+ * Interface for a reconfiguration engine whose check is separated from the
+ * reconfiguration it triggers. As the check does not modify the
+ * model@runtime, the {@link ReconfigurationProcess} runs the checks of all
+ * such engines concurrently and applies the found reconfigurations one after
+ * another afterwards.<br>
+ * {@link #runCheck(EList, EObject)} is expected to be equivalent to
+ * {@link #findMatch(EList, EObject)} followed by
+ * {@link #applyMatch(Match, EObject)}.
+ */
+public interface ISeparableReconfigurationEngine extends IReconfigurationEngine {
+
+	/**
+	 * Result of a positive check, i.e., a reconfiguration which is about to
+	 * be applied.
+	 */
+	public interface Match {
+
+		/**
+		 * Gets the model elements the check matched. If any of them is
+		 * changed before the match is applied, e.g., by the reconfiguration
+		 * of another engine, the match is considered stale and the check is
+		 * repeated.
+		 *
+		 * @return The matched elements.
+		 */
+		public Collection<? extends EObject> getMatchedElements();
+	}
+
+	/**
+	 * Checks whether the engine should reconfigure, without modifying the
+	 * model@runtime. This method may be called concurrently with the checks of
+	 * other engines.
+	 *
+	 * @param monitoredElement
+	 *            PCM model element for which a new sensor measurement arrived.
+	 * @return The {@link Match} describing the reconfiguration to apply, or
+	 *         <code>null</code> if the check was negative/did not match
+	 */
+	public Match findMatch(EList<? extends ModelTransformation<? extends Object>> checks, EObject monitoredElement);
+
+	/**
+	 * Applies the reconfiguration found by a prior call of
+	 * {@link #findMatch(EList, EObject)} to the model@runtime.
+	 *
+	 * @param match
+	 *            The {@link Match} found by this engine.
+	 * @param monitoredElement
+	 *            PCM model element for which a new sensor measurement arrived.
+	 * @return <code>true</code> if the reconfiguration was executed,
+	 *         <code>false</code> if it was not executed or did not succeed.
+	 */
+	public boolean applyMatch(Match match, EObject monitoredElement);
+}
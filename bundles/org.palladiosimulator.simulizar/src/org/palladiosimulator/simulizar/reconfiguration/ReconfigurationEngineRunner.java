@@ -0,0 +1,249 @@
+package org.palladiosimulator.simulizar.reconfiguration;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.palladiosimulator.simulizar.reconfiguration.ISeparableReconfigurationEngine.Match;
+import org.palladiosimulator.simulizar.reconfigurationrule.ModelTransformation;
+
+/**
+ * Runs the checks of the {@link IReconfigurationEngine}s of a simulation and
+ * the reconfigurations they trigger.<br>
+ * The checks of all {@link ISeparableReconfigurationEngine}s are run
+ * concurrently first, on a bounded pool of threads dedicated to this runner,
+ * while the models are not modified. Afterwards, the engines are run one
+ * after another in order on the calling thread: other engines check and
+ * reconfigure, separable engines apply the reconfiguration they found. A match
+ * whose elements, or any of their contents, were changed by a preceding
+ * reconfiguration is checked again before it is applied.
+ *
+ * @see ReconfigurationProcess
+ */
+public class ReconfigurationEngineRunner {
+
+	private static final Logger LOGGER = Logger.getLogger(ReconfigurationEngineRunner.class);
+
+	// idle check threads are terminated, as reconfigurations may be rare
+	private static final long IDLE_CHECK_THREAD_TIMEOUT_SECONDS = 60L;
+
+	private final List<IReconfigurationEngine> engines;
+	private final List<ISeparableReconfigurationEngine> separableEngines;
+	// null if the checks are run by the calling thread
+	private final ThreadPoolExecutor checkExecutor;
+
+	/**
+	 * Initializes a new instance of the {@link ReconfigurationEngineRunner}
+	 * class.
+	 *
+	 * @param engines
+	 *            The {@link IReconfigurationEngine}s, in the order in which
+	 *            their reconfigurations are executed.
+	 * @param parallelism
+	 *            The maximum number of checks which are run concurrently.
+	 * @throws NullPointerException
+	 *             In case {@code engines} is {@code null}.
+	 * @throws IllegalArgumentException
+	 *             In case {@code parallelism} is not positive.
+	 */
+	public ReconfigurationEngineRunner(final Iterable<IReconfigurationEngine> engines, final int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("parallelism must be positive");
+		}
+		this.engines = StreamSupport
+				.stream(Objects.requireNonNull(engines, "engines must not be null").spliterator(), false)
+				.collect(Collectors.toList());
+		this.separableEngines = this.engines.stream().filter(ISeparableReconfigurationEngine.class::isInstance)
+				.map(ISeparableReconfigurationEngine.class::cast).collect(Collectors.toList());
+		final int checkThreads = Math.min(parallelism, this.separableEngines.size());
+		if (checkThreads > 1) {
+			this.checkExecutor = new ThreadPoolExecutor(checkThreads, checkThreads, IDLE_CHECK_THREAD_TIMEOUT_SECONDS,
+					TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), runnable -> {
+						final Thread thread = new Thread(runnable, "Reconfiguration Check");
+						thread.setDaemon(true);
+						return thread;
+					});
+			this.checkExecutor.allowCoreThreadTimeOut(true);
+		} else {
+			this.checkExecutor = null;
+		}
+	}
+
+	/**
+	 * Runs the checks of all engines and the reconfigurations they trigger.
+	 *
+	 * @param transformations
+	 *            The {@link ModelTransformation}s to pass to the engines.
+	 * @param monitoredElement
+	 *            PCM model element for which a new sensor measurement arrived.
+	 * @param reconfigurationHandler
+	 *            Is passed the reconfiguration of each engine, one after
+	 *            another. It has to evaluate the given reconfiguration, which
+	 *            yields whether the reconfiguration was executed.
+	 */
+	public void run(final EList<? extends ModelTransformation<? extends Object>> transformations,
+			final EObject monitoredElement, final Consumer<BooleanSupplier> reconfigurationHandler) {
+		final Map<IReconfigurationEngine, Match> matches = this.findMatches(transformations, monitoredElement);
+		final ConflictDetector conflictDetector = new ConflictDetector(matches.values());
+		try {
+			for (final IReconfigurationEngine engine : this.engines) {
+				if (engine instanceof ISeparableReconfigurationEngine) {
+					reconfigurationHandler.accept(() -> this.applyMatch((ISeparableReconfigurationEngine) engine,
+							matches.get(engine), conflictDetector, transformations, monitoredElement));
+				} else {
+					reconfigurationHandler.accept(() -> engine.runCheck(transformations, monitoredElement));
+				}
+			}
+		} finally {
+			conflictDetector.dispose();
+		}
+	}
+
+	/**
+	 * Stops the threads which run the checks. The runner must not be used
+	 * afterwards.
+	 */
+	public void shutdown() {
+		if (this.checkExecutor != null) {
+			this.checkExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Runs the checks of all {@link ISeparableReconfigurationEngine}s. As the
+	 * checks do not modify the models and the caller waits for them, they all
+	 * see the same state of the models.
+	 */
+	private Map<IReconfigurationEngine, Match> findMatches(
+			final EList<? extends ModelTransformation<? extends Object>> transformations,
+			final EObject monitoredElement) {
+		final Map<IReconfigurationEngine, Match> matches = new IdentityHashMap<>();
+		if (this.checkExecutor == null) {
+			for (final ISeparableReconfigurationEngine engine : this.separableEngines) {
+				putMatch(matches, engine, engine.findMatch(transformations, monitoredElement));
+			}
+			return matches;
+		}
+		final List<Future<Match>> foundMatches = new ArrayList<>(this.separableEngines.size());
+		try {
+			for (final ISeparableReconfigurationEngine engine : this.separableEngines) {
+				foundMatches.add(this.checkExecutor.submit(() -> engine.findMatch(transformations, monitoredElement)));
+			}
+			for (int i = 0; i < this.separableEngines.size(); i++) {
+				putMatch(matches, this.separableEngines.get(i), awaitMatch(foundMatches.get(i)));
+			}
+		} finally {
+			// the checks must not run on once the models may be modified
+			foundMatches.forEach(match -> match.cancel(true));
+		}
+		return matches;
+	}
+
+	private static void putMatch(final Map<IReconfigurationEngine, Match> matches,
+			final ISeparableReconfigurationEngine engine, final Match match) {
+		if (match != null) {
+			matches.put(engine, match);
+		}
+	}
+
+	private static Match awaitMatch(final Future<Match> match) {
+		try {
+			return match.get();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while checking for reconfigurations", e);
+		} catch (final ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+			throw new IllegalStateException("Checking for reconfigurations failed", e.getCause());
+		}
+	}
+
+	private boolean applyMatch(final ISeparableReconfigurationEngine engine, Match match,
+			final ConflictDetector conflictDetector,
+			final EList<? extends ModelTransformation<? extends Object>> transformations,
+			final EObject monitoredElement) {
+		if (match != null && conflictDetector.isInConflict(match)) {
+			// a preceding reconfiguration changed the matched elements, so the
+			// match may no longer hold
+			LOGGER.debug("Matched elements were changed by a preceding reconfiguration, checking again.");
+			match = engine.findMatch(transformations, monitoredElement);
+		}
+		return match != null && engine.applyMatch(match, monitoredElement);
+	}
+
+	/**
+	 * Records which of the elements matched by the concurrent checks are
+	 * changed, i.e., they or any of their contents are modified, or are
+	 * removed from their resource while the reconfigurations are applied.
+	 */
+	private static final class ConflictDetector extends EContentAdapter {
+
+		private final Map<EObject, Resource> matchedElements = new IdentityHashMap<>();
+		private final Set<EObject> changedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		private ConflictDetector(final Collection<Match> matches) {
+			for (final Match match : matches) {
+				for (final EObject element : match.getMatchedElements()) {
+					if (!this.matchedElements.containsKey(element)) {
+						this.matchedElements.put(element, element.eResource());
+					}
+				}
+			}
+			for (final EObject element : this.matchedElements.keySet()) {
+				// matched elements may contain each other
+				if (!element.eAdapters().contains(this)) {
+					element.eAdapters().add(this);
+				}
+			}
+		}
+
+		@Override
+		public void notifyChanged(final Notification notification) {
+			// keeps the adapter attached to added and removed contents
+			super.notifyChanged(notification);
+			if (notification.isTouch() || !(notification.getNotifier() instanceof EObject)) {
+				return;
+			}
+			for (EObject changed = (EObject) notification.getNotifier(); changed != null; changed = changed
+					.eContainer()) {
+				if (this.matchedElements.containsKey(changed)) {
+					this.changedElements.add(changed);
+				}
+			}
+		}
+
+		private boolean isInConflict(final Match match) {
+			return match.getMatchedElements().stream().anyMatch(element -> this.changedElements.contains(element)
+					|| element.eResource() != this.matchedElements.get(element));
+		}
+
+		private void dispose() {
+			this.matchedElements.keySet().forEach(element -> element.eAdapters().remove(this));
+		}
+	}
+}
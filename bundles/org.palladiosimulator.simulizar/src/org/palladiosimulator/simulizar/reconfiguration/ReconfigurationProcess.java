@@ -3,7 +3,7 @@ package org.palladiosimulator.simulizar.reconfiguration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.function.Consumer;
+import java.util.function.BooleanSupplier;
 
 import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.util.BasicEList;
@@ -21,7 +21,9 @@ import de.uka.ipd.sdq.simulation.abstractsimengine.ISimulationControl;
 
 /**
  * {@link SimuComSimProcess} implementation which is responsible for executing
- * reconfigurations during Simulizar runs.
+ * reconfigurations during Simulizar runs.<br>
+ * The engines are run by a {@link ReconfigurationEngineRunner}, which checks
+ * the {@link ISeparableReconfigurationEngine}s concurrently.
  *
  * @author Florian Rosenthal, Sebastian Lehrig
  * @see Reconfigurator
@@ -30,7 +32,7 @@ import de.uka.ipd.sdq.simulation.abstractsimengine.ISimulationControl;
 public class ReconfigurationProcess extends SimuComSimProcess {
 
 	private EObject monitoredElement;
-	private final Iterable<IReconfigurationEngine> reconfigurators;
+	private final ReconfigurationEngineRunner engineRunner;
 	private final ISimulationControl simControl;
 	private final List<Notification> currentReconfigNotifications;
 	private final Reconfigurator reconfigurator;
@@ -56,7 +58,9 @@ public class ReconfigurationProcess extends SimuComSimProcess {
 	protected ReconfigurationProcess(final SimuComModel model, final Iterable<IReconfigurationEngine> reconfigurators,
 			final Reconfigurator reconfigurator) {
 		super(model, "Reconfiguration Process");
-		this.reconfigurators = Objects.requireNonNull(reconfigurators, "reconfigurators must not be null");
+		this.engineRunner = new ReconfigurationEngineRunner(
+				Objects.requireNonNull(reconfigurators, "reconfigurators must not be null"),
+				Runtime.getRuntime().availableProcessors());
 		this.reconfigurator = Objects.requireNonNull(reconfigurator, "reconfigurator must not be null");
 		this.simControl = Objects.requireNonNull(model, "Passed SimuComModel must not be null").getSimulationControl();
 		this.currentReconfigNotifications = new ArrayList<>();
@@ -165,35 +169,40 @@ public class ReconfigurationProcess extends SimuComSimProcess {
 		this.setMonitoredElement(Objects.requireNonNull(monitoredElement, "Monitored element must not be null."));
 		this.scheduleAt(0);
 	}
-
-	private Consumer<IReconfigurationEngine> doReconfiguration(double currentSimulationTime, EObject monitoredElement) {
-		return r -> {
-			BeginReconfigurationEvent beginReconfigurationEvent = new BeginReconfigurationEvent(currentSimulationTime);
-			ReconfigurationProcess.this.fireBeginReconfigurationEvent(beginReconfigurationEvent);
-			final boolean reconfigResult = r.runCheck(transformations, monitoredElement);
-			EndReconfigurationEvent endReconfigurationEvent = new EndReconfigurationEvent(
-					EventResult.fromBoolean(reconfigResult), this.simControl.getCurrentSimulationTime());
-			ReconfigurationProcess.this.fireEndReconfigurationEvent(endReconfigurationEvent);
-			if (reconfigResult) {
-				LOGGER.debug("Successfully executed reconfiguration.");
-				ReconfigurationProcess.this.fireReconfigurationExecutedEvent(beginReconfigurationEvent,
-						endReconfigurationEvent);
-			}
-			ReconfigurationProcess.this.clearNotifications();
-		};
+
+	private void doReconfiguration(final double currentSimulationTime, final BooleanSupplier reconfiguration) {
+		BeginReconfigurationEvent beginReconfigurationEvent = new BeginReconfigurationEvent(currentSimulationTime);
+		this.fireBeginReconfigurationEvent(beginReconfigurationEvent);
+		final boolean reconfigResult = reconfiguration.getAsBoolean();
+		EndReconfigurationEvent endReconfigurationEvent = new EndReconfigurationEvent(
+				EventResult.fromBoolean(reconfigResult), this.simControl.getCurrentSimulationTime());
+		this.fireEndReconfigurationEvent(endReconfigurationEvent);
+		if (reconfigResult) {
+			LOGGER.debug("Successfully executed reconfiguration.");
+			this.fireReconfigurationExecutedEvent(beginReconfigurationEvent, endReconfigurationEvent);
+		}
+		this.clearNotifications();
+	}
+
+	private void runReconfigurationEngines(final double currentSimulationTime, final EObject monitoredElement) {
+		this.engineRunner.run(this.transformations, monitoredElement,
+				reconfiguration -> this.doReconfiguration(currentSimulationTime, reconfiguration));
 	}
 
 	@Override
 	protected void internalLifeCycle() {
-		// execute reconfigurations until termination requested
-		while (!this.isTerminationRequested()) {
-			final EObject monitoredElement = this.getMonitoredElement();
-			if (monitoredElement != null) {
-				this.reconfigurators
-						.forEach(this.doReconfiguration(this.simControl.getCurrentSimulationTime(), monitoredElement));
-				// all reconfigurators did their job, so we can go to sleep
-				this.passivate();
+		try {
+			// execute reconfigurations until termination requested
+			while (!this.isTerminationRequested()) {
+				final EObject monitoredElement = this.getMonitoredElement();
+				if (monitoredElement != null) {
+					this.runReconfigurationEngines(this.simControl.getCurrentSimulationTime(), monitoredElement);
+					// all reconfigurators did their job, so we can go to sleep
+					this.passivate();
+				}
 			}
+		} finally {
+			this.engineRunner.shutdown();
 		}
-	}
+	}
 }
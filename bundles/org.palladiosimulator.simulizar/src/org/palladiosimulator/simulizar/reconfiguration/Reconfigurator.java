@@ -19,7 +19,9 @@ import org.palladiosimulator.simulizar.interpreter.listener.ReconfigurationExecu
 import org.palladiosimulator.simulizar.launcher.SimulizarConstants;
 import org.palladiosimulator.simulizar.runconfig.SimuLizarWorkflowConfiguration;
 
+import de.uka.ipd.sdq.simucomframework.entities.SimuComEntity;
 import de.uka.ipd.sdq.simucomframework.model.SimuComModel;
+import de.uka.ipd.sdq.simulation.abstractsimengine.AbstractSimEventDelegator;
 import de.uka.ipd.sdq.simulation.abstractsimengine.ISimulationControl;
 
 /**
@@ -74,6 +76,11 @@ public class Reconfigurator extends AbstractObservable<IReconfigurationListener>
 
 	private double lastReconfigurationTime = 0;
 
+	// will be initialized lazily, once the first new measurement arrives
+	private ReconfigurationCheckEntity reconfigurationCheckEntity;
+
+	private boolean reconfigurationCheckScheduled = false;
+
 	private SimuLizarWorkflowConfiguration configuration;
 
 	/**
@@ -115,6 +122,10 @@ public class Reconfigurator extends AbstractObservable<IReconfigurationListener>
 	 */
 	public void cleanUp() {
 		this.runtimeMeasurementModel.eAdapters().remove(this.runtimeMeasurementListener);
+		if (this.reconfigurationCheckEntity != null && this.reconfigurationCheckScheduled) {
+			this.reconfigurationCheckEntity.removeCheckEvent();
+			this.reconfigurationCheckScheduled = false;
+		}
 		// this also requires that the reconfiguration process be terminated
 		if (this.reconfigurationProcess != null) {
 			this.reconfigurationProcess.requestTermination();
@@ -126,21 +137,39 @@ public class Reconfigurator extends AbstractObservable<IReconfigurationListener>
 	 * Method which is called on a change in the RuntimeMeasurement. All
 	 * reconfigurators are informed and can check for potential
 	 * reconfigurations.
+	 * 
+	 * The check is not executed right away: all new measurements arriving at
+	 * the same simulation time are coalesced into a single check event, which is
+	 * scheduled on the simulation's scheduler for the current simulation time.
 	 *
 	 * @param notification
 	 *            The notification event, which describes a change in the
 	 *            RuntimeMeasurement model.
 	 */
 	protected void checkAndExecuteReconfigurations(final Notification notification) {
-		final EObject monitoredElement = this.getMonitoredElement(notification);
+		if (!this.reconfigurationCheckScheduled
+				&& this.isNotificationNewMeasurement(this.getMonitoredElement(notification))) {
+			if (this.reconfigurationCheckEntity == null) {
+				this.reconfigurationCheckEntity = new ReconfigurationCheckEntity(this.model);
+			}
+			this.reconfigurationCheckScheduled = true;
+			this.reconfigurationCheckEntity.scheduleCheckEvent();
+		}
+	}
+
+	/**
+	 * Executes the reconfiguration check scheduled for the new measurements
+	 * which arrived at the current simulation time.
+	 */
+	private void executeScheduledReconfigurationCheck() {
+		this.reconfigurationCheckScheduled = false;
 
 		// Value changed, reconfiguration is triggered. Reconfiguration only
 		// executes if the
 		// previous reconfiguration is finished. This could be done on a
 		// more fine-granular
 		// level (one thread per executor).
-		if (this.isNotificationNewMeasurement(monitoredElement)
-				&& this.model.getSimulationControl().getCurrentSimulationTime() > this.lastReconfigurationTime
+		if (this.model.getSimulationControl().getCurrentSimulationTime() > this.lastReconfigurationTime
 				&& (this.reconfigurationProcess == null || !this.reconfigurationProcess.isScheduled())) {
 			if (this.reconfigurationProcess == null) {
 				this.reconfigurationProcess = new ReconfigurationProcess(this.model, this.reconfiguratorEngines, this);
@@ -229,7 +258,47 @@ public class Reconfigurator extends AbstractObservable<IReconfigurationListener>
 	public List<AbstractReconfigurationLoader> getReconfigurationLoaders() {
 		return reconfigurationLoaders;
 	}
-	
-	
+
+	/**
+	 * Entity owning the event which checks for reconfigurations after new
+	 * measurements arrived.
+	 */
+	private final class ReconfigurationCheckEntity extends SimuComEntity {
+
+		private final ReconfigurationCheckEvent checkEvent;
+
+		private ReconfigurationCheckEntity(final SimuComModel model) {
+			super(model, "ReconfigurationCheckEntity");
+			this.checkEvent = new ReconfigurationCheckEvent(model);
+		}
+
+		private void scheduleCheckEvent() {
+			this.checkEvent.schedule(this, 0);
+		}
+
+		private void removeCheckEvent() {
+			this.checkEvent.removeEvent();
+		}
+	}
+
+	/**
+	 * Event which checks for reconfigurations at the simulation time it is
+	 * scheduled for.
+	 */
+	private final class ReconfigurationCheckEvent extends AbstractSimEventDelegator<ReconfigurationCheckEntity> {
+
+		private ReconfigurationCheckEvent(final SimuComModel model) {
+			super(model, "ReconfigurationCheckEvent");
+		}
+
+		@Override
+		public void eventRoutine(final ReconfigurationCheckEntity who) {
+			if (this.getModel().getSimulationControl().isRunning()) {
+				Reconfigurator.this.executeScheduledReconfigurationCheck();
+			} else {
+				Reconfigurator.this.reconfigurationCheckScheduled = false;
+			}
+		}
+	}
 
 }
@@ -63,6 +63,7 @@ public class SimuLizarWorkflowConfiguration extends SimuComWorkflowConfiguration
         config.monitorRepositoryFile = this.monitorRepositoryFile;
         config.reconfigurationRulesFolder = this.reconfigurationRulesFolder;
         config.usageEvolutionFile = this.usageEvolutionFile;
+        config.serviceLevelObjectivesFile = this.serviceLevelObjectivesFile;
         return config;
     }
 
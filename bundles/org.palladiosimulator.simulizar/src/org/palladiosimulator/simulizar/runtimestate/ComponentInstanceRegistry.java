@@ -1,60 +1,137 @@
 package org.palladiosimulator.simulizar.runtimestate;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+
 public class ComponentInstanceRegistry {
 
-    private final Map<String, SimulatedComponentInstance> componentInstances;
+    private final Map<FQComponentID, SimulatedComponentInstance> componentInstances;
+
+    /**
+     * Root of the tree of interned {@link FQComponentID}s, i.e. the node of the empty assembly
+     * context path. Child nodes are keyed by assembly context ID, so the tree does not depend on
+     * the model objects of the paths.
+     */
+    private final InternedComponentID internedIDs;
 
     /**
      *
      */
     protected ComponentInstanceRegistry() {
         super();
-        this.componentInstances = new HashMap<String, SimulatedComponentInstance>();
+        this.componentInstances = new HashMap<FQComponentID, SimulatedComponentInstance>();
+        this.internedIDs = new InternedComponentID(1, "");
+    }
+
+    /**
+     * Gets the interned {@link FQComponentID} of the given assembly context path. For paths
+     * which were already requested before with the same assembly context objects, the same ID
+     * object is returned and no objects are allocated. If the assembly contexts have been
+     * replaced since, e.g. by a new copy of the model, a new ID referring to the given assembly
+     * contexts is created and interned instead; its hash code and string are reused.
+     *
+     * @param assemblyContextPath
+     *            the path of assembly contexts, outermost first.
+     * @return the interned ID of the path.
+     */
+    public FQComponentID getFQComponentID(final List<AssemblyContext> assemblyContextPath) {
+        if (assemblyContextPath == null) {
+            throw new IllegalArgumentException("Null not allowed as assembly context path");
+        }
+        InternedComponentID current = this.internedIDs;
+        for (int i = 0; i < assemblyContextPath.size(); i++) {
+            current = current.getChild(assemblyContextPath.get(i).getId());
+        }
+        return current.getID(assemblyContextPath);
     }
 
     public void addComponentInstance(final SimulatedComponentInstance instance) {
         if (instance == null) {
             throw new IllegalArgumentException("Null not allowed as component instance");
         }
-        if (this.componentInstances.containsKey(instance.getFqn())) {
+        if (this.componentInstances.containsKey(instance.getFQComponentID())) {
             throw new IllegalArgumentException("Component Instance already exists");
         }
-        this.componentInstances.put(instance.getFqn(), instance);
+        this.componentInstances.put(instance.getFQComponentID(), instance);
     }
 
     public void removeComponentInstance(final SimulatedComponentInstance instance) {
         if (instance == null) {
             throw new IllegalArgumentException("Null not allowed as component instance");
         }
-        if (!this.componentInstances.containsKey(instance.getFqn())) {
+        if (this.componentInstances.remove(instance.getFQComponentID()) == null) {
             throw new IllegalArgumentException("Component Instance must exists");
         }
-        this.componentInstances.remove(instance.getFqn());
     }
 
     public boolean hasComponentInstance(final FQComponentID id) {
         if (id == null) {
             throw new IllegalArgumentException("Null not allowed as component instance");
         }
-        return this.componentInstances.containsKey(id.getFQIDString());
+        return this.componentInstances.containsKey(id);
     }
 
     public SimulatedComponentInstance getComponentInstance(final FQComponentID id) {
         if (id == null) {
             throw new IllegalArgumentException("Null not allowed as component instance");
         }
-        String fqid = id.getFQIDString();
-        if (!this.componentInstances.containsKey(fqid)) {
+        final SimulatedComponentInstance instance = this.componentInstances.get(id);
+        if (instance == null) {
             throw new IllegalArgumentException("Component Instance must exists");
         }
-        return this.componentInstances.get(fqid);
+        return instance;
     }
     
     public void cleanUpInstancesAndRegistry() {
     	this.componentInstances.values().forEach(SimulatedComponentInstance::cleanUp);
     	this.componentInstances.clear();
     }
+
+    /**
+     * Node of the tree of interned component IDs. A node is identified by the assembly context
+     * IDs of its path only; the {@link FQComponentID} it hands out refers to the assembly
+     * contexts of the latest request.
+     */
+    private static final class InternedComponentID {
+
+        private final int hashCode;
+        private final String fqIDString;
+        private final Map<String, InternedComponentID> children = new HashMap<>();
+        private FQComponentID id;
+
+        private InternedComponentID(final int hashCode, final String fqIDString) {
+            this.hashCode = hashCode;
+            this.fqIDString = fqIDString;
+        }
+
+        private InternedComponentID getChild(final String assemblyContextID) {
+            InternedComponentID child = this.children.get(assemblyContextID);
+            if (child == null) {
+                child = new InternedComponentID(FQComponentID.computeHashCode(this.hashCode, assemblyContextID),
+                        this.fqIDString.isEmpty() ? assemblyContextID : this.fqIDString + "::" + assemblyContextID);
+                this.children.put(assemblyContextID, child);
+            }
+            return child;
+        }
+
+        private FQComponentID getID(final List<AssemblyContext> assemblyContextPath) {
+            if (this.id == null || !isSamePath(this.id.getAssembyContextPath(), assemblyContextPath)) {
+                this.id = new FQComponentID(new ArrayList<>(assemblyContextPath), this.hashCode, this.fqIDString);
+            }
+            return this.id;
+        }
+
+        private static boolean isSamePath(final List<AssemblyContext> path, final List<AssemblyContext> otherPath) {
+            for (int i = 0; i < path.size(); i++) {
+                if (path.get(i) != otherPath.get(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
 }
@@ -9,13 +9,36 @@ import org.palladiosimulator.pcm.core.entity.NamedElement;
 
 import de.uka.ipd.sdq.identifier.Identifier;
 
+/**
+ * Fully qualified ID of a component instance, i.e. the path of assembly contexts leading to it.
+ *
+ * The hash code and the string representation are computed once on construction. Use
+ * {@link ComponentInstanceRegistry#getFQComponentID(List)} to obtain interned instances which can
+ * be looked up without allocating new IDs.
+ */
 public class FQComponentID {
 
     private final List<AssemblyContext> assembyContextPath;
+    private final int hashCode;
+    private final String fqIDString;
 
     public FQComponentID(final List<AssemblyContext> assemblyContextPath) {
         super();
         this.assembyContextPath = Collections.unmodifiableList(assemblyContextPath);
+        this.hashCode = computeHashCode(this.assembyContextPath);
+        this.fqIDString = this.assembyContextPath.stream().map(Identifier::getId)
+                .collect(Collectors.joining("::"));
+    }
+
+    /**
+     * Creates an ID whose hash code and string representation have been computed before, e.g. for
+     * another path with the same assembly context IDs.
+     */
+    FQComponentID(final List<AssemblyContext> assemblyContextPath, final int hashCode, final String fqIDString) {
+        super();
+        this.assembyContextPath = Collections.unmodifiableList(assemblyContextPath);
+        this.hashCode = hashCode;
+        this.fqIDString = fqIDString;
     }
 
     /**
@@ -32,14 +55,26 @@ public class FQComponentID {
      */
     @Override
     public int hashCode() {
-        final int prime = 31;
+        return this.hashCode;
+    }
+
+    private static int computeHashCode(final List<AssemblyContext> assemblyContextPath) {
         int result = 1;
-        for (final AssemblyContext ctx : this.assembyContextPath) {
-            result = prime * result + ctx.getId().hashCode();
+        for (final AssemblyContext ctx : assemblyContextPath) {
+            result = computeHashCode(result, ctx.getId());
         }
         return result;
     }
 
+    /**
+     * Computes the hash code of a path from the hash code of its parent path and the ID of its
+     * last assembly context.
+     */
+    static int computeHashCode(final int parentHashCode, final String assemblyContextID) {
+        final int prime = 31;
+        return prime * parentHashCode + assemblyContextID.hashCode();
+    }
+
     /*
      * (non-Javadoc)
      *
@@ -57,6 +92,9 @@ public class FQComponentID {
             return false;
         }
         final FQComponentID other = (FQComponentID) obj;
+        if (this.hashCode != other.hashCode) {
+            return false;
+        }
         if (this.assembyContextPath == null) {
             if (other.assembyContextPath != null) {
                 return false;
@@ -75,9 +113,9 @@ public class FQComponentID {
     }
     
     public String getFQIDString() {
-    	return this.assembyContextPath.stream().map(Identifier::getId)
-        		.collect(Collectors.joining("::"));
+        return this.fqIDString;
     }
+
     /*
      * (non-Javadoc)
      *
@@ -2,16 +2,23 @@ package org.palladiosimulator.simulizar.runtimestate;
 
 public abstract class SimulatedComponentInstance {
 
-    private final String myID;
+    private final FQComponentID myID;
     private AbstractSimuLizarRuntimeState runtimeState;
 
-    protected SimulatedComponentInstance(final AbstractSimuLizarRuntimeState runtimeState, final String fqID) {
+    protected SimulatedComponentInstance(final AbstractSimuLizarRuntimeState runtimeState, final FQComponentID fqID) {
         super();
         this.runtimeState = runtimeState;
         this.myID = fqID;
     }
 
     public String getFqn() {
+        return this.myID.getFQIDString();
+    }
+
+    /**
+     * @return the fully qualified ID of this component instance
+     */
+    public FQComponentID getFQComponentID() {
         return this.myID;
     }
 
@@ -2,7 +2,7 @@ package org.palladiosimulator.simulizar.runtimestate;
 
 public class SimulatedCompositeComponentInstance extends SimulatedComponentInstance {
 
-    public SimulatedCompositeComponentInstance(final AbstractSimuLizarRuntimeState runtimeState, final String fqId) {
+    public SimulatedCompositeComponentInstance(final AbstractSimuLizarRuntimeState runtimeState, final FQComponentID fqId) {
         super(runtimeState, fqId);
     }
 
@@ -14,6 +14,7 @@ import org.palladiosimulator.pcm.usagemodel.Workload;
 import org.palladiosimulator.pcm.usagemodel.util.UsagemodelSwitch;
 import org.palladiosimulator.simulizar.interpreter.InterpreterDefaultContext;
 import org.palladiosimulator.simulizar.interpreter.UsageScenarioSwitch;
+import org.palladiosimulator.simulizar.utils.PCMPartitionManager;
 
 import de.uka.ipd.sdq.simucomframework.SimuComSimProcess;
 import de.uka.ipd.sdq.simucomframework.usage.ClosedWorkloadUserFactory;
@@ -31,6 +32,10 @@ public class SimulatedUsageModels {
     private final Map<ClosedWorkload, de.uka.ipd.sdq.simucomframework.usage.ClosedWorkload> closedWorkloads = new HashMap<ClosedWorkload, de.uka.ipd.sdq.simucomframework.usage.ClosedWorkload>();
     private final Map<OpenWorkload, de.uka.ipd.sdq.simucomframework.usage.OpenWorkload> openWorkloads = new HashMap<OpenWorkload, de.uka.ipd.sdq.simucomframework.usage.OpenWorkload>();
 
+    /** The usage scenarios of the local PCM model with version {@link #localScenariosVersion}. */
+    private Map<String, UsageScenario> localScenarios = new HashMap<String, UsageScenario>();
+    private long localScenariosVersion = -1;
+
     public SimulatedUsageModels(final InterpreterDefaultContext rootContext) {
         super();
         this.rootContext = rootContext;
@@ -118,20 +123,44 @@ public class SimulatedUsageModels {
             public void scenarioRunner(final SimuComSimProcess thread) {
                 final InterpreterDefaultContext newContext = new InterpreterDefaultContext(
                         SimulatedUsageModels.this.rootContext, thread);
-                final UsageModel usageModel = newContext.getPCMPartitionManager().getLocalPCMModel().getUsageModel();
-                
+                final UsageScenario localScenario = SimulatedUsageModels.this
+                        .getLocalScenario(newContext.getPCMPartitionManager(), scenario.getId());
+
                 // If the UsageScenario is not contained in the UsageModel (e.g. it has
                 // been removed after the workload scheduled the new user, and before the 
                 // user starts execution) simply exit without processing the scenario.
-                usageModel.getUsageScenario_UsageModel().stream()
-                	.filter(sc -> sc.getId().equals(scenario.getId()))
-                	.findAny().ifPresent(sc -> {
-                	    new UsageScenarioSwitch<Object>(newContext).doSwitch(sc);
-                	});
+                if (localScenario != null) {
+                    new UsageScenarioSwitch<Object>(newContext).doSwitch(localScenario);
+                }
             }
         };
     }
 
+    /**
+     * Gets the copy of a usage scenario in the local PCM model of the given snapshot. The
+     * scenarios are indexed by ID once per version of the local PCM model.
+     *
+     * @param snapshot
+     *            the partition manager snapshot of the new user.
+     * @param scenarioId
+     *            the ID of the usage scenario.
+     * @return the local usage scenario, or {@code null} if the local usage model does not contain
+     *         it.
+     */
+    private UsageScenario getLocalScenario(final PCMPartitionManager snapshot, final String scenarioId) {
+        final long version = snapshot.getSnapshotVersion();
+        if (version != this.localScenariosVersion) {
+            final UsageModel usageModel = snapshot.getLocalPCMModel().getUsageModel();
+            final Map<String, UsageScenario> scenarios = new HashMap<String, UsageScenario>();
+            for (final UsageScenario localScenario : usageModel.getUsageScenario_UsageModel()) {
+                scenarios.putIfAbsent(localScenario.getId(), localScenario);
+            }
+            this.localScenarios = scenarios;
+            this.localScenariosVersion = version;
+        }
+        return this.localScenarios.get(scenarioId);
+    }
+
     public ICancellableWorkloadDriver getWorkloadDriver(final Workload workload) {
         return (new UsagemodelSwitch<ICancellableWorkloadDriver>() {
             @Override
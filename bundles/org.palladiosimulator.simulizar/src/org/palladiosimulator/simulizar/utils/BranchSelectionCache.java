@@ -0,0 +1,90 @@
+package org.palladiosimulator.simulizar.utils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * Cache of the summed branch probabilities of probabilistic branches, keyed by the identity of the
+ * branch element containing the transitions. The summed probabilities of a branch are computed
+ * once, so selecting a transition only draws a random number and searches the summed
+ * probabilities with a binary search.
+ *
+ * Like the {@link CompiledStoExCache}, the cache is owned by the {@link PCMPartitionManager} and
+ * is invalidated whenever the global PCM model changes.
+ */
+public class BranchSelectionCache {
+
+    private static final double[] NO_PROBABILITIES = new double[0];
+
+    private final Map<EObject, double[]> summedProbabilities = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the summed probabilities of the given branch transitions. The i-th value is the sum of
+     * the probabilities of the transitions 0 to i.
+     *
+     * @param transitions
+     *            the transitions of a single branch.
+     * @param probabilityOf
+     *            extracts the branch probability of a transition.
+     * @return the summed probabilities, which must not be modified.
+     */
+    public <T extends EObject> double[] getSummedProbabilities(final List<T> transitions,
+            final ToDoubleFunction<? super T> probabilityOf) {
+        if (transitions.isEmpty()) {
+            return NO_PROBABILITIES;
+        }
+        final EObject branch = transitions.get(0).eContainer();
+        double[] result = branch == null ? null : this.summedProbabilities.get(branch);
+        if (result == null || result.length != transitions.size()) {
+            result = new double[transitions.size()];
+            double currentSum = 0;
+            for (int i = 0; i < result.length; i++) {
+                currentSum += probabilityOf.applyAsDouble(transitions.get(i));
+                result[i] = currentSum;
+            }
+            if (branch != null) {
+                this.summedProbabilities.put(branch, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Selects the transition to take for the given random number.
+     *
+     * @param summedProbabilities
+     *            the summed probabilities of the transitions.
+     * @param randomNumber
+     *            a random number in [0, 1).
+     * @return the index of the first transition whose summed probability exceeds the random number
+     *         scaled to the total probability, or -1 if there is no such transition.
+     */
+    public static int selectIndex(final double[] summedProbabilities, final double randomNumber) {
+        if (summedProbabilities.length == 0) {
+            return -1;
+        }
+        final double target = summedProbabilities[summedProbabilities.length - 1] * randomNumber;
+        int low = 0;
+        int high = summedProbabilities.length - 1;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (target < summedProbabilities[middle]) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return target < summedProbabilities[low] ? low : -1;
+    }
+
+    /**
+     * Drops all summed probabilities. Called whenever the global PCM model changes.
+     */
+    public void invalidate() {
+        this.summedProbabilities.clear();
+    }
+}
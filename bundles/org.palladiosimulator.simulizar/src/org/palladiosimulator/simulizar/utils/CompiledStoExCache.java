@@ -0,0 +1,151 @@
+package org.palladiosimulator.simulizar.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import org.apache.log4j.Logger;
+import org.palladiosimulator.pcm.core.PCMRandomVariable;
+
+import de.uka.ipd.sdq.simucomframework.variables.StackContext;
+import de.uka.ipd.sdq.simucomframework.variables.stackframe.SimulatedStackframe;
+
+/**
+ * Cache of prepared StoEx specifications, keyed by the identity of the {@link PCMRandomVariable}
+ * holding them. The interpreter evaluates the same random variables (resource demands, loop
+ * iteration counts, delays, ...) for every simulated request. Preparing a variable once resolves
+ * its specification and folds plain literals (e.g. "0.5", "10", "true") into constant values, so
+ * that the hot path does not need to run a StoEx evaluation at all for them. Non-constant
+ * specifications are delegated to {@link StackContext}, which reuses the parsed expression tree
+ * of SimuCom's StoEx cache.
+ *
+ * The cache is owned by the {@link PCMPartitionManager} and is invalidated whenever its global
+ * PCM change listener detects a model change.
+ */
+public class CompiledStoExCache {
+
+    private static final Logger LOGGER = Logger.getLogger(CompiledStoExCache.class);
+
+    private static final Pattern INT_LITERAL = Pattern.compile("-?\\d+");
+    private static final Pattern DOUBLE_LITERAL = Pattern.compile("-?\\d+\\.\\d+([eE][-+]?\\d+)?");
+
+    private final Map<PCMRandomVariable, CompiledStoEx> compiledExpressions = new ConcurrentHashMap<>();
+
+    /**
+     * Evaluates the specification of the given random variable and converts the result to the
+     * expected type.
+     *
+     * @param randomVariable
+     *            the random variable to evaluate.
+     * @param expectedType
+     *            the expected type of the result.
+     * @param currentFrame
+     *            the stack frame to evaluate the specification in, or {@code null} to evaluate
+     *            it in an empty frame.
+     * @return the evaluated specification.
+     */
+    public <T> T evaluate(final PCMRandomVariable randomVariable, final Class<T> expectedType,
+            final SimulatedStackframe<Object> currentFrame) {
+        return this.getCompiledStoEx(randomVariable).evaluate(expectedType, currentFrame);
+    }
+
+    /**
+     * Evaluates the specification of the given random variable without type conversion.
+     *
+     * @param randomVariable
+     *            the random variable to evaluate.
+     * @param currentFrame
+     *            the stack frame to evaluate the specification in.
+     * @return the evaluated specification.
+     */
+    public Object evaluate(final PCMRandomVariable randomVariable, final SimulatedStackframe<Object> currentFrame) {
+        return this.getCompiledStoEx(randomVariable).evaluate(currentFrame);
+    }
+
+    /**
+     * Drops all prepared specifications. Called whenever the global PCM model changes.
+     */
+    public void invalidate() {
+        if (!this.compiledExpressions.isEmpty()) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Invalidating " + this.compiledExpressions.size() + " compiled StoEx expressions");
+            }
+            this.compiledExpressions.clear();
+        }
+    }
+
+    private CompiledStoEx getCompiledStoEx(final PCMRandomVariable randomVariable) {
+        CompiledStoEx compiled = this.compiledExpressions.get(randomVariable);
+        if (compiled == null) {
+            compiled = new CompiledStoEx(randomVariable.getSpecification());
+            this.compiledExpressions.put(randomVariable, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * A single prepared StoEx specification.
+     */
+    private static final class CompiledStoEx {
+
+        private final String specification;
+        private final Object constant;
+
+        private CompiledStoEx(final String specification) {
+            this.specification = specification;
+            this.constant = foldLiteral(specification);
+        }
+
+        private Object evaluate(final SimulatedStackframe<Object> currentFrame) {
+            if (this.constant != null) {
+                return this.constant;
+            }
+            return StackContext.evaluateStatic(this.specification, currentFrame);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T evaluate(final Class<T> expectedType, final SimulatedStackframe<Object> currentFrame) {
+            if (this.constant != null) {
+                if (expectedType.isInstance(this.constant)) {
+                    return (T) this.constant;
+                }
+                if (expectedType == Double.class && this.constant instanceof Integer) {
+                    return (T) Double.valueOf(((Integer) this.constant).doubleValue());
+                }
+            }
+            if (currentFrame == null) {
+                return StackContext.evaluateStatic(this.specification, expectedType);
+            }
+            return StackContext.evaluateStatic(this.specification, expectedType, currentFrame);
+        }
+
+        /**
+         * @return the value of the given specification if it is a plain literal, {@code null}
+         *         otherwise.
+         */
+        private static Object foldLiteral(final String specification) {
+            if (specification == null) {
+                return null;
+            }
+            final String trimmed = specification.trim();
+            try {
+                if (INT_LITERAL.matcher(trimmed).matches()) {
+                    return Integer.valueOf(trimmed);
+                }
+                if (DOUBLE_LITERAL.matcher(trimmed).matches()) {
+                    return Double.valueOf(trimmed);
+                }
+            } catch (final NumberFormatException e) {
+                // literal out of range, leave it to the StoEx evaluation
+                return null;
+            }
+            if ("true".equals(trimmed)) {
+                return Boolean.TRUE;
+            }
+            if ("false".equals(trimmed)) {
+                return Boolean.FALSE;
+            }
+            return null;
+        }
+    }
+}
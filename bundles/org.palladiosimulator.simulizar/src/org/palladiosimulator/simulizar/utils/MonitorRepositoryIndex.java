@@ -0,0 +1,260 @@
+package org.palladiosimulator.simulizar.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.palladiosimulator.edp2.models.measuringpoint.MeasuringPoint;
+import org.palladiosimulator.edp2.models.measuringpoint.ResourceURIMeasuringPoint;
+import org.palladiosimulator.monitorrepository.Monitor;
+import org.palladiosimulator.monitorrepository.MonitorRepository;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
+import org.palladiosimulator.pcm.seff.ExternalCallAction;
+import org.palladiosimulator.pcm.usagemodel.EntryLevelSystemCall;
+import org.palladiosimulator.pcmmeasuringpoint.ActiveResourceMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.AssemblyOperationMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.AssemblyPassiveResourceMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.EntryLevelSystemCallMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.ExternalCallActionMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.ResourceContainerMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.ResourceEnvironmentMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.SystemOperationMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.UsageScenarioMeasuringPoint;
+import org.palladiosimulator.pcmmeasuringpoint.util.PcmmeasuringpointSwitch;
+
+import de.uka.ipd.sdq.identifier.Identifier;
+
+/**
+ * Index of the monitors of a {@link MonitorRepository} by the IDs of the model elements their
+ * measuring points refer to. The index is attached to the monitor repository as adapter and is
+ * rebuilt lazily after the repository changed.
+ *
+ * The index only preselects candidate monitors for an element; whether a candidate actually
+ * monitors the element is still decided by
+ * {@link MonitorRepositoryUtil#elementConformingToMeasuringPoint(EObject, MeasuringPoint)}.
+ * Monitors whose measuring points cannot be indexed (e.g. resource URI measuring points) are
+ * candidates for every element.
+ */
+final class MonitorRepositoryIndex extends EContentAdapter {
+
+    /** Resource environment measuring points identify their element by name instead of ID. */
+    private static final String ENTITY_NAME_KEY_PREFIX = "name:";
+
+    private final MonitorRepository monitorRepository;
+
+    private volatile boolean stale = true;
+    private Map<String, List<IndexedMonitor>> monitorsByElementKey;
+    private List<IndexedMonitor> unindexedMonitors;
+
+    private MonitorRepositoryIndex(final MonitorRepository monitorRepository) {
+        this.monitorRepository = monitorRepository;
+    }
+
+    /**
+     * Gets the index of the given monitor repository. The index is created and attached on first
+     * access.
+     *
+     * @param monitorRepository
+     *            the monitor repository.
+     * @return the index.
+     */
+    static MonitorRepositoryIndex getIndex(final MonitorRepository monitorRepository) {
+        synchronized (monitorRepository) {
+            MonitorRepositoryIndex index = (MonitorRepositoryIndex) EcoreUtil.getExistingAdapter(monitorRepository,
+                    MonitorRepositoryIndex.class);
+            if (index == null) {
+                index = new MonitorRepositoryIndex(monitorRepository);
+                monitorRepository.eAdapters().add(index);
+            }
+            return index;
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return type == MonitorRepositoryIndex.class;
+    }
+
+    @Override
+    public void notifyChanged(final Notification notification) {
+        super.notifyChanged(notification);
+        if (!notification.isTouch() && notification.getEventType() != Notification.REMOVING_ADAPTER) {
+            this.stale = true;
+        }
+    }
+
+    /**
+     * Gets the monitors which might monitor the given element, in the order of the monitor
+     * repository.
+     *
+     * @param element
+     *            the element.
+     * @return the candidate monitors.
+     */
+    List<Monitor> getCandidateMonitors(final EObject element) {
+        synchronized (this.monitorRepository) {
+            if (this.stale) {
+                this.rebuild();
+            }
+            final List<IndexedMonitor> candidates = new ArrayList<>(this.unindexedMonitors);
+            for (final String key : getElementKeys(element)) {
+                candidates.addAll(this.monitorsByElementKey.getOrDefault(key, Collections.emptyList()));
+            }
+            if (candidates.isEmpty()) {
+                return Collections.emptyList();
+            }
+            candidates.sort(null);
+
+            final List<Monitor> result = new ArrayList<>(candidates.size());
+            IndexedMonitor previous = null;
+            for (final IndexedMonitor candidate : candidates) {
+                if (candidate != previous) {
+                    result.add(candidate.monitor);
+                }
+                previous = candidate;
+            }
+            return result;
+        }
+    }
+
+    private void rebuild() {
+        this.stale = false;
+        this.monitorsByElementKey = new HashMap<>();
+        this.unindexedMonitors = new ArrayList<>();
+        final List<Monitor> monitors = this.monitorRepository.getMonitors();
+        for (int i = 0; i < monitors.size(); i++) {
+            final IndexedMonitor indexedMonitor = new IndexedMonitor(monitors.get(i), i);
+            final List<String> keys = getMeasuringPointKeys(indexedMonitor.monitor.getMeasuringPoint());
+            if (keys == null) {
+                this.unindexedMonitors.add(indexedMonitor);
+            } else {
+                for (final String key : keys) {
+                    this.monitorsByElementKey.computeIfAbsent(key, k -> new ArrayList<>()).add(indexedMonitor);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the keys of all elements the given element might be monitored by, i.e. its own ID
+     *         and, for calls, the ID of the role they are issued on.
+     */
+    private static List<String> getElementKeys(final EObject element) {
+        final List<String> keys = new ArrayList<>(2);
+        if (element instanceof Identifier) {
+            keys.add(((Identifier) element).getId());
+        }
+        if (element instanceof ExternalCallAction && ((ExternalCallAction) element).getRole_ExternalService() != null) {
+            keys.add(((ExternalCallAction) element).getRole_ExternalService().getId());
+        } else if (element instanceof EntryLevelSystemCall
+                && ((EntryLevelSystemCall) element).getProvidedRole_EntryLevelSystemCall() != null) {
+            keys.add(((EntryLevelSystemCall) element).getProvidedRole_EntryLevelSystemCall().getId());
+        } else if (element instanceof ResourceEnvironment) {
+            keys.add(ENTITY_NAME_KEY_PREFIX + ((ResourceEnvironment) element).getEntityName());
+        }
+        return keys;
+    }
+
+    /**
+     * @return the keys of the elements the given measuring point refers to, or {@code null} if the
+     *         measuring point cannot be indexed.
+     */
+    private static List<String> getMeasuringPointKeys(final MeasuringPoint measuringPoint) {
+        if (measuringPoint == null || measuringPoint instanceof ResourceURIMeasuringPoint) {
+            return null;
+        }
+        final List<String> keys = new PcmmeasuringpointSwitch<List<String>>() {
+
+            @Override
+            public List<String> caseActiveResourceMeasuringPoint(final ActiveResourceMeasuringPoint mp) {
+                if (mp.getActiveResource() == null) {
+                    return null;
+                }
+                return keysOf(mp.getActiveResource(),
+                        mp.getActiveResource().getResourceContainer_ProcessingResourceSpecification());
+            }
+
+            @Override
+            public List<String> caseAssemblyOperationMeasuringPoint(final AssemblyOperationMeasuringPoint mp) {
+                return keysOf(mp.getRole());
+            }
+
+            @Override
+            public List<String> caseAssemblyPassiveResourceMeasuringPoint(
+                    final AssemblyPassiveResourceMeasuringPoint mp) {
+                return keysOf(mp.getPassiveResource());
+            }
+
+            @Override
+            public List<String> caseSystemOperationMeasuringPoint(final SystemOperationMeasuringPoint mp) {
+                return keysOf(mp.getRole());
+            }
+
+            @Override
+            public List<String> caseUsageScenarioMeasuringPoint(final UsageScenarioMeasuringPoint mp) {
+                return keysOf(mp.getUsageScenario());
+            }
+
+            @Override
+            public List<String> caseResourceEnvironmentMeasuringPoint(final ResourceEnvironmentMeasuringPoint mp) {
+                if (mp.getResourceEnvironment() == null) {
+                    return null;
+                }
+                return List.of(ENTITY_NAME_KEY_PREFIX + mp.getResourceEnvironment().getEntityName());
+            }
+
+            @Override
+            public List<String> caseResourceContainerMeasuringPoint(final ResourceContainerMeasuringPoint mp) {
+                return keysOf(mp.getResourceContainer());
+            }
+
+            @Override
+            public List<String> caseExternalCallActionMeasuringPoint(final ExternalCallActionMeasuringPoint mp) {
+                return keysOf(mp.getExternalCall());
+            }
+
+            @Override
+            public List<String> caseEntryLevelSystemCallMeasuringPoint(final EntryLevelSystemCallMeasuringPoint mp) {
+                return keysOf(mp.getEntryLevelSystemCall());
+            }
+
+        }.doSwitch(measuringPoint);
+        return keys;
+    }
+
+    private static List<String> keysOf(final Identifier... elements) {
+        final List<String> keys = new ArrayList<>(elements.length);
+        for (final Identifier element : elements) {
+            if (element == null || element.getId() == null) {
+                return null;
+            }
+            keys.add(element.getId());
+        }
+        return keys;
+    }
+
+    /**
+     * A monitor together with its position in the monitor repository.
+     */
+    private static final class IndexedMonitor implements Comparable<IndexedMonitor> {
+
+        private final Monitor monitor;
+        private final int position;
+
+        private IndexedMonitor(final Monitor monitor, final int position) {
+            this.monitor = monitor;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(final IndexedMonitor other) {
+            return Integer.compare(this.position, other.position);
+        }
+    }
+}
@@ -54,6 +54,9 @@ public final class MonitorRepositoryUtil {
      * Method checks if given element should be monitored with given performance metric. If yes, it
      * will return the corresponding MeasurementSpecification, otherwise null.
      *
+     * Only the monitors which refer to the given element according to the index of the monitoring
+     * model are checked, see {@link MonitorRepositoryIndex}.
+     *
      * @param monitorRepositoryModel
      *            the monitoring model
      * @param element
@@ -66,12 +69,17 @@ public final class MonitorRepositoryUtil {
     public static MeasurementSpecification isMonitored(final MonitorRepository monitorRepositoryModel,
             final EObject element, final MetricDescription metricDescription) {
         if (monitorRepositoryModel != null) {
-            return monitorRepositoryModel.getMonitors().stream()
-                    .filter(monitor -> elementConformingToMeasuringPoint(element, monitor.getMeasuringPoint()))
-                    .flatMap(monitor -> monitor.getMeasurementSpecifications().stream())
-                    .filter(m -> MetricDescriptionUtility.metricDescriptionIdsEqual(m.getMetricDescription(),
-                            metricDescription))
-                    .findFirst().orElse(null);
+            for (final Monitor monitor : MonitorRepositoryIndex.getIndex(monitorRepositoryModel)
+                    .getCandidateMonitors(element)) {
+                if (elementConformingToMeasuringPoint(element, monitor.getMeasuringPoint())) {
+                    for (final MeasurementSpecification specification : monitor.getMeasurementSpecifications()) {
+                        if (MetricDescriptionUtility.metricDescriptionIdsEqual(specification.getMetricDescription(),
+                                metricDescription)) {
+                            return specification;
+                        }
+                    }
+                }
+            }
         }
         return null;
     }
@@ -195,7 +203,7 @@ public final class MonitorRepositoryUtil {
         if (monitorRepository == null) {
             return result;
         }
-        return monitorRepository.getMonitors().stream()
+        return MonitorRepositoryIndex.getIndex(monitorRepository).getCandidateMonitors(element).stream()
                 .filter(m -> m.isActivated()
                         && MonitorRepositoryUtil.elementConformingToMeasuringPoint(element, m.getMeasuringPoint()))
                 .collect(Collectors.toList());
@@ -0,0 +1,153 @@
+package org.palladiosimulator.simulizar.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.palladiosimulator.pcm.PcmPackage;
+import org.palladiosimulator.pcm.core.CorePackage;
+import org.palladiosimulator.pcm.resourceenvironment.ProcessingResourceSpecification;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceenvironmentPackage;
+
+import de.uka.ipd.sdq.stoex.StoexPackage;
+
+/**
+ * Classifies the notifications received from the global PCM model by their impact on the local
+ * copies handed out by the {@link PCMPartitionManager}.
+ *
+ * The classification of each structural feature and of each resource is determined once and kept
+ * in lookup tables, so classifying a notification does not need to walk the package hierarchy of
+ * the changed feature.
+ */
+class PCMChangeClassifier {
+
+    /**
+     * The impact of a change of the global PCM model.
+     */
+    enum ChangeImpact {
+        /** The change does not affect the PCM model, e.g. a change of a runtime measurement. */
+        NONE,
+        /**
+         * The change is applied to the running simulation by the model syncers observing the global
+         * model, e.g. a changed processing rate. The simulation does not read the changed value from
+         * the local copy, so the local copy does not need to be refreshed right away.
+         */
+        SYNCED,
+        /** The local copy has to be refreshed before new simulation threads are started. */
+        LOCAL_MODEL
+    }
+
+    private enum FeatureKind {
+        NON_PCM, PCM, PROCESSING_RATE, RANDOM_VARIABLE_SPECIFICATION
+    }
+
+    private final Map<EStructuralFeature, FeatureKind> featureKinds = new HashMap<>();
+    private final Map<Resource, Boolean> syncedResources = new HashMap<>();
+
+    /**
+     * @param notification
+     *            a notification received from the global PCM model.
+     * @param resource
+     *            the resource containing the notifier, may be {@code null}.
+     * @return the impact of the notified change.
+     */
+    ChangeImpact classify(final Notification notification, final Resource resource) {
+        if (notification.getEventType() == Notification.REMOVING_ADAPTER
+                || !(notification.getFeature() instanceof EStructuralFeature)) {
+            return ChangeImpact.NONE;
+        }
+        switch (this.getFeatureKind((EStructuralFeature) notification.getFeature())) {
+        case NON_PCM:
+            return ChangeImpact.NONE;
+        case PROCESSING_RATE:
+            return this.isSyncedResource(resource) ? ChangeImpact.SYNCED : ChangeImpact.LOCAL_MODEL;
+        case RANDOM_VARIABLE_SPECIFICATION:
+            return isProcessingRate(notification.getNotifier()) && this.isSyncedResource(resource)
+                    ? ChangeImpact.SYNCED
+                    : ChangeImpact.LOCAL_MODEL;
+        default:
+            return ChangeImpact.LOCAL_MODEL;
+        }
+    }
+
+    private FeatureKind getFeatureKind(final EStructuralFeature feature) {
+        FeatureKind kind = this.featureKinds.get(feature);
+        if (kind == null) {
+            kind = classifyFeature(feature);
+            this.featureKinds.put(feature, kind);
+        }
+        return kind;
+    }
+
+    private static FeatureKind classifyFeature(final EStructuralFeature feature) {
+        EPackage rootPackage = feature.getEContainingClass().getEPackage();
+        while (rootPackage.getESuperPackage() != null) {
+            rootPackage = rootPackage.getESuperPackage();
+        }
+        if (rootPackage != PcmPackage.eINSTANCE && rootPackage != StoexPackage.eINSTANCE) {
+            return FeatureKind.NON_PCM;
+        }
+        if (feature == ResourceenvironmentPackage.eINSTANCE
+            .getProcessingResourceSpecification_ProcessingRate_ProcessingResourceSpecification()
+                || feature == CorePackage.eINSTANCE
+                    .getPCMRandomVariable_ProcessingResourceSpecification_processingRate_PCMRandomVariable()) {
+            return FeatureKind.PROCESSING_RATE;
+        }
+        if (feature == StoexPackage.eINSTANCE.getRandomVariable_Specification()) {
+            return FeatureKind.RANDOM_VARIABLE_SPECIFICATION;
+        }
+        return FeatureKind.PCM;
+    }
+
+    /**
+     * Only the processing rates of processing resources are synchronized by the
+     * ResourceEnvironmentSyncer; other specifications, e.g. of linking resources, are read from the
+     * local copy.
+     */
+    private static boolean isProcessingRate(final Object randomVariable) {
+        return randomVariable instanceof EObject
+                && ((EObject) randomVariable).eContainer() instanceof ProcessingResourceSpecification
+                && ((EObject) randomVariable).eContainmentFeature() == ResourceenvironmentPackage.eINSTANCE
+                    .getProcessingResourceSpecification_ProcessingRate_ProcessingResourceSpecification();
+    }
+
+    /**
+     * Processing rates in resource environments are synchronized with the simulated resources by
+     * the ResourceEnvironmentSyncer and are not read from the local copy.
+     */
+    private boolean isSyncedResource(final Resource resource) {
+        if (resource == null) {
+            return false;
+        }
+        Boolean synced = this.syncedResources.get(resource);
+        if (synced == null) {
+            synced = !resource.getContents().isEmpty()
+                    && resource.getContents().stream().allMatch(ResourceEnvironment.class::isInstance);
+            this.syncedResources.put(resource, synced);
+        }
+        return synced;
+    }
+
+    /**
+     * Gets the resource containing the notifier of the given notification.
+     *
+     * @param notification
+     *            the notification.
+     * @return the resource, or {@code null} if the notifier is not contained in a resource.
+     */
+    static Resource getResource(final Notification notification) {
+        final Object notifier = notification.getNotifier();
+        if (notifier instanceof Resource) {
+            return (Resource) notifier;
+        }
+        if (notifier instanceof EObject) {
+            return ((EObject) notifier).eResource();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,233 @@
+package org.palladiosimulator.simulizar.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.notify.NotificationChain;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentsEList;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.palladiosimulator.analyzer.workflow.blackboard.PCMResourceSetPartition;
+
+/**
+ * Creates the local copies of the global PCM model handed out by the {@link PCMPartitionManager}.
+ *
+ * The first copy is a deep copy of all resources of the global resource set. Subsequent copies
+ * only re-copy the resources which changed since the previous copy, together with all resources
+ * referencing them (directly or transitively) and all resources connected to them by
+ * bidirectional references. The copies of all other resources are taken over from the previous
+ * copy, so that e.g. a changed processing rate in the resource environment does not require to
+ * copy the repository.
+ *
+ * Copies taken over are never modified, hence model elements of previous copies which are still
+ * used by running simulation threads stay consistent. A copy resource which is taken over stays
+ * in the resource set of the partition it was created for and is only listed in the resource sets
+ * of the newer partitions, so outdated partitions still find all their model roots.
+ */
+public class PCMPartitionCopier {
+
+    private static final Logger LOGGER = Logger.getLogger(PCMPartitionCopier.class);
+
+    private final ResourceSet globalResourceSet;
+
+    /** The copier which created the current copy of each global resource. */
+    private final Map<Resource, ReusingCopier> copiers = new HashMap<>();
+    /** The current copy of each global resource. */
+    private final Map<Resource, Resource> copiedResources = new HashMap<>();
+    /** The resources each global resource refers to by non-containment references. */
+    private final Map<Resource, Set<Resource>> referencedResources = new HashMap<>();
+    /** The resources each global resource is connected to by bidirectional references. */
+    private final Map<Resource, Set<Resource>> oppositeResources = new HashMap<>();
+
+    private int copiedResourceCounter = 0;
+
+    /**
+     * @param globalResourceSet
+     *            the resource set to copy.
+     */
+    public PCMPartitionCopier(final ResourceSet globalResourceSet) {
+        this.globalResourceSet = globalResourceSet;
+    }
+
+    /**
+     * Creates a deep copy of all resources of the global resource set.
+     *
+     * @return the copied partition.
+     */
+    public PCMResourceSetPartition copy() {
+        return this.copy(this.globalResourceSet.getResources());
+    }
+
+    /**
+     * Creates a copy of the global resource set which only re-copies the changed resources and the
+     * resources depending on them. If no previous copy exists, all resources are copied.
+     *
+     * @param changedResources
+     *            the global resources which changed since the previous copy.
+     * @return the copied partition.
+     */
+    public PCMResourceSetPartition copy(final Collection<Resource> changedResources) {
+        final List<Resource> globalResources = new ArrayList<>(this.globalResourceSet.getResources());
+        final Set<Resource> resourcesToCopy = this.collectResourcesToCopy(globalResources, changedResources);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Copying " + resourcesToCopy.size() + " of " + globalResources.size()
+                    + " resources of the global PCM model");
+        }
+
+        final ReusingCopier copier = new ReusingCopier(this.copiers);
+        final Map<Resource, List<EObject>> copiedContents = new HashMap<>();
+        for (final Resource resource : globalResources) {
+            if (resourcesToCopy.contains(resource)) {
+                copiedContents.put(resource, new ArrayList<>(copier.copyAll(resource.getContents())));
+            }
+        }
+        copier.copyReferences();
+
+        final PCMResourceSetPartition newPartition = new PCMResourceSetPartition();
+        for (final Resource resource : globalResources) {
+            final List<EObject> contents = copiedContents.get(resource);
+            if (contents != null) {
+                final Resource copiedResource = newPartition.getResourceSet()
+                    .createResource(URI.createFileURI("/temp" + this.copiedResourceCounter++));
+                copiedResource.getContents().addAll(contents);
+                this.copiedResources.put(resource, copiedResource);
+                this.copiers.put(resource, copier);
+                this.updateReferencedResources(resource);
+            } else {
+                takeOver(newPartition.getResourceSet(), this.copiedResources.get(resource));
+            }
+        }
+        this.forgetRemovedResources(globalResources);
+        return newPartition;
+    }
+
+    /**
+     * Lists the given copy in the given resource set without removing it from the resource set it
+     * belongs to, as adding it regularly would.
+     */
+    private static void takeOver(final ResourceSet resourceSet, final Resource copiedResource) {
+        final NotificationChain notifications = ((InternalEList<Resource>) resourceSet.getResources())
+            .basicAdd(copiedResource, null);
+        if (notifications != null) {
+            notifications.dispatch();
+        }
+    }
+
+    private Set<Resource> collectResourcesToCopy(final List<Resource> globalResources,
+            final Collection<Resource> changedResources) {
+        final Set<Resource> resourcesToCopy = new HashSet<>();
+        for (final Resource resource : globalResources) {
+            if (!this.copiedResources.containsKey(resource) || changedResources.contains(resource)) {
+                resourcesToCopy.add(resource);
+            }
+        }
+        if (resourcesToCopy.size() == globalResources.size()) {
+            return resourcesToCopy;
+        }
+
+        // Copies of resources referring to re-copied resources have to be re-copied as well
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (final Resource resource : globalResources) {
+                if (!resourcesToCopy.contains(resource) && this.dependsOnAny(resource, resourcesToCopy)) {
+                    resourcesToCopy.add(resource);
+                    changed = true;
+                }
+            }
+        }
+        return resourcesToCopy;
+    }
+
+    private boolean dependsOnAny(final Resource resource, final Set<Resource> resourcesToCopy) {
+        for (final Resource referenced : this.referencedResources.getOrDefault(resource, Set.of())) {
+            if (resourcesToCopy.contains(referenced)) {
+                return true;
+            }
+        }
+        for (final Resource opposite : this.oppositeResources.getOrDefault(resource, Set.of())) {
+            if (resourcesToCopy.contains(opposite)) {
+                return true;
+            }
+        }
+        for (final Resource copied : resourcesToCopy) {
+            if (this.oppositeResources.getOrDefault(copied, Set.of()).contains(resource)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void updateReferencedResources(final Resource resource) {
+        final Set<Resource> referenced = new HashSet<>();
+        final Set<Resource> opposites = new HashSet<>();
+        for (final TreeIterator<EObject> contents = resource.getAllContents(); contents.hasNext();) {
+            final EObject eObject = contents.next();
+            for (final EContentsEList.FeatureIterator<EObject> crossReferences = (EContentsEList.FeatureIterator<EObject>) eObject
+                .eCrossReferences()
+                .iterator(); crossReferences.hasNext();) {
+                final Resource referencedResource = crossReferences.next().eResource();
+                if (referencedResource != null && referencedResource != resource) {
+                    referenced.add(referencedResource);
+                    if (((EReference) crossReferences.feature()).getEOpposite() != null) {
+                        opposites.add(referencedResource);
+                    }
+                }
+            }
+        }
+        this.referencedResources.put(resource, referenced);
+        this.oppositeResources.put(resource, opposites);
+    }
+
+    private void forgetRemovedResources(final List<Resource> globalResources) {
+        if (this.copiedResources.size() != globalResources.size()) {
+            final Set<Resource> existing = new HashSet<>(globalResources);
+            this.copiedResources.keySet().retainAll(existing);
+            this.copiers.keySet().retainAll(existing);
+            this.referencedResources.keySet().retainAll(existing);
+            this.oppositeResources.keySet().retainAll(existing);
+        }
+    }
+
+    /**
+     * Copier which resolves references to elements of resources which are not re-copied to their
+     * copies in the previous partition.
+     */
+    private static final class ReusingCopier extends EcoreUtil.Copier {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Map<Resource, ReusingCopier> previousCopiers;
+
+        private ReusingCopier(final Map<Resource, ReusingCopier> previousCopiers) {
+            super();
+            this.previousCopiers = previousCopiers;
+        }
+
+        @Override
+        public EObject get(final Object key) {
+            final EObject copy = super.get(key);
+            if (copy != null || !(key instanceof EObject)) {
+                return copy;
+            }
+            final ReusingCopier previousCopier = this.previousCopiers.get(((EObject) key).eResource());
+            return previousCopier != null ? previousCopier.getOwnCopy(key) : null;
+        }
+
+        private EObject getOwnCopy(final Object key) {
+            return super.get(key);
+        }
+    }
+}
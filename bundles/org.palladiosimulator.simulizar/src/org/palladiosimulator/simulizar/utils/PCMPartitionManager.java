@@ -4,8 +4,10 @@ import static org.palladiosimulator.simulizar.utils.ResourceUtil.createRuntimeMe
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -13,24 +15,17 @@ import java.util.stream.Stream;
 import org.apache.log4j.Logger;
 import org.eclipse.emf.common.notify.Adapter;
 import org.eclipse.emf.common.notify.Notification;
-import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
-import org.eclipse.emf.ecore.EStructuralFeature;
-import org.eclipse.emf.ecore.EcorePackage;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EContentAdapter;
-import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.palladiosimulator.analyzer.workflow.blackboard.PCMResourceSetPartition;
 import org.palladiosimulator.analyzer.workflow.jobs.LoadPCMModelsIntoBlackboardJob;
-import org.palladiosimulator.commons.emfutils.EMFCopyHelper;
-import org.palladiosimulator.pcm.PcmPackage;
 import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementFactory;
 import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
 import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementPackage;
 import org.palladiosimulator.simulizar.runconfig.SimuLizarWorkflowConfiguration;
 
-import de.uka.ipd.sdq.stoex.StoexPackage;
 import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
 
 /**
@@ -50,6 +45,14 @@ public class PCMPartitionManager {
 	private boolean isObservingPcmChanges = false;
 	private PCMResourceSetPartition currentPartition;
 	private boolean modelsDirty = false;
+	private long snapshotVersion = 0;
+	private PCMPartitionManager latestSnapshot;
+	private final CompiledStoExCache compiledStoExCache;
+	private final ResourceTypeCache resourceTypeCache;
+	private final BranchSelectionCache branchSelectionCache;
+	private final PCMPartitionCopier partitionCopier;
+	private final PCMChangeClassifier changeClassifier;
+	private final Set<Resource> changedResources = new HashSet<>();
 
 	/**
 	 * A log listener which logs all changes in the global PCM model.
@@ -59,32 +62,29 @@ public class PCMPartitionManager {
 		@Override
 		public void notifyChanged(final Notification notification) {
 			super.notifyChanged(notification);
-			// The models should not be marked as a new local copy if only individual
-			// values, and
-			// not references (i.e. wiring) has changed.
-			if (isPCMModel(notification.getFeature()) && notification.getEventType() != Notification.REMOVING_ADAPTER) {
+			final Resource resource = PCMChangeClassifier.getResource(notification);
+			switch (PCMPartitionManager.this.changeClassifier.classify(notification, resource)) {
+			case LOCAL_MODEL:
 				if (LOGGER.isDebugEnabled()) {
 					LOGGER.debug("Detected change in global PCM model. Changed object: " + notification.getNotifier());
 					LOGGER.debug(notification.toString());
 				}
 				PCMPartitionManager.this.modelsDirty = true;
+				PCMPartitionManager.this.changedResources.add(resource);
+				PCMPartitionManager.this.compiledStoExCache.invalidate();
+				PCMPartitionManager.this.resourceTypeCache.invalidate();
+				PCMPartitionManager.this.branchSelectionCache.invalidate();
+				break;
+			case SYNCED:
+				// The change is applied to the simulation by the model syncers. The local copy
+				// of the resource is refreshed with the next copy, but does not enforce one.
+				PCMPartitionManager.this.changedResources.add(resource);
+				break;
+			default:
+				break;
 			}
 		}
 
-		private boolean isPCMModel(Object feature) {
-			if (EcorePackage.eINSTANCE.getEObject().isInstance(feature)
-					&& EcorePackage.eINSTANCE.getEStructuralFeature().isInstance(feature)) {
-				EStructuralFeature eStructFeature = (EStructuralFeature) feature;
-				EClass containingClass = eStructFeature.getEContainingClass();
-				EObject rootContainer = EcoreUtil.getRootContainer(containingClass);
-
-				if (PcmPackage.eINSTANCE == rootContainer || StoexPackage.eINSTANCE == rootContainer) {
-					return true;
-				}
-			}
-			return false;
-		}
-
 	};
 
 	/**
@@ -101,6 +101,11 @@ public class PCMPartitionManager {
 		this.blackboard = blackboard;
 		this.globalPartition = (PCMResourceSetPartition) blackboard
 				.getPartition(LoadPCMModelsIntoBlackboardJob.PCM_MODELS_PARTITION_ID);
+		this.compiledStoExCache = new CompiledStoExCache();
+		this.resourceTypeCache = new ResourceTypeCache();
+		this.branchSelectionCache = new BranchSelectionCache();
+		this.partitionCopier = new PCMPartitionCopier(this.globalPartition.getResourceSet());
+		this.changeClassifier = new PCMChangeClassifier();
 		this.currentPartition = this.copyPCMPartition();
 
 		initRuntimeMeasurementModel(config.getMonitorRepositoryFile());
@@ -116,6 +121,14 @@ public class PCMPartitionManager {
 		this.currentPartition = managerToCopy.currentPartition;
 		this.blackboard = managerToCopy.blackboard;
 		this.globalPartition = managerToCopy.globalPartition;
+		this.compiledStoExCache = managerToCopy.compiledStoExCache;
+		this.resourceTypeCache = managerToCopy.resourceTypeCache;
+		this.branchSelectionCache = managerToCopy.branchSelectionCache;
+		this.partitionCopier = managerToCopy.partitionCopier;
+		this.changeClassifier = managerToCopy.changeClassifier;
+		this.snapshotVersion = managerToCopy.snapshotVersion;
+		// snapshots never change, so a snapshot of a snapshot is the snapshot itself
+		this.latestSnapshot = this;
 	}
 
 	private void initRuntimeMeasurementModel(String folder) {
@@ -157,20 +170,30 @@ public class PCMPartitionManager {
 		if (this.modelsDirty) {
 			this.currentPartition = this.copyPCMPartition();
 			this.modelsDirty = false;
+			this.snapshotVersion++;
 		}
 	}
 
 	/**
-	 * @return a copy of the global PCM modeling partition
+	 * @return a copy of the global PCM modeling partition. Only the resources
+	 *         changed since the last copy, the resources depending on them and the
+	 *         resources which are not observed for changes are copied again.
+	 * 
+	 * @see PCMPartitionCopier
 	 */
 	private PCMResourceSetPartition copyPCMPartition() {
 		LOGGER.debug("Take a new copy of the global PCM for new simulation threads");
-		final PCMResourceSetPartition newPartition = new PCMResourceSetPartition();
-		final List<EObject> modelCopy = EMFCopyHelper.deepCopyToEObjectList(this.globalPartition.getResourceSet());
-		for (int i = 0; i < modelCopy.size(); i++) {
-			final Resource resource = newPartition.getResourceSet().createResource(URI.createFileURI("/temp" + i));
-			resource.getContents().add(modelCopy.get(i));
+		final Predicate<Resource> observed = resourcesToListen();
+		for (final Resource resource : this.globalPartition.getResourceSet().getResources()) {
+			if (!this.isObservingPcmChanges || !observed.test(resource)) {
+				this.changedResources.add(resource);
+			}
 		}
+		// detached elements cannot be assigned to a resource, copy everything in this case
+		final PCMResourceSetPartition newPartition = this.changedResources.remove(null)
+				? this.partitionCopier.copy()
+				: this.partitionCopier.copy(this.changedResources);
+		this.changedResources.clear();
 		return newPartition;
 	}
 
@@ -244,12 +267,59 @@ public class PCMPartitionManager {
 	}
 
 	/**
+	 * Snapshots are immutable, so all snapshots taken while the global PCM model
+	 * did not change in a way requiring a new local copy are the same instance. A
+	 * new snapshot is only created after the change listener reported such a
+	 * change.
+	 * 
 	 * @return a snapshot of the current PCMPartitionManager object.
 	 * 
 	 * @see #PCMPartitionManager(PCMPartitionManager)
+	 * @see #getSnapshotVersion()
 	 */
 	public PCMPartitionManager makeSnapshot() {
-		return new PCMPartitionManager(this);
+		checkAndHandleDeferredChanges();
+		if (this.latestSnapshot == null || this.latestSnapshot.snapshotVersion != this.snapshotVersion) {
+			this.latestSnapshot = new PCMPartitionManager(this);
+		}
+		return this.latestSnapshot;
+	}
+
+	/**
+	 * @return the version of the local PCM model. The version is incremented
+	 *         whenever a new local copy of the global PCM model is taken, so
+	 *         snapshots with the same version share the same local PCM model.
+	 */
+	public long getSnapshotVersion() {
+		checkAndHandleDeferredChanges();
+		return this.snapshotVersion;
+	}
+
+	/**
+	 * @return the cache of compiled StoEx specifications of the simulated PCM
+	 *         models. The cache is shared by all snapshots of this manager and is
+	 *         invalidated whenever the global PCM model changes.
+	 */
+	public CompiledStoExCache getCompiledStoExCache() {
+		return this.compiledStoExCache;
+	}
+
+	/**
+	 * @return the cache of resource types providing resource interfaces. The cache
+	 *         is shared by all snapshots of this manager and is invalidated
+	 *         whenever the global PCM model changes.
+	 */
+	public ResourceTypeCache getResourceTypeCache() {
+		return this.resourceTypeCache;
+	}
+
+	/**
+	 * @return the cache of summed branch probabilities of the simulated PCM
+	 *         models. The cache is shared by all snapshots of this manager and is
+	 *         invalidated whenever the global PCM model changes.
+	 */
+	public BranchSelectionCache getBranchSelectionCache() {
+		return this.branchSelectionCache;
 	}
 
 	/**
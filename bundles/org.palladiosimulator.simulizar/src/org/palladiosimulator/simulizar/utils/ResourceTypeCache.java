@@ -0,0 +1,63 @@
+package org.palladiosimulator.simulizar.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.palladiosimulator.pcm.core.entity.ResourceProvidedRole;
+import org.palladiosimulator.pcm.resourcetype.ResourceInterface;
+import org.palladiosimulator.pcm.resourcetype.ResourceRepository;
+import org.palladiosimulator.pcm.resourcetype.ResourceType;
+
+/**
+ * Memoizes which {@link ResourceType} provides a {@link ResourceInterface}. The mapping of
+ * resource interface IDs to providing resource types is built once per {@link ResourceRepository}
+ * so that resource calls do not need to scan all resource types and their provided roles.
+ *
+ * Like the {@link CompiledStoExCache}, the cache is owned by the {@link PCMPartitionManager} and
+ * is invalidated whenever the global PCM model changes.
+ */
+public class ResourceTypeCache {
+
+    private final Map<ResourceRepository, Map<String, ResourceType>> providingResourceTypes = new ConcurrentHashMap<>();
+
+    /**
+     * Gets the resource type which provides the given resource interface.
+     *
+     * @param resourceInterface
+     *            the resource interface.
+     * @return the providing resource type, or {@code null} if no resource type of the interface's
+     *         resource repository provides it.
+     */
+    public ResourceType getProvidingResourceType(final ResourceInterface resourceInterface) {
+        final ResourceRepository resourceRepository = resourceInterface.getResourceRepository__ResourceInterface();
+        Map<String, ResourceType> resourceTypes = this.providingResourceTypes.get(resourceRepository);
+        if (resourceTypes == null) {
+            resourceTypes = createProvidingResourceTypes(resourceRepository);
+            this.providingResourceTypes.put(resourceRepository, resourceTypes);
+        }
+        return resourceTypes.get(resourceInterface.getId());
+    }
+
+    /**
+     * Drops all memoized mappings. Called whenever the global PCM model changes.
+     */
+    public void invalidate() {
+        this.providingResourceTypes.clear();
+    }
+
+    private static Map<String, ResourceType> createProvidingResourceTypes(
+            final ResourceRepository resourceRepository) {
+        final Map<String, ResourceType> resourceTypes = new HashMap<>();
+        for (final ResourceType resourceType : resourceRepository.getAvailableResourceTypes_ResourceRepository()) {
+            for (final ResourceProvidedRole resourceProvidedRole : resourceType
+                    .getResourceProvidedRoles__ResourceInterfaceProvidingEntity()) {
+                resourceTypes.putIfAbsent(
+                        resourceProvidedRole.getProvidedResourceInterface__ResourceProvidedRole().getId(),
+                        resourceType);
+            }
+        }
+        return Collections.unmodifiableMap(resourceTypes);
+    }
+}
@@ -4,7 +4,11 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import org.apache.log4j.Logger;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.palladiosimulator.pcm.core.PCMRandomVariable;
 import org.palladiosimulator.pcm.parameter.VariableCharacterisation;
 import org.palladiosimulator.pcm.parameter.VariableUsage;
@@ -47,13 +51,9 @@ public final class SimulatedStackHelper {
                 final PCMRandomVariable randomVariable = variableCharacterisation
                         .getSpecification_VariableCharacterisation();
 
-                final AbstractNamedReference namedReference = variableCharacterisation
-                        .getVariableUsage_VariableCharacterisation().getNamedReference__VariableUsage();
-
-                final String id = new StoExPrettyPrintVisitor().doSwitch(namedReference).toString() + "."
-                        + variableCharacterisation.getType().getLiteral();
-                ;
-                if (SimulatedStackHelper.isInnerReference(namedReference)) {
+                final FrameKey frameKey = FrameKey.get(variableCharacterisation);
+                final String id = frameKey.id;
+                if (frameKey.innerReference) {
                     targetStackFrame.addValue(id,
                             new EvaluationProxy(randomVariable.getSpecification(), contextStackFrame.copyFrame()));
                 } else {
@@ -73,6 +73,54 @@ public final class SimulatedStackHelper {
         }
     }
 
+    /**
+     * The stack frame key of a variable characterisation and whether it characterises an INNER
+     * variable. The key is computed once and attached to the characterisation as adapter, so
+     * passing parameters neither pretty prints the variable reference nor concatenates strings.
+     * The key is recomputed if the characterisation or its variable usage changed.
+     */
+    private static final class FrameKey extends AdapterImpl {
+
+        private final AbstractNamedReference namedReference;
+        private final String id;
+        private final boolean innerReference;
+
+        private FrameKey(final VariableCharacterisation variableCharacterisation,
+                final AbstractNamedReference namedReference) {
+            this.namedReference = namedReference;
+            this.id = new StoExPrettyPrintVisitor().doSwitch(namedReference).toString() + "."
+                    + variableCharacterisation.getType().getLiteral();
+            this.innerReference = isInnerReference(namedReference);
+        }
+
+        private static FrameKey get(final VariableCharacterisation variableCharacterisation) {
+            final AbstractNamedReference namedReference = variableCharacterisation
+                    .getVariableUsage_VariableCharacterisation().getNamedReference__VariableUsage();
+            FrameKey frameKey = (FrameKey) EcoreUtil.getExistingAdapter(variableCharacterisation, FrameKey.class);
+            if (frameKey == null || frameKey.namedReference != namedReference) {
+                if (frameKey != null) {
+                    variableCharacterisation.eAdapters().remove(frameKey);
+                }
+                frameKey = new FrameKey(variableCharacterisation, namedReference);
+                variableCharacterisation.eAdapters().add(frameKey);
+            }
+            return frameKey;
+        }
+
+        @Override
+        public boolean isAdapterForType(final Object type) {
+            return type == FrameKey.class;
+        }
+
+        @Override
+        public void notifyChanged(final Notification notification) {
+            if (!notification.isTouch() && notification.getEventType() != Notification.REMOVING_ADAPTER
+                    && this.getTarget() != null) {
+                ((Notifier) this.getTarget()).eAdapters().remove(this);
+            }
+        }
+    }
+
     /**
      * Returns whether the specified reference belongs to an INNER variable characterisation.
      *
@@ -13,7 +13,6 @@ import org.palladiosimulator.pcm.usagemodel.BranchTransition;
 import org.palladiosimulator.simulizar.interpreter.InterpreterDefaultContext;
 
 import de.uka.ipd.sdq.simucomframework.SimuComConfig;
-import de.uka.ipd.sdq.simucomframework.variables.StackContext;
 
 /**
  *
@@ -28,6 +27,8 @@ public class TransitionDeterminer {
 
     private final SimuComConfig config;
     private final InterpreterDefaultContext context;
+    private final CompiledStoExCache stoExCache;
+    private final BranchSelectionCache branchSelectionCache;
 
     /**
      * Constructor.
@@ -41,6 +42,8 @@ public class TransitionDeterminer {
         super();
         this.config = context.getModel().getConfiguration();
         this.context = context;
+        this.stoExCache = context.getPCMPartitionManager().getCompiledStoExCache();
+        this.branchSelectionCache = context.getPCMPartitionManager().getBranchSelectionCache();
     }
 
     /**
@@ -51,8 +54,7 @@ public class TransitionDeterminer {
      * @return true if holds, otherwise false.
      */
     private boolean conditionHolds(final PCMRandomVariable condition) {
-        return StackContext.evaluateStatic(condition.getSpecification(), Boolean.class,
-                this.context.getStack().currentStackFrame());
+        return this.stoExCache.evaluate(condition, Boolean.class, this.context.getStack().currentStackFrame());
     }
 
     /**
@@ -66,7 +68,11 @@ public class TransitionDeterminer {
      * @param branchProbabilities
      *            a list with branch probabilities.
      * @return the summed probability list.
+     * @deprecated The summed probabilities of branches are cached, use
+     *             {@link BranchSelectionCache#getSummedProbabilities(List, java.util.function.ToDoubleFunction)}
+     *             instead.
      */
+    @Deprecated
     protected List<Double> createSummedProbabilityList(final List<Double> branchProbabilities) {
         double currentSum = 0;
         final List<Double> summedProbabilityList = new ArrayList<Double>();
@@ -85,10 +91,10 @@ public class TransitionDeterminer {
      * @return a branch transition.
      */
     public BranchTransition determineBranchTransition(final EList<BranchTransition> branchTransitions) {
-        final List<Double> summedProbabilityList = this
-                .createSummedProbabilityList(this.extractProbabiltiesUsageModel(branchTransitions));
+        final double[] summedProbabilities = this.branchSelectionCache.getSummedProbabilities(branchTransitions,
+                BranchTransition::getBranchProbability);
 
-        final int transitionIndex = this.getRandomIndex(summedProbabilityList, this.config);
+        final int transitionIndex = this.getRandomIndex(summedProbabilities, this.config);
 
         final BranchTransition branchTransition = branchTransitions.get(transitionIndex);
         if (LOGGER.isDebugEnabled()) {
@@ -147,10 +153,11 @@ public class TransitionDeterminer {
      */
     public ProbabilisticBranchTransition determineProbabilisticBranchTransition(
             final EList<AbstractBranchTransition> probabilisticBranchTransitions) {
-        final List<Double> summedProbabilityList = this
-                .createSummedProbabilityList(this.extractProbabiltiesRDSEFF(probabilisticBranchTransitions));
+        final double[] summedProbabilities = this.branchSelectionCache.getSummedProbabilities(
+                probabilisticBranchTransitions,
+                transition -> ((ProbabilisticBranchTransition) transition).getBranchProbability());
 
-        final int transitionIndex = this.getRandomIndex(summedProbabilityList, this.config);
+        final int transitionIndex = this.getRandomIndex(summedProbabilities, this.config);
 
         final ProbabilisticBranchTransition branchTransition = (ProbabilisticBranchTransition) probabilisticBranchTransitions
                 .get(transitionIndex);
@@ -191,7 +198,11 @@ public class TransitionDeterminer {
      * @param probabilisticBranchTransitions
      *            the list of ProbabilisticBranchTransition.
      * @return a list only containing the probabilities.
+     * @deprecated The summed probabilities of branches are cached, use
+     *             {@link BranchSelectionCache#getSummedProbabilities(List, java.util.function.ToDoubleFunction)}
+     *             instead.
      */
+    @Deprecated
     protected List<Double> extractProbabiltiesRDSEFF(
             final EList<AbstractBranchTransition> probabilisticBranchTransitions) {
         final List<Double> probabilityList = new ArrayList<Double>();
@@ -207,7 +218,11 @@ public class TransitionDeterminer {
      * @param branchTransitions
      *            the list of BranchTransition.
      * @return a list only containing the probabilities.
+     * @deprecated The summed probabilities of branches are cached, use
+     *             {@link BranchSelectionCache#getSummedProbabilities(List, java.util.function.ToDoubleFunction)}
+     *             instead.
      */
+    @Deprecated
     protected List<Double> extractProbabiltiesUsageModel(final EList<BranchTransition> branchTransitions) {
         final List<Double> probabilityList = new ArrayList<Double>();
         for (final BranchTransition branchTransition : branchTransitions) {
@@ -217,32 +232,20 @@ public class TransitionDeterminer {
     }
 
     /**
-     * Method calculates a random index for the given list of summed probabilities.
+     * Method calculates a random index for the given summed probabilities.
      *
-     * @param summedProbabilityList
-     *            a list of summed probabilities.
+     * @param summedProbabilities
+     *            the summed probabilities.
      * @param simuComConfig
      *            the SimuCom config.
-     * @return a random index, or -1 if summedProbabilityList is empty, or no index can be
+     * @return a random index, or -1 if summedProbabilities is empty, or no index can be
      *         determined.
      */
-    private int getRandomIndex(final List<Double> summedProbabilityList, final SimuComConfig simuComConfig) {
-        if (summedProbabilityList.size() == 0) {
+    private int getRandomIndex(final double[] summedProbabilities, final SimuComConfig simuComConfig) {
+        if (summedProbabilities.length == 0) {
             return -1;
         }
-
-        final double lastSum = summedProbabilityList.get(summedProbabilityList.size() - 1);
-        final double randomNumer = simuComConfig.getRandomGenerator().random();
-
-        // get branch
-        int i = 0;
-        for (final Double sum : summedProbabilityList) {
-            if (lastSum * randomNumer < sum) {
-                return i;
-            }
-            i++;
-        }
-        return -1;
+        return BranchSelectionCache.selectIndex(summedProbabilities, simuComConfig.getRandomGenerator().random());
     }
 
 }
@@ -3,6 +3,9 @@ package org.palladiosimulator.simulizar.slidingwindow.aggregators.tests;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.ArrayList;
+import java.util.LinkedList;
+
 import javax.measure.Measure;
 import javax.measure.quantity.Dimensionless;
 import javax.measure.quantity.Duration;
@@ -153,6 +156,46 @@ public abstract class SlidingWindowStatisticalCharacterizationAggregatorTest ext
         assertLastRecordedMeasurementEquals(this.exepectedAggregatedResponseTimeMeasuringValueSecondTest);
     }
 
+    @Test
+    public void testOnSlidingWindowFullAfterMoveOn() {
+        addResponseTimeTupleMeasurementsOddNumber();
+        this.aggregatorUnderTest.onSlidingWindowFull(this.data, this.currentLowerBound, this.windowLength);
+
+        // evict the two oldest measurements and add a new one
+        this.data.removeFirst();
+        this.data.removeFirst();
+        this.data.addLast(new TupleMeasurement(WINDOW_DATA_METRIC, Measure.valueOf(12d, SI.SECOND),
+                this.milliSecondsResponseTime));
+        this.aggregatorUnderTest.onSlidingWindowFull(this.data, this.currentLowerBound, this.windowLength);
+        MeasuringValue aggregatedAfterMoveOn = this.dummyRecorder.getLastMeasurement();
+
+        new SlidingWindowStatisticalCharacterizationAggregator(this.dummyRecorder,
+                getStatisticalCharacterizationAggregator(RESULT_METRIC)).onSlidingWindowFull(this.data,
+                        this.currentLowerBound, this.windowLength);
+        assertLastRecordedMeasurementEquals(aggregatedAfterMoveOn);
+    }
+
+    @Test
+    public void testOnSlidingWindowFullAfterMoveOnLinkedList() {
+        addResponseTimeTupleMeasurementsOddNumber();
+        final LinkedList<MeasuringValue> linkedData = new LinkedList<>(this.data);
+        this.aggregatorUnderTest.onSlidingWindowFull(linkedData, this.currentLowerBound, this.windowLength);
+
+        // evict the oldest measurement and add two new ones
+        linkedData.removeFirst();
+        linkedData.addLast(new TupleMeasurement(WINDOW_DATA_METRIC, Measure.valueOf(11d, SI.SECOND),
+                this.secondsResponseTime));
+        linkedData.addLast(new TupleMeasurement(WINDOW_DATA_METRIC, Measure.valueOf(12d, SI.SECOND),
+                this.milliSecondsResponseTime));
+        this.aggregatorUnderTest.onSlidingWindowFull(linkedData, this.currentLowerBound, this.windowLength);
+        MeasuringValue aggregatedAfterMoveOn = this.dummyRecorder.getLastMeasurement();
+
+        new SlidingWindowStatisticalCharacterizationAggregator(this.dummyRecorder,
+                getStatisticalCharacterizationAggregator(RESULT_METRIC)).onSlidingWindowFull(
+                        new ArrayList<>(linkedData), this.currentLowerBound, this.windowLength);
+        assertLastRecordedMeasurementEquals(aggregatedAfterMoveOn);
+    }
+
     @Test
     public final void testGetExpectedWindowDataMetric() {
         assertEquals(RESULT_METRIC, this.aggregatorUnderTest.getExpectedWindowDataMetric());
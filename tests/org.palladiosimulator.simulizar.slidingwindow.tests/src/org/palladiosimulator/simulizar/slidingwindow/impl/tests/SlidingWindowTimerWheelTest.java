@@ -0,0 +1,191 @@
+package org.palladiosimulator.simulizar.slidingwindow.impl.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import javax.measure.Measure;
+import javax.measure.quantity.Duration;
+import javax.measure.unit.SI;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.palladiosimulator.experimentanalysis.DiscardAllElementsPriorToLowerBoundStrategy;
+import org.palladiosimulator.experimentanalysis.ISlidingWindowListener;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.metricspec.MetricDescription;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulator.simulizar.slidingwindow.impl.SimulizarSlidingWindow;
+import org.palladiosimulator.simulizar.slidingwindow.tests.utils.SimuComModelMock;
+
+/**
+ * Tests the moving of {@link SimulizarSlidingWindow}s by the timer wheel of their simulation.
+ */
+public class SlidingWindowTimerWheelTest {
+
+    private static final MetricDescription WINDOW_METRIC = MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE;
+
+    // constant that denotes the maximum delta between double values for which both numbers are
+    // still considered equal
+    private static final double DELTA = Math.pow(10, -9);
+
+    private SimuComModelMock model = null;
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Before
+    public void setUp() throws Exception {
+        this.model = (SimuComModelMock) SimuComModelMock.obtainMockModel(this.tempFolder);
+        // the mocked simulation starts at the maximum simulation time
+        this.model.getSimulationControl().setMaxSimTime(0);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        SimuComModelMock.releaseMockModel();
+        this.model = null;
+    }
+
+    @Test
+    public void testWindowsWithSameStartAndIncrementAreMovedByOneEvent() {
+        final SimulizarSlidingWindow first = createWindow(10d, 5d);
+        final SimulizarSlidingWindow second = createWindow(10d, 5d);
+        assertEquals(1, this.model.getNumberOfScheduledEvents());
+
+        runNextScheduledEvent(10d);
+        assertLowerBound(5d, first);
+        assertLowerBound(5d, second);
+        assertEquals(1, this.model.getNumberOfScheduledEvents());
+
+        runNextScheduledEvent(15d);
+        assertLowerBound(10d, first);
+        assertLowerBound(10d, second);
+    }
+
+    @Test
+    public void testWindowsWithDifferentIncrementsInterleave() {
+        final SimulizarSlidingWindow everyTwoSeconds = createWindow(2d, 2d);
+        final SimulizarSlidingWindow everyThreeSeconds = createWindow(3d, 3d);
+        // a single event is scheduled for the earliest window at any time
+        assertEquals(1, this.model.getNumberOfScheduledEvents());
+
+        runNextScheduledEvent(2d);
+        assertLowerBound(2d, everyTwoSeconds);
+        assertLowerBound(0d, everyThreeSeconds);
+
+        runNextScheduledEvent(3d);
+        assertLowerBound(2d, everyTwoSeconds);
+        assertLowerBound(3d, everyThreeSeconds);
+
+        runNextScheduledEvent(4d);
+        assertLowerBound(4d, everyTwoSeconds);
+        assertLowerBound(3d, everyThreeSeconds);
+
+        // both windows are due
+        runNextScheduledEvent(6d);
+        assertLowerBound(6d, everyTwoSeconds);
+        assertLowerBound(6d, everyThreeSeconds);
+        assertEquals(1, this.model.getNumberOfScheduledEvents());
+
+        runNextScheduledEvent(8d);
+        assertLowerBound(8d, everyTwoSeconds);
+        assertLowerBound(6d, everyThreeSeconds);
+    }
+
+    @Test
+    public void testUnregisterOtherWindowWhileMoving() {
+        final SimulizarSlidingWindow first = createWindow(2d, 2d);
+        final SimulizarSlidingWindow second = createWindow(2d, 2d);
+        final SimulizarSlidingWindow other = createWindow(3d, 3d);
+        first.addObserver(new StopOnceListener(second));
+
+        runNextScheduledEvent(2d);
+        assertLowerBound(2d, first);
+        final double stoppedLowerBound = second.getCurrentLowerBound().doubleValue(SI.SECOND);
+
+        runNextScheduledEvent(3d);
+        assertLowerBound(3d, other);
+
+        runNextScheduledEvent(4d);
+        assertLowerBound(4d, first);
+        assertLowerBound(stoppedLowerBound, second);
+
+        runNextScheduledEvent(6d);
+        assertLowerBound(6d, first);
+        assertLowerBound(6d, other);
+        assertLowerBound(stoppedLowerBound, second);
+    }
+
+    @Test
+    public void testUnregisterWhileMoving() {
+        final SimulizarSlidingWindow stopping = createWindow(2d, 2d);
+        final SimulizarSlidingWindow other = createWindow(3d, 3d);
+        stopping.addObserver(new StopOnceListener(stopping));
+
+        runNextScheduledEvent(2d);
+        final double stoppedLowerBound = stopping.getCurrentLowerBound().doubleValue(SI.SECOND);
+        assertEquals(1, this.model.getNumberOfScheduledEvents());
+
+        runNextScheduledEvent(3d);
+        assertLowerBound(3d, other);
+
+        runNextScheduledEvent(6d);
+        assertLowerBound(6d, other);
+        assertLowerBound(stoppedLowerBound, stopping);
+    }
+
+    @Test
+    public void testUnregisterLastWindow() {
+        final SimulizarSlidingWindow window = createWindow(2d, 2d);
+        window.flushAndStopAggregation();
+
+        assertEquals(0, this.model.getNumberOfScheduledEvents());
+        assertFalse(this.model.runNextScheduledEvent());
+    }
+
+    private SimulizarSlidingWindow createWindow(final double length, final double increment) {
+        return new SimulizarSlidingWindow(Measure.valueOf(length, SI.SECOND), Measure.valueOf(increment, SI.SECOND),
+                WINDOW_METRIC, new DiscardAllElementsPriorToLowerBoundStrategy(), this.model);
+    }
+
+    private void runNextScheduledEvent(final double expectedTime) {
+        assertTrue(this.model.runNextScheduledEvent());
+        assertEquals(expectedTime, this.model.getSimulationControl().getCurrentSimulationTime(), DELTA);
+    }
+
+    private static void assertLowerBound(final double expected, final SimulizarSlidingWindow window) {
+        assertEquals(expected, window.getCurrentLowerBound().doubleValue(SI.SECOND), DELTA);
+    }
+
+    /**
+     * Stops the aggregation of a window once the observed window is full for the first time.
+     */
+    private static final class StopOnceListener implements ISlidingWindowListener {
+
+        private final SimulizarSlidingWindow windowToStop;
+        private boolean stopped = false;
+
+        private StopOnceListener(final SimulizarSlidingWindow windowToStop) {
+            this.windowToStop = windowToStop;
+        }
+
+        @Override
+        public void onSlidingWindowFull(final Iterable<MeasuringValue> windowData,
+                final Measure<Double, Duration> windowLeftBound, final Measure<Double, Duration> windowLength) {
+            if (!this.stopped) {
+                // flushing the window notifies this listener again
+                this.stopped = true;
+                this.windowToStop.flushAndStopAggregation();
+            }
+        }
+
+        @Override
+        public MetricDescription getExpectedWindowDataMetric() {
+            return WINDOW_METRIC;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.palladiosimulator.simulizar.slidingwindow.tests.utils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Observer;
 
 import de.uka.ipd.sdq.simulation.abstractsimengine.AbstractSimEntityDelegator;
@@ -15,6 +17,11 @@ import de.uka.ipd.sdq.simulation.abstractsimengine.SimCondition;
 
 final class SimEngineFactoryMock implements ISimEngineFactory {
 	
+	private double simTime = Double.MAX_VALUE;
+
+	// events are only executed on request, see runNextScheduledEvent()
+	private final List<ScheduledEvent<?>> scheduledEvents = new ArrayList<ScheduledEvent<?>>();
+
 	@Override
 	public void setModel(ISimulationModel model) {
 			
@@ -24,8 +31,6 @@ final class SimEngineFactoryMock implements ISimEngineFactory {
 	public ISimulationControl createSimulationControl() {
 		return new ISimulationControl() {
 			
-			private double simTime = Double.MAX_VALUE;
-			
 			@Override
 			public void stop() {
 			}
@@ -36,7 +41,7 @@ final class SimEngineFactoryMock implements ISimEngineFactory {
 			
 			@Override
 			public void setMaxSimTime(long simTime) {
-				this.simTime = simTime;
+				SimEngineFactoryMock.this.simTime = simTime;
 			}
 			
 			@Override
@@ -72,17 +77,23 @@ final class SimEngineFactoryMock implements ISimEngineFactory {
 			AbstractSimEventDelegator<E> myEvent, String name) {
 		return new ISimEvent<E>() {
 
+			private ScheduledEvent<E> scheduledEvent = null;
+
 			@Override
 			public void schedule(E entity, double delay) {
+				this.scheduledEvent = new ScheduledEvent<E>(myEvent, entity, simTime + delay);
+				scheduledEvents.add(this.scheduledEvent);
 			}
 
 			@Override
 			public void removeEvent() {
+				scheduledEvents.remove(this.scheduledEvent);
+				this.scheduledEvent = null;
 			}
 
 			@Override
 			public double scheduledAtTime() {
-				return 0;
+				return this.scheduledEvent == null ? 0 : this.scheduledEvent.time;
 			}
 		};
 	}
@@ -92,4 +103,45 @@ final class SimEngineFactoryMock implements ISimEngineFactory {
 		return null;
 	}
 
+	int getNumberOfScheduledEvents() {
+		return this.scheduledEvents.size();
+	}
+
+	/**
+	 * Advances the simulation time to the earliest scheduled event and executes it. Events
+	 * scheduled for the same time are executed in the order they were scheduled.
+	 *
+	 * @return {@code false} if no event was scheduled.
+	 */
+	boolean runNextScheduledEvent() {
+		ScheduledEvent<?> nextEvent = null;
+		for (final ScheduledEvent<?> event : this.scheduledEvents) {
+			if (nextEvent == null || event.time < nextEvent.time) {
+				nextEvent = event;
+			}
+		}
+		if (nextEvent == null) {
+			return false;
+		}
+		this.scheduledEvents.remove(nextEvent);
+		this.simTime = nextEvent.time;
+		nextEvent.execute();
+		return true;
+	}
+
+	private static final class ScheduledEvent<E extends IEntity> {
+		private final AbstractSimEventDelegator<E> event;
+		private final E entity;
+		private final double time;
+
+		private ScheduledEvent(AbstractSimEventDelegator<E> event, E entity, double time) {
+			this.event = event;
+			this.entity = entity;
+			this.time = time;
+		}
+
+		private void execute() {
+			this.event.eventRoutine(this.entity);
+		}
+	}
 }
@@ -28,6 +28,8 @@ public class SimuComModelMock extends SimuComModel {
 
     private static SimuComModelMock instance = null;
 
+    private final SimEngineFactoryMock engineFactory;
+
     private static void createRepository(TemporaryFolder repoFolder) throws IOException {
         repo = LocalDirectoryRepositoryHelper.initializeLocalDirectoryRepository(repoFolder.newFolder("testRepo"));
         repoId = repo.getId();
@@ -66,10 +68,26 @@ public class SimuComModelMock extends SimuComModel {
         new MockWindowMoveOnTriggeredEvent(this, window).triggerInternal();
     }
 
+    /**
+     * @return The number of simulation events which are currently scheduled.
+     */
+    public int getNumberOfScheduledEvents() {
+        return this.engineFactory.getNumberOfScheduledEvents();
+    }
+
+    /**
+     * Advances the simulation time to the earliest scheduled simulation event and executes it.
+     *
+     * @return {@code false} if no event was scheduled.
+     */
+    public boolean runNextScheduledEvent() {
+        return this.engineFactory.runNextScheduledEvent();
+    }
+
     public static SimuComModel obtainMockModel(TemporaryFolder repoFolder) throws IOException {
         if (instance == null) {
             createRepository(repoFolder);
-            instance = new SimuComModelMock();
+            instance = new SimuComModelMock(new SimEngineFactoryMock());
         }
         return instance;
     }
@@ -81,10 +99,11 @@ public class SimuComModelMock extends SimuComModel {
         }
     }
 
-    private SimuComModelMock() {
+    private SimuComModelMock(final SimEngineFactoryMock engineFactory) {
 
-        super(new SimuComConfig(createMockedConfiguration(), false), createSimuComStatus(), new SimEngineFactoryMock(),
-                false, new ProbeFrameworkContext(new DefaultCalculatorFactory()));
+        super(new SimuComConfig(createMockedConfiguration(), false), createSimuComStatus(), engineFactory, false,
+                new ProbeFrameworkContext(new DefaultCalculatorFactory()));
+        this.engineFactory = engineFactory;
     }
 
     private static class MockWindowMoveOnTriggeredEvent extends PeriodicallyTriggeredSimulationEntity {
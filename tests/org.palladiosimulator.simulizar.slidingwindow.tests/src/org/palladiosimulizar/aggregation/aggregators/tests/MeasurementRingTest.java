@@ -0,0 +1,191 @@
+package org.palladiosimulizar.aggregation.aggregators.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
+import javax.measure.Measure;
+import javax.measure.unit.SI;
+
+import org.junit.Test;
+import org.palladiosimulator.measurementframework.MeasuringValue;
+import org.palladiosimulator.measurementframework.TupleMeasurement;
+import org.palladiosimulator.metricspec.constants.MetricDescriptionConstants;
+import org.palladiosimulizar.aggregation.aggregators.MeasurementRing;
+
+public class MeasurementRingTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void testGrowableRingKeepsAllElements() {
+        final MeasurementRing ring = new MeasurementRing(2, true, true);
+        final List<MeasuringValue> measurements = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final MeasuringValue measurement = createMeasurement(i, 10d * i);
+            measurements.add(measurement);
+            ring.add(i, 10d * i, measurement);
+        }
+
+        assertEquals(5, ring.size());
+        assertEquals(8, ring.capacity());
+        assertFalse(ring.isFull());
+        assertEquals(100d, ring.getSum(), DELTA);
+        assertEquals(0d, ring.getEldestPointInTime(), DELTA);
+        assertEquals(4d, ring.getNewestPointInTime(), DELTA);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, ring.getPointInTime(i), DELTA);
+            assertEquals(10d * i, ring.getValue(i), DELTA);
+            assertSame(measurements.get(i), ring.getMeasurement(i));
+        }
+    }
+
+    @Test
+    public void testGrowingWrappedRingKeepsOrder() {
+        final MeasurementRing ring = new MeasurementRing(4, true, false);
+        for (int i = 0; i < 4; i++) {
+            ring.add(i, i, null);
+        }
+        ring.removeFirst();
+        ring.removeFirst();
+        // the next two elements wrap around to the start of the arrays
+        ring.add(4, 4, null);
+        ring.add(5, 5, null);
+        assertTrue(ring.isFull());
+        // grows while the least recent element is not at the start of the arrays
+        ring.add(6, 6, null);
+
+        assertEquals(8, ring.capacity());
+        assertEquals(5, ring.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i + 2, ring.getPointInTime(i), DELTA);
+            assertEquals(i + 2, ring.getValue(i), DELTA);
+        }
+        assertEquals(20d, ring.getSum(), DELTA);
+    }
+
+    @Test
+    public void testFixedSizeRingOverwritesEldestElement() {
+        final MeasurementRing ring = new MeasurementRing(3, false, true);
+        final List<MeasuringValue> measurements = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final MeasuringValue measurement = createMeasurement(i, i);
+            measurements.add(measurement);
+            ring.add(i, i, measurement);
+        }
+
+        assertEquals(3, ring.capacity());
+        assertEquals(3, ring.size());
+        assertTrue(ring.isFull());
+        assertEquals(2d, ring.getEldestPointInTime(), DELTA);
+        assertEquals(4d, ring.getNewestPointInTime(), DELTA);
+        assertEquals(9d, ring.getSum(), DELTA);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(i + 2, ring.getPointInTime(i), DELTA);
+            assertSame(measurements.get(i + 2), ring.getMeasurement(i));
+        }
+    }
+
+    @Test
+    public void testRemoveFirstEvictsEldestElement() {
+        final MeasurementRing ring = new MeasurementRing(4, true, true);
+        for (int i = 0; i < 3; i++) {
+            ring.add(i, i + 1, createMeasurement(i, i + 1));
+        }
+
+        ring.removeFirst();
+        assertEquals(2, ring.size());
+        assertEquals(1d, ring.getEldestPointInTime(), DELTA);
+        assertEquals(5d, ring.getSum(), DELTA);
+
+        ring.removeFirst();
+        ring.removeFirst();
+        assertTrue(ring.isEmpty());
+        assertEquals(0d, ring.getSum(), DELTA);
+
+        ring.add(3, 4, createMeasurement(3, 4));
+        assertEquals(1, ring.size());
+        assertEquals(3d, ring.getEldestPointInTime(), DELTA);
+        assertEquals(3d, ring.getNewestPointInTime(), DELTA);
+        assertEquals(4d, ring.getSum(), DELTA);
+    }
+
+    @Test
+    public void testClear() {
+        final MeasurementRing ring = new MeasurementRing(2, false, true);
+        ring.add(0, 1, createMeasurement(0, 1));
+        ring.add(1, 2, createMeasurement(1, 2));
+
+        ring.clear();
+        assertTrue(ring.isEmpty());
+        assertEquals(0d, ring.getSum(), DELTA);
+
+        ring.add(2, 3, createMeasurement(2, 3));
+        assertEquals(2d, ring.getEldestPointInTime(), DELTA);
+        assertEquals(3d, ring.getSum(), DELTA);
+    }
+
+    @Test
+    public void testSumIsPeriodicallyResummed() {
+        final MeasurementRing ring = new MeasurementRing(8, true, false);
+        // 1e16 + 1 is rounded to 1e16, so the running sum loses the ones
+        ring.add(0, 1e16, null);
+        ring.add(1, 1, null);
+        ring.add(2, 1, null);
+        ring.removeFirst();
+        assertEquals(0d, ring.getSum(), 0d);
+
+        // the rounding error is kept until the number of updates exceeds the capacity
+        for (int i = 3; i < 7; i++) {
+            ring.add(i, 1, null);
+        }
+        assertEquals(4d, ring.getSum(), 0d);
+
+        ring.add(7, 1, null);
+        assertEquals(7, ring.size());
+        assertEquals(7d, ring.getSum(), 0d);
+    }
+
+    @Test
+    public void testIncrementalMeanEqualsRecomputedMean() {
+        final Random random = new Random(42);
+        final double retrospectionLength = 10d;
+        final MeasurementRing ring = new MeasurementRing(4, true, false);
+        final Deque<Double> expectedValues = new ArrayDeque<>();
+
+        double pointInTime = 0d;
+        for (int i = 0; i < 10000; i++) {
+            pointInTime += random.nextDouble();
+            final double value = random.nextDouble() * Math.pow(10, random.nextInt(7));
+            ring.add(pointInTime, value, null);
+            expectedValues.addLast(value);
+            while (pointInTime - ring.getEldestPointInTime() > retrospectionLength) {
+                ring.removeFirst();
+                expectedValues.removeFirst();
+            }
+
+            assertEquals(expectedValues.size(), ring.size());
+            double recomputedSum = 0d;
+            for (int position = 0; position < ring.size(); position++) {
+                recomputedSum += ring.getValue(position);
+            }
+            final double recomputedMean = recomputedSum / ring.size();
+            final double expectedMean = expectedValues.stream().mapToDouble(Double::doubleValue).average()
+                .getAsDouble();
+            assertEquals(expectedMean, recomputedMean, Math.abs(expectedMean) * DELTA);
+            assertEquals(recomputedMean, ring.getSum() / ring.size(), Math.abs(recomputedMean) * DELTA);
+        }
+    }
+
+    private static MeasuringValue createMeasurement(final double pointInTime, final double responseTime) {
+        return new TupleMeasurement(MetricDescriptionConstants.RESPONSE_TIME_METRIC_TUPLE,
+                Measure.valueOf(pointInTime, SI.SECOND), Measure.valueOf(responseTime, SI.SECOND));
+    }
+}
@@ -0,0 +1,69 @@
+package org.palladiosimulator.simulizar.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.pcm.seff.BranchAction;
+import org.palladiosimulator.pcm.seff.ProbabilisticBranchTransition;
+import org.palladiosimulator.pcm.seff.SeffFactory;
+import org.palladiosimulator.simulizar.utils.BranchSelectionCache;
+
+public class BranchSelectionCacheTest {
+
+    private BranchSelectionCache cache;
+    private BranchAction branch;
+
+    @Before
+    public void setUp() {
+        this.cache = new BranchSelectionCache();
+        this.branch = SeffFactory.eINSTANCE.createBranchAction();
+        addTransition(0.2);
+        addTransition(0.0);
+        addTransition(0.5);
+        addTransition(0.3);
+    }
+
+    @Test
+    public void testSummedProbabilities() {
+        final double[] summed = this.getSummedProbabilities();
+        assertArrayEquals(new double[] { 0.2, 0.2, 0.7, 1.0 }, summed, 1e-9);
+        assertSame(summed, this.getSummedProbabilities());
+    }
+
+    @Test
+    public void testSelectIndex() {
+        final double[] summed = this.getSummedProbabilities();
+        assertEquals(0, BranchSelectionCache.selectIndex(summed, 0.0));
+        assertEquals(0, BranchSelectionCache.selectIndex(summed, 0.19));
+        assertEquals(2, BranchSelectionCache.selectIndex(summed, 0.2));
+        assertEquals(2, BranchSelectionCache.selectIndex(summed, 0.69));
+        assertEquals(3, BranchSelectionCache.selectIndex(summed, 0.7));
+        assertEquals(3, BranchSelectionCache.selectIndex(summed, 0.999));
+        assertEquals(-1, BranchSelectionCache.selectIndex(new double[0], 0.5));
+        assertEquals(-1, BranchSelectionCache.selectIndex(new double[] { 0.0, 0.0 }, 0.5));
+    }
+
+    @Test
+    public void testInvalidate() {
+        final double[] summed = this.getSummedProbabilities();
+        ((ProbabilisticBranchTransition) this.branch.getBranches_Branch().get(0)).setBranchProbability(0.4);
+        assertSame(summed, this.getSummedProbabilities());
+
+        this.cache.invalidate();
+        assertArrayEquals(new double[] { 0.4, 0.4, 0.9, 1.2 }, this.getSummedProbabilities(), 1e-9);
+    }
+
+    private double[] getSummedProbabilities() {
+        return this.cache.getSummedProbabilities(this.branch.getBranches_Branch(),
+                transition -> ((ProbabilisticBranchTransition) transition).getBranchProbability());
+    }
+
+    private void addTransition(final double probability) {
+        final ProbabilisticBranchTransition transition = SeffFactory.eINSTANCE.createProbabilisticBranchTransition();
+        transition.setBranchProbability(probability);
+        this.branch.getBranches_Branch().add(transition);
+    }
+}
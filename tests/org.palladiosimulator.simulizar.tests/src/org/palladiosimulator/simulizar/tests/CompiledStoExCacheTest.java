@@ -0,0 +1,56 @@
+package org.palladiosimulator.simulizar.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.pcm.core.CoreFactory;
+import org.palladiosimulator.pcm.core.PCMRandomVariable;
+import org.palladiosimulator.simulizar.utils.CompiledStoExCache;
+
+public class CompiledStoExCacheTest {
+
+    private CompiledStoExCache cache;
+
+    @Before
+    public void setUp() {
+        this.cache = new CompiledStoExCache();
+    }
+
+    @Test
+    public void testIntLiteral() {
+        final PCMRandomVariable variable = createRandomVariable("42");
+        assertEquals(Integer.valueOf(42), this.cache.evaluate(variable, Integer.class, null));
+        assertEquals(Double.valueOf(42.0), this.cache.evaluate(variable, Double.class, null));
+    }
+
+    @Test
+    public void testDoubleLiteral() {
+        final PCMRandomVariable variable = createRandomVariable(" 0.25 ");
+        assertEquals(Double.valueOf(0.25), this.cache.evaluate(variable, Double.class, null));
+    }
+
+    @Test
+    public void testBoolLiteral() {
+        assertEquals(Boolean.TRUE, this.cache.evaluate(createRandomVariable("true"), Boolean.class, null));
+        assertEquals(Boolean.FALSE, this.cache.evaluate(createRandomVariable("false"), Boolean.class, null));
+    }
+
+    @Test
+    public void testInvalidate() {
+        final PCMRandomVariable variable = createRandomVariable("1");
+        assertEquals(Integer.valueOf(1), this.cache.evaluate(variable, Integer.class, null));
+
+        variable.setSpecification("2");
+        assertEquals(Integer.valueOf(1), this.cache.evaluate(variable, Integer.class, null));
+
+        this.cache.invalidate();
+        assertEquals(Integer.valueOf(2), this.cache.evaluate(variable, Integer.class, null));
+    }
+
+    private static PCMRandomVariable createRandomVariable(final String specification) {
+        final PCMRandomVariable variable = CoreFactory.eINSTANCE.createPCMRandomVariable();
+        variable.setSpecification(specification);
+        return variable;
+    }
+}
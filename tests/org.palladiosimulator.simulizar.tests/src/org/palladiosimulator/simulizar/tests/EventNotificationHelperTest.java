@@ -0,0 +1,210 @@
+package org.palladiosimulator.simulizar.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.pcm.repository.OperationSignature;
+import org.palladiosimulator.pcm.repository.RepositoryFactory;
+import org.palladiosimulator.pcm.seff.ExternalCallAction;
+import org.palladiosimulator.pcm.seff.InternalAction;
+import org.palladiosimulator.pcm.seff.SeffFactory;
+import org.palladiosimulator.pcm.usagemodel.EntryLevelSystemCall;
+import org.palladiosimulator.pcm.usagemodel.UsageScenario;
+import org.palladiosimulator.pcm.usagemodel.UsagemodelFactory;
+import org.palladiosimulator.pcm.usagemodel.UsagemodelPackage;
+import org.palladiosimulator.simulizar.interpreter.EventNotificationHelper;
+import org.palladiosimulator.simulizar.interpreter.listener.AbstractInterpreterListener;
+import org.palladiosimulator.simulizar.interpreter.listener.EventType;
+import org.palladiosimulator.simulizar.interpreter.listener.ModelElementPassedEvent;
+import org.palladiosimulator.simulizar.interpreter.listener.RDSEFFElementPassedEvent;
+
+public class EventNotificationHelperTest {
+
+    private EventNotificationHelper helper;
+    private RecordingListener listener;
+
+    @Before
+    public void setUp() {
+        this.helper = new EventNotificationHelper();
+        this.listener = new RecordingListener();
+        this.helper.addObserver(this.listener);
+    }
+
+    @Test
+    public void testUsageModelElementsAreRouted() {
+        fire(UsagemodelFactory.eINSTANCE.createUsageScenario(), EventType.BEGIN);
+        fire(UsagemodelFactory.eINSTANCE.createEntryLevelSystemCall(), EventType.BEGIN);
+        fire(UsagemodelFactory.eINSTANCE.createEntryLevelSystemCall(), EventType.END);
+        fire(UsagemodelFactory.eINSTANCE.createUsageScenario(), EventType.END);
+
+        assertEquals(List.of("beginUsageScenario", "beginEntryLevelSystemCall", "endEntryLevelSystemCall",
+                "endUsageScenario"), this.listener.calls);
+    }
+
+    @Test
+    public void testRepositoryAndSeffElementsAreRouted() {
+        fire(RepositoryFactory.eINSTANCE.createOperationSignature(), EventType.BEGIN);
+        final ExternalCallAction externalCall = SeffFactory.eINSTANCE.createExternalCallAction();
+        this.helper.firePassedEvent(
+                new RDSEFFElementPassedEvent<ExternalCallAction>(externalCall, EventType.BEGIN, null, null, 0.0));
+        fire(RepositoryFactory.eINSTANCE.createOperationSignature(), EventType.END);
+
+        assertEquals(List.of("beginSystemOperationCall", "beginExternalCall", "endSystemOperationCall"),
+                this.listener.calls);
+    }
+
+    @Test
+    public void testOtherElementsAreRoutedAsUnknown() {
+        fire(SeffFactory.eINSTANCE.createInternalAction(), EventType.BEGIN);
+        fire(SeffFactory.eINSTANCE.createInternalAction(), EventType.END);
+
+        assertEquals(List.of("beginUnknownElement", "endUnknownElement"), this.listener.calls);
+    }
+
+    @Test
+    public void testNoListeners() {
+        assertTrue(this.helper.hasListeners());
+        this.helper.removeAllListener();
+        assertFalse(this.helper.hasListeners());
+
+        fire(SeffFactory.eINSTANCE.createInternalAction(), EventType.BEGIN);
+        assertTrue(this.listener.calls.isEmpty());
+    }
+
+    @Test
+    public void testListenersOnlyReceiveObservedElements() {
+        final InternalAction observedAction = SeffFactory.eINSTANCE.createInternalAction();
+        final InternalAction ignoredAction = SeffFactory.eINSTANCE.createInternalAction();
+        this.helper.removeAllListener();
+        final RecordingListener filteringListener = new RecordingListener() {
+            @Override
+            public boolean isObservingElementType(final EClass elementType) {
+                return !UsagemodelPackage.Literals.USAGE_SCENARIO.isSuperTypeOf(elementType);
+            }
+
+            @Override
+            public boolean isObservingElement(final EObject element) {
+                return element != ignoredAction;
+            }
+        };
+        this.helper.addObserver(filteringListener);
+
+        assertFalse(this.helper.isObserved(UsagemodelFactory.eINSTANCE.createUsageScenario()));
+        assertFalse(this.helper.isObserved(ignoredAction));
+        assertTrue(this.helper.isObserved(observedAction));
+
+        fire(UsagemodelFactory.eINSTANCE.createUsageScenario(), EventType.BEGIN);
+        fire(ignoredAction, EventType.BEGIN);
+        fire(observedAction, EventType.BEGIN);
+
+        assertEquals(List.of("beginUnknownElement"), filteringListener.calls);
+    }
+
+    @Test
+    public void testElementFilterIsEvaluatedOncePerEvent() {
+        final InternalAction observedAction = SeffFactory.eINSTANCE.createInternalAction();
+        final InternalAction ignoredAction = SeffFactory.eINSTANCE.createInternalAction();
+        final List<EObject> evaluatedElements = new ArrayList<>();
+        this.helper.removeAllListener();
+        final RecordingListener filteringListener = new RecordingListener() {
+            @Override
+            public boolean isObservingElement(final EObject element) {
+                evaluatedElements.add(element);
+                return element == observedAction;
+            }
+        };
+        this.helper.addObserver(filteringListener);
+
+        final List<EObject> createdEvents = new ArrayList<>();
+        this.helper.firePassedEvent(ignoredAction, () -> {
+            createdEvents.add(ignoredAction);
+            return new ModelElementPassedEvent<InternalAction>(ignoredAction, EventType.BEGIN, null, 0.0);
+        });
+        this.helper.firePassedEvent(observedAction, () -> {
+            createdEvents.add(observedAction);
+            return new ModelElementPassedEvent<InternalAction>(observedAction, EventType.BEGIN, null, 0.0);
+        });
+
+        assertEquals(List.of(ignoredAction, observedAction), evaluatedElements);
+        assertEquals(List.of(observedAction), createdEvents);
+        assertEquals(List.of("beginUnknownElement"), filteringListener.calls);
+    }
+
+    @Test
+    public void testInterestIsReevaluatedOnRegistration() {
+        this.helper.removeAllListener();
+        final RecordingListener scenarioOnlyListener = new RecordingListener() {
+            @Override
+            public boolean isObservingElementType(final EClass elementType) {
+                return UsagemodelPackage.Literals.USAGE_SCENARIO.isSuperTypeOf(elementType);
+            }
+        };
+        this.helper.addObserver(scenarioOnlyListener);
+        assertFalse(this.helper.isObserved(SeffFactory.eINSTANCE.createInternalAction()));
+
+        this.helper.addObserver(this.listener);
+        assertTrue(this.helper.isObserved(SeffFactory.eINSTANCE.createInternalAction()));
+    }
+
+    private <T extends EObject> void fire(final T element, final EventType eventType) {
+        this.helper.firePassedEvent(new ModelElementPassedEvent<T>(element, eventType, null, 0.0));
+    }
+
+    private static class RecordingListener extends AbstractInterpreterListener {
+
+        private final List<String> calls = new ArrayList<>();
+
+        @Override
+        public void beginUsageScenarioInterpretation(final ModelElementPassedEvent<UsageScenario> event) {
+            this.calls.add("beginUsageScenario");
+        }
+
+        @Override
+        public void endUsageScenarioInterpretation(final ModelElementPassedEvent<UsageScenario> event) {
+            this.calls.add("endUsageScenario");
+        }
+
+        @Override
+        public void beginEntryLevelSystemCallInterpretation(final ModelElementPassedEvent<EntryLevelSystemCall> event) {
+            this.calls.add("beginEntryLevelSystemCall");
+        }
+
+        @Override
+        public void endEntryLevelSystemCallInterpretation(final ModelElementPassedEvent<EntryLevelSystemCall> event) {
+            this.calls.add("endEntryLevelSystemCall");
+        }
+
+        @Override
+        public void beginExternalCallInterpretation(final RDSEFFElementPassedEvent<ExternalCallAction> event) {
+            this.calls.add("beginExternalCall");
+        }
+
+        @Override
+        public void beginSystemOperationCallInterpretation(final ModelElementPassedEvent<OperationSignature> event) {
+            this.calls.add("beginSystemOperationCall");
+        }
+
+        @Override
+        public void endSystemOperationCallInterpretation(final ModelElementPassedEvent<OperationSignature> event) {
+            this.calls.add("endSystemOperationCall");
+        }
+
+        @Override
+        public <T extends EObject> void beginUnknownElementInterpretation(final ModelElementPassedEvent<T> event) {
+            this.calls.add("beginUnknownElement");
+        }
+
+        @Override
+        public <T extends EObject> void endUnknownElementInterpretation(final ModelElementPassedEvent<T> event) {
+            this.calls.add("endUnknownElement");
+        }
+    }
+}
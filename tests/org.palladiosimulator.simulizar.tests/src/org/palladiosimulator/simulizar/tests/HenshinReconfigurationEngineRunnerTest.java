@@ -0,0 +1,190 @@
+package org.palladiosimulator.simulizar.tests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.CommonPlugin;
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.henshin.model.Edge;
+import org.eclipse.emf.henshin.model.Graph;
+import org.eclipse.emf.henshin.model.HenshinFactory;
+import org.eclipse.emf.henshin.model.Mapping;
+import org.eclipse.emf.henshin.model.Module;
+import org.eclipse.emf.henshin.model.Node;
+import org.eclipse.emf.henshin.model.Rule;
+import org.junit.After;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.palladiosimulator.analyzer.workflow.blackboard.PCMResourceSetPartition;
+import org.palladiosimulator.analyzer.workflow.jobs.LoadPCMModelsIntoBlackboardJob;
+import org.palladiosimulator.pcm.allocation.Allocation;
+import org.palladiosimulator.pcm.allocation.AllocationPackage;
+import org.palladiosimulator.pcm.allocation.util.AllocationResourceFactoryImpl;
+import org.palladiosimulator.pcm.repository.util.RepositoryResourceFactoryImpl;
+import org.palladiosimulator.pcm.resourceenvironment.util.ResourceenvironmentResourceFactoryImpl;
+import org.palladiosimulator.pcm.system.util.SystemResourceFactoryImpl;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementFactory;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
+import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementPackage;
+import org.palladiosimulator.simulizar.reconfiguration.IReconfigurationEngine;
+import org.palladiosimulator.simulizar.reconfiguration.ReconfigurationEngineRunner;
+import org.palladiosimulator.simulizar.reconfiguration.henshin.HenshinModelTransformation;
+import org.palladiosimulator.simulizar.reconfiguration.henshin.HenshinReconfigurator;
+import org.palladiosimulator.simulizar.reconfigurationrule.ModelTransformation;
+import org.palladiosimulator.simulizar.runconfig.SimuLizarWorkflowConfiguration;
+import org.palladiosimulator.simulizar.utils.PCMPartitionManager;
+
+import de.uka.ipd.sdq.workflow.mdsd.blackboard.MDSDBlackboard;
+
+/**
+ * Runs the checks of two {@link HenshinReconfigurator}s concurrently on the test model.
+ */
+public class HenshinReconfigurationEngineRunnerTest {
+
+    private final static String REPOSITORY_PATH = "/org.palladiosimulator.simulizar.tests/testmodel/server.repository";
+    private final static String RESOURCE_ENVIRONMENT_PATH = "/org.palladiosimulator.simulizar.tests/testmodel/server.resourceenvironment";
+    private final static String SYSTEM_PATH = "/org.palladiosimulator.simulizar.tests/testmodel/server.system";
+    private final static String ALLOCATION_PATH = "/org.palladiosimulator.simulizar.tests/testmodel/server.allocation";
+    private final static String PMS_MODEL_PATH = "/org.palladiosimulator.simulizar.tests/testmodel/server.monitorrepository";
+    private final static String ALLOCATION_FILE_CONFIGURATION_KEY = "allocationFile";
+
+    private static URI allocationURI;
+    private static URI pmsURI;
+    private static List<URI> pcmModelURIs;
+
+    private ReconfigurationEngineRunner runner;
+
+    @BeforeClass
+    public static void setUpBeforeClass() {
+        Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().put("repository",
+                new RepositoryResourceFactoryImpl());
+        Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().put("resourceenvironment",
+                new ResourceenvironmentResourceFactoryImpl());
+        Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().put("system", new SystemResourceFactoryImpl());
+        Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().put("allocation",
+                new AllocationResourceFactoryImpl());
+
+        allocationURI = resolve(ALLOCATION_PATH);
+        pmsURI = resolve(PMS_MODEL_PATH);
+        pcmModelURIs = List.of(resolve(REPOSITORY_PATH), resolve(RESOURCE_ENVIRONMENT_PATH), resolve(SYSTEM_PATH),
+                allocationURI);
+    }
+
+    @After
+    public void tearDown() {
+        if (this.runner != null) {
+            this.runner.shutdown();
+        }
+    }
+
+    @Test
+    public void testConcurrentlyCheckedReconfigurationsAreApplied() {
+        final PCMPartitionManager pcmPartitionManager = createPCMPartitionManager();
+        final Allocation allocation = pcmPartitionManager.getGlobalPCMModel().getAllocation();
+        final int allocationContexts = allocation.getAllocationContexts_Allocation().size();
+
+        final EList<ModelTransformation<? extends Object>> transformations = new BasicEList<>();
+        transformations.add(new HenshinModelTransformation(createAddAllocationContextModule()));
+        final List<IReconfigurationEngine> engines = List.of(createReconfigurator(pcmPartitionManager),
+                createReconfigurator(pcmPartitionManager));
+
+        // both engines match, the match of the second one is checked again after the first
+        // reconfiguration changed the allocation
+        final List<Boolean> results = new ArrayList<>();
+        this.runner = new ReconfigurationEngineRunner(engines, 2);
+        this.runner.run(transformations, allocation, reconfiguration -> results.add(reconfiguration.getAsBoolean()));
+
+        assertEquals(List.of(true, true), results);
+        assertEquals(allocationContexts + 2, allocation.getAllocationContexts_Allocation().size());
+    }
+
+    private static PCMPartitionManager createPCMPartitionManager() {
+        final PCMResourceSetPartition pcmResourceSet = new PCMResourceSetPartition();
+        pcmModelURIs.forEach(pcmResourceSet::loadModel);
+
+        final Map<String, Object> configuration = new HashMap<String, Object>();
+        configuration.put(ALLOCATION_FILE_CONFIGURATION_KEY,
+                Paths.get(allocationURI.path()).toAbsolutePath().toString());
+        final SimuLizarWorkflowConfiguration swfc = new SimuLizarWorkflowConfiguration(configuration);
+        swfc.setMonitorRepositoryFile(Paths.get(pmsURI.path()).toAbsolutePath().toString());
+
+        final MDSDBlackboard blackboard = new MDSDBlackboard();
+        blackboard.addPartition(LoadPCMModelsIntoBlackboardJob.PCM_MODELS_PARTITION_ID, pcmResourceSet);
+        final PCMPartitionManager pcmPartitionManager = new PCMPartitionManager(blackboard, swfc);
+        final RuntimeMeasurementModel rmModel = pcmPartitionManager
+                .findModel(RuntimeMeasurementPackage.eINSTANCE.getRuntimeMeasurementModel());
+        rmModel.getMeasurements().add(RuntimeMeasurementFactory.eINSTANCE.createRuntimeMeasurement());
+        return pcmPartitionManager;
+    }
+
+    private static HenshinReconfigurator createReconfigurator(final PCMPartitionManager pcmPartitionManager) {
+        final HenshinReconfigurator reconfigurator = new HenshinReconfigurator();
+        reconfigurator.setPCMPartitionManager(pcmPartitionManager);
+        return reconfigurator;
+    }
+
+    /**
+     * Creates a module whose analyze unit matches any runtime measurement and whose execute unit
+     * adds an allocation context to the allocation.
+     */
+    private static Module createAddAllocationContextModule() {
+        final Rule analyze = createRule("analyze");
+        addMapping(analyze, RuntimeMeasurementPackage.eINSTANCE.getRuntimeMeasurement());
+
+        final Rule execute = createRule("execute");
+        final Node allocation = addMapping(execute, AllocationPackage.eINSTANCE.getAllocation());
+        final Node addedAllocationContext = createNode(execute.getRhs(),
+                AllocationPackage.eINSTANCE.getAllocationContext());
+        final Edge containment = HenshinFactory.eINSTANCE.createEdge();
+        containment.setType(AllocationPackage.eINSTANCE.getAllocation_AllocationContexts_Allocation());
+        execute.getRhs().getEdges().add(containment);
+        containment.setSource(allocation);
+        containment.setTarget(addedAllocationContext);
+
+        final Module module = HenshinFactory.eINSTANCE.createModule();
+        module.getUnits().add(analyze);
+        module.getUnits().add(execute);
+        return module;
+    }
+
+    private static Rule createRule(final String name) {
+        final Rule rule = HenshinFactory.eINSTANCE.createRule();
+        rule.setName(name);
+        rule.setLhs(HenshinFactory.eINSTANCE.createGraph());
+        rule.setRhs(HenshinFactory.eINSTANCE.createGraph());
+        return rule;
+    }
+
+    /**
+     * Adds a node of the given type which is preserved by the rule.
+     *
+     * @return the node of the right hand side.
+     */
+    private static Node addMapping(final Rule rule, final EClass type) {
+        final Mapping mapping = HenshinFactory.eINSTANCE.createMapping();
+        mapping.setOrigin(createNode(rule.getLhs(), type));
+        mapping.setImage(createNode(rule.getRhs(), type));
+        rule.getMappings().add(mapping);
+        return mapping.getImage();
+    }
+
+    private static Node createNode(final Graph graph, final EClass type) {
+        final Node node = HenshinFactory.eINSTANCE.createNode();
+        node.setType(type);
+        graph.getNodes().add(node);
+        return node;
+    }
+
+    private static URI resolve(final String path) {
+        return CommonPlugin.resolve(URI.createPlatformPluginURI(path, true));
+    }
+}
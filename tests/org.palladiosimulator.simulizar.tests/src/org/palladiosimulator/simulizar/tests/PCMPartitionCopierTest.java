@@ -0,0 +1,122 @@
+package org.palladiosimulator.simulizar.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.analyzer.workflow.blackboard.PCMResourceSetPartition;
+import org.palladiosimulator.pcm.allocation.Allocation;
+import org.palladiosimulator.pcm.allocation.AllocationContext;
+import org.palladiosimulator.pcm.allocation.AllocationFactory;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.core.composition.CompositionFactory;
+import org.palladiosimulator.pcm.repository.BasicComponent;
+import org.palladiosimulator.pcm.repository.Repository;
+import org.palladiosimulator.pcm.repository.RepositoryFactory;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceContainer;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceenvironmentFactory;
+import org.palladiosimulator.pcm.system.System;
+import org.palladiosimulator.pcm.system.SystemFactory;
+import org.palladiosimulator.simulizar.utils.PCMPartitionCopier;
+
+public class PCMPartitionCopierTest {
+
+    private Repository repository;
+    private System system;
+    private ResourceEnvironment resourceEnvironment;
+    private Allocation allocation;
+    private PCMPartitionCopier copier;
+
+    @Before
+    public void setUp() {
+        final ResourceSet resourceSet = new ResourceSetImpl();
+        this.repository = RepositoryFactory.eINSTANCE.createRepository();
+        final BasicComponent component = RepositoryFactory.eINSTANCE.createBasicComponent();
+        this.repository.getComponents__Repository().add(component);
+
+        this.system = SystemFactory.eINSTANCE.createSystem();
+        final AssemblyContext assemblyContext = CompositionFactory.eINSTANCE.createAssemblyContext();
+        assemblyContext.setEncapsulatedComponent__AssemblyContext(component);
+        this.system.getAssemblyContexts__ComposedStructure().add(assemblyContext);
+
+        this.resourceEnvironment = ResourceenvironmentFactory.eINSTANCE.createResourceEnvironment();
+        final ResourceContainer container = ResourceenvironmentFactory.eINSTANCE.createResourceContainer();
+        this.resourceEnvironment.getResourceContainer_ResourceEnvironment().add(container);
+
+        this.allocation = AllocationFactory.eINSTANCE.createAllocation();
+        final AllocationContext allocationContext = AllocationFactory.eINSTANCE.createAllocationContext();
+        allocationContext.setAssemblyContext_AllocationContext(assemblyContext);
+        allocationContext.setResourceContainer_AllocationContext(container);
+        this.allocation.getAllocationContexts_Allocation().add(allocationContext);
+
+        addResource(resourceSet, "test.repository", this.repository);
+        addResource(resourceSet, "test.system", this.system);
+        addResource(resourceSet, "test.resourceenvironment", this.resourceEnvironment);
+        addResource(resourceSet, "test.allocation", this.allocation);
+        this.copier = new PCMPartitionCopier(resourceSet);
+    }
+
+    @Test
+    public void testUnchangedResourcesAreTakenOver() {
+        final PCMResourceSetPartition first = this.copier.copy();
+        final List<Resource> firstResources = List.copyOf(first.getResourceSet().getResources());
+        assertEquals(4, firstResources.size());
+
+        final PCMResourceSetPartition second = this.copier.copy(Set.of());
+        assertEquals(firstResources, second.getResourceSet().getResources());
+    }
+
+    @Test
+    public void testChangedResourceAndDependentsAreCopied() {
+        final PCMResourceSetPartition first = this.copier.copy();
+        final Resource repositoryCopy = first.getResourceSet().getResources().get(0);
+        final Resource systemCopy = first.getResourceSet().getResources().get(1);
+        final Resource resourceEnvironmentCopy = first.getResourceSet().getResources().get(2);
+
+        final PCMResourceSetPartition second = this.copier.copy(Set.of(this.resourceEnvironment.eResource()));
+        final List<Resource> secondResources = second.getResourceSet().getResources();
+        assertSame(repositoryCopy, secondResources.get(0));
+        assertSame(systemCopy, secondResources.get(1));
+        assertNotSame(resourceEnvironmentCopy, secondResources.get(2));
+
+        // the allocation refers to the re-copied resource environment and is copied as well
+        final Allocation allocationCopy = (Allocation) secondResources.get(3).getContents().get(0);
+        final AllocationContext allocationContextCopy = allocationCopy.getAllocationContexts_Allocation().get(0);
+        assertSame(secondResources.get(2).getContents().get(0), allocationContextCopy
+            .getResourceContainer_AllocationContext().getResourceEnvironment_ResourceContainer());
+        assertSame(systemCopy.getContents().get(0),
+                allocationContextCopy.getAssemblyContext_AllocationContext().getParentStructure__AssemblyContext());
+    }
+
+    @Test
+    public void testOutdatedPartitionKeepsItsResources() {
+        final PCMResourceSetPartition first = this.copier.copy();
+        final List<Resource> firstResources = List.copyOf(first.getResourceSet().getResources());
+        final Allocation firstAllocation = first.getAllocation();
+
+        final PCMResourceSetPartition second = this.copier.copy(Set.of(this.resourceEnvironment.eResource()));
+        assertEquals(firstResources, first.getResourceSet().getResources());
+        assertSame(firstAllocation, first.getAllocation());
+        assertNotSame(firstAllocation, second.getAllocation());
+        // the taken over resources still belong to the resource set of the first partition
+        assertSame(first.getResourceSet(), second.getResourceSet().getResources().get(0).getResourceSet());
+    }
+
+    private static void addResource(final ResourceSet resourceSet, final String name, final EObject root) {
+        final Resource resource = new ResourceImpl(URI.createURI(name));
+        resource.getContents().add(root);
+        resourceSet.getResources().add(resource);
+    }
+}
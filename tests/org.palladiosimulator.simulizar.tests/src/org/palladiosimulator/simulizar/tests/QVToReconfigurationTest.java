@@ -6,7 +6,9 @@ import static org.junit.Assert.assertTrue;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.eclipse.emf.common.CommonPlugin;
 import org.eclipse.emf.common.util.BasicEList;
@@ -46,8 +48,12 @@ import org.palladiosimulator.runtimemeasurement.RuntimeMeasurement;
 import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementFactory;
 import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementModel;
 import org.palladiosimulator.runtimemeasurement.RuntimeMeasurementPackage;
+import org.palladiosimulator.simulizar.reconfiguration.qvto.QVTOExecutor;
 import org.palladiosimulator.simulizar.reconfiguration.qvto.QVTOReconfigurator;
+import org.palladiosimulator.simulizar.reconfiguration.qvto.QvtoModelTransformation;
 import org.palladiosimulator.simulizar.reconfiguration.qvto.QvtoReconfigurationLoader;
+import org.palladiosimulator.simulizar.reconfiguration.qvto.util.ModelTransformationCache;
+import org.palladiosimulator.simulizar.reconfiguration.qvto.util.QVToModelCache;
 import org.palladiosimulator.simulizar.reconfigurationrule.ModelTransformation;
 import org.palladiosimulator.simulizar.runconfig.SimuLizarWorkflowConfiguration;
 import org.palladiosimulator.simulizar.utils.PCMPartitionManager;
@@ -119,6 +125,73 @@ public class QVToReconfigurationTest {
         reconfigurationTests();
     }
 
+    /**
+     * The model extents of the transformation parameters are reused across executions. Changes of
+     * the measurements in between must be visible to the next execution.
+     */
+    @Test
+    public void testChangedMeasurementsAreVisibleToNextExecution() {
+        final PCMResourceSetPartition pcmResourceSet = loadPcmModels();
+        final SimuLizarWorkflowConfiguration swfc = createConfiguration(TRANSFORMATION_RULES_SCALE_UP_PATH);
+        final PCMPartitionManager pcmPartitionManager = createPCMPartitionManager(pcmResourceSet, swfc);
+        final RuntimeMeasurementModel rmModel = pcmPartitionManager
+                .findModel(RuntimeMeasurementPackage.eINSTANCE.getRuntimeMeasurementModel());
+        rmModel.getMeasurements().add(createMeasurement(MEASUREMENT_BELOW_THRESHOLD));
+
+        final QVTOReconfigurator reconfigurator = new QVTOReconfigurator();
+        reconfigurator.setConfiguration(swfc);
+        reconfigurator.setPCMPartitionManager(pcmPartitionManager);
+        final EList<ModelTransformation<? extends Object>> transformations = new BasicEList<>(
+                loadTransformations(swfc));
+
+        assertTrue(reconfigurator.runExecute(transformations, null));
+        assertEquals(SERVER_EXPECTED_PROCESSING_RATE_BEFORE_SCALING, getServerProcessingRate(pcmResourceSet), 0.0);
+
+        // replace the measurement below the threshold by one over the threshold
+        rmModel.getMeasurements().remove(0);
+        rmModel.getMeasurements().add(createMeasurement(MEASUREMENT_OVER_THRESHOLD));
+        assertTrue(reconfigurator.runExecute(transformations, null));
+        assertEquals(SERVER_EXPECTED_PROCESSING_RATE_AFTER_SCALING, getServerProcessingRate(pcmResourceSet), 0.0);
+
+        rmModel.getMeasurements().set(0, createMeasurement(MEASUREMENT_BELOW_THRESHOLD));
+        assertTrue(reconfigurator.runExecute(transformations, null));
+        assertEquals(SERVER_EXPECTED_PROCESSING_RATE_AFTER_SCALING, getServerProcessingRate(pcmResourceSet), 0.0);
+    }
+
+    /**
+     * The model extents of the transformation parameters are discarded once the model cache is
+     * modified, so models replaced in the cache are not passed to the next execution.
+     */
+    @Test
+    public void testReplacedModelIsVisibleToNextExecution() {
+        final PCMResourceSetPartition pcmResourceSet = loadPcmModels();
+        final SimuLizarWorkflowConfiguration swfc = createConfiguration(TRANSFORMATION_RULES_SCALE_UP_PATH);
+        final PCMPartitionManager pcmPartitionManager = createPCMPartitionManager(pcmResourceSet, swfc);
+        final RuntimeMeasurementModel rmModel = pcmPartitionManager
+                .findModel(RuntimeMeasurementPackage.eINSTANCE.getRuntimeMeasurementModel());
+        rmModel.getMeasurements().add(createMeasurement(MEASUREMENT_BELOW_THRESHOLD));
+
+        final QVToModelCache modelCache = new QVToModelCache(pcmPartitionManager);
+        final QVTOExecutor executor = new QVTOExecutor(new ModelTransformationCache(), modelCache);
+        final List<QvtoModelTransformation> transformations = loadTransformations(swfc).stream()
+                .filter(QvtoModelTransformation.class::isInstance).map(QvtoModelTransformation.class::cast)
+                .collect(Collectors.toList());
+
+        assertTrue(executor.executeTransformations(transformations));
+        assertEquals(SERVER_EXPECTED_PROCESSING_RATE_BEFORE_SCALING, getServerProcessingRate(pcmResourceSet), 0.0);
+
+        final RuntimeMeasurementModel replacingRmModel = RuntimeMeasurementFactory.eINSTANCE
+                .createRuntimeMeasurementModel();
+        replacingRmModel.getMeasurements().add(createMeasurement(MEASUREMENT_OVER_THRESHOLD));
+        final int modificationCount = modelCache.getModificationCount();
+        modelCache.removeModelOfType(RuntimeMeasurementPackage.eINSTANCE);
+        modelCache.storeModel(replacingRmModel);
+        assertTrue(modelCache.getModificationCount() > modificationCount);
+
+        assertTrue(executor.executeTransformations(transformations));
+        assertEquals(SERVER_EXPECTED_PROCESSING_RATE_AFTER_SCALING, getServerProcessingRate(pcmResourceSet), 0.0);
+    }
+
     private void reconfigurationTests() {
         assertEquals("The branch probability was not changed as expected!", BRANCH_2_EXPECTED_VALUE_AFTER_OUTSOURCING,
                 outsource(MEASUREMENT_OVER_THRESHOLD), 0.0);
@@ -209,9 +282,14 @@ public class QVToReconfigurationTest {
      * @return processing resource of the server that is to be scaled up.
      */
     private double scaleUp(final double m) {
-        final PCMResourceSetPartition pcmResourceSet = readPcmModelAndApplyTransformationRules(m,
-                TRANSFORMATION_RULES_SCALE_UP_PATH);
+        return getServerProcessingRate(
+                readPcmModelAndApplyTransformationRules(m, TRANSFORMATION_RULES_SCALE_UP_PATH));
+    }
 
+    /**
+     * @return processing rate of the server resource container.
+     */
+    private double getServerProcessingRate(final PCMResourceSetPartition pcmResourceSet) {
         final Allocation allocation = pcmResourceSet.getAllocation();
         final ResourceEnvironment resourceEnvironment = allocation.getTargetResourceEnvironment_Allocation();
         final Iterator<ResourceContainer> iteratorResourceContainer = resourceEnvironment
@@ -313,9 +391,42 @@ public class QVToReconfigurationTest {
      */
     private PCMResourceSetPartition readPcmModelAndApplyTransformationRules(final double m,
             final String reconfigurationRulesFolderPath) {
+        final RuntimeMeasurement responeTimeRuntimeMeasurement = createMeasurement(m);
+
         /*
-         * Create a measurement.
+         * Read in the PCM model.
          */
+        final PCMResourceSetPartition pcmResourceSet = loadPcmModels();
+        final TreeIterator<EObject> pcmModelIterator = pcmResourceSet.getRepositories().get(0).eAllContents();
+        EObject monitoredElement = null;
+        while (pcmModelIterator.hasNext()) {
+            final EObject element = pcmModelIterator.next();
+            final EAttribute id = element.eClass().getEIDAttribute();
+            final Object idAttribute = element.eGet(id);
+            if (idAttribute.toString().equals("_1P7G0LwGEeSxGbiYbg6Waw")) {
+                monitoredElement = element;
+            }
+        }
+
+        SimuLizarWorkflowConfiguration swfc = createConfiguration(reconfigurationRulesFolderPath);
+        final PCMPartitionManager pcmPartitionManager = createPCMPartitionManager(pcmResourceSet, swfc);
+        RuntimeMeasurementModel rmModel = pcmPartitionManager.findModel(RuntimeMeasurementPackage.eINSTANCE.getRuntimeMeasurementModel());
+        rmModel.getMeasurements().add(responeTimeRuntimeMeasurement);
+        
+        QVTOReconfigurator reconfigurator = new QVTOReconfigurator();
+        reconfigurator.setConfiguration(swfc);
+        reconfigurator.setPCMPartitionManager(pcmPartitionManager);
+        EList<ModelTransformation<? extends Object>> transformations = new BasicEList<>(loadTransformations(swfc));
+        boolean checkedAndExceuted = reconfigurator.runExecute(transformations, monitoredElement);
+        assertTrue("Reconfiguration was not executed!", checkedAndExceuted);
+
+        return pcmResourceSet;
+    }
+
+    /**
+     * Creates a response time measurement with the given value.
+     */
+    private static RuntimeMeasurement createMeasurement(final double m) {
         final MeasurementSpecification measurementSpecification = MonitorRepositoryFactory.eINSTANCE
                 .createMeasurementSpecification();
         measurementSpecification.setId("_sEx-cMLAEeSZr8oGpigbHA");
@@ -333,31 +444,23 @@ public class QVToReconfigurationTest {
         responeTimeRuntimeMeasurement.setId("");
         responeTimeRuntimeMeasurement.setMeasuringValue(m);
         responeTimeRuntimeMeasurement.setMeasurementSpecification(measurementSpecification);
+        return responeTimeRuntimeMeasurement;
+    }
 
-        URI reconfRulesURI = URI.createPlatformPluginURI(reconfigurationRulesFolderPath, false);
-
-        /*
-         * Read in the PCM model.
-         */
+    private static PCMResourceSetPartition loadPcmModels() {
         final PCMResourceSetPartition pcmResourceSet = new PCMResourceSetPartition();
         pcmResourceSet.loadModel(repositoryURI);
         pcmResourceSet.loadModel(resourceEnvironmentURI);
         pcmResourceSet.loadModel(systemURI);
         pcmResourceSet.loadModel(allocationURI);
-        final TreeIterator<EObject> pcmModelIterator = pcmResourceSet.getRepositories().get(0).eAllContents();
-        EObject monitoredElement = null;
-        while (pcmModelIterator.hasNext()) {
-            final EObject element = pcmModelIterator.next();
-            final EAttribute id = element.eClass().getEIDAttribute();
-            final Object idAttribute = element.eGet(id);
-            if (idAttribute.toString().equals("_1P7G0LwGEeSxGbiYbg6Waw")) {
-                monitoredElement = element;
-            }
-        }
+        return pcmResourceSet;
+    }
 
-        /*
-         * Create the configuration for the QVTo reconfigurator.
-         */
+    /**
+     * Creates the configuration for the QVTo reconfigurator.
+     */
+    private static SimuLizarWorkflowConfiguration createConfiguration(final String reconfigurationRulesFolderPath) {
+        URI reconfRulesURI = URI.createPlatformPluginURI(reconfigurationRulesFolderPath, false);
         Map<String, Object> configuration = new HashMap<String, Object>();
         configuration.put(ALLOCATION_FILE_CONFIGURATION_KEY,
                 Paths.get(allocationURI.path()).toAbsolutePath().toString());
@@ -365,26 +468,23 @@ public class QVToReconfigurationTest {
         SimuLizarWorkflowConfiguration swfc = new SimuLizarWorkflowConfiguration(configuration);
         swfc.setMonitorRepositoryFile(Paths.get(pmsURI.path()).toAbsolutePath().toString());
         swfc.setReconfigurationRulesFolder(reconfRulesURI.toString());
+        return swfc;
+    }
 
-        /*
-         * Put the PCM model into the MDSD blackboard.
-         */
+    /**
+     * Puts the PCM model into the MDSD blackboard.
+     */
+    private static PCMPartitionManager createPCMPartitionManager(final PCMResourceSetPartition pcmResourceSet,
+            final SimuLizarWorkflowConfiguration swfc) {
         final MDSDBlackboard blackboard = new MDSDBlackboard();
         blackboard.addPartition(LoadPCMModelsIntoBlackboardJob.PCM_MODELS_PARTITION_ID, pcmResourceSet);
-        final PCMPartitionManager pcmPartitionManager = new PCMPartitionManager(blackboard, swfc);
-        RuntimeMeasurementModel rmModel = pcmPartitionManager.findModel(RuntimeMeasurementPackage.eINSTANCE.getRuntimeMeasurementModel());
-        rmModel.getMeasurements().add(responeTimeRuntimeMeasurement);
-        
-        QVTOReconfigurator reconfigurator = new QVTOReconfigurator();
-        reconfigurator.setConfiguration(swfc);
-        reconfigurator.setPCMPartitionManager(pcmPartitionManager);
+        return new PCMPartitionManager(blackboard, swfc);
+    }
+
+    private static List<ModelTransformation<? extends Object>> loadTransformations(
+            final SimuLizarWorkflowConfiguration swfc) {
         QvtoReconfigurationLoader reconfigurationLoader = new QvtoReconfigurationLoader();
         reconfigurationLoader.load(swfc);
-        EList<ModelTransformation<? extends Object>> transformations = new BasicEList<>(
-                reconfigurationLoader.getTransformations());
-        boolean checkedAndExceuted = reconfigurator.runExecute(transformations, monitoredElement);
-        assertTrue("Reconfiguration was not executed!", checkedAndExceuted);
-
-        return pcmResourceSet;
+        return reconfigurationLoader.getTransformations();
     }
 }
\ No newline at end of file
@@ -0,0 +1,217 @@
+package org.palladiosimulator.simulizar.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.emf.common.util.BasicEList;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.palladiosimulator.pcm.resourceenvironment.ProcessingResourceSpecification;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceContainer;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceenvironmentFactory;
+import org.palladiosimulator.simulizar.reconfiguration.IReconfigurationEngine;
+import org.palladiosimulator.simulizar.reconfiguration.ISeparableReconfigurationEngine;
+import org.palladiosimulator.simulizar.reconfiguration.ReconfigurationEngineRunner;
+import org.palladiosimulator.simulizar.reconfigurationrule.ModelTransformation;
+import org.palladiosimulator.simulizar.runconfig.SimuLizarWorkflowConfiguration;
+import org.palladiosimulator.simulizar.utils.PCMPartitionManager;
+
+public class ReconfigurationEngineRunnerTest {
+
+    private static final long CHECK_TIMEOUT_SECONDS = 10L;
+
+    private final EList<ModelTransformation<? extends Object>> transformations = new BasicEList<>();
+    private final EObject monitoredElement = ResourceenvironmentFactory.eINSTANCE.createResourceContainer();
+
+    // shared by all engines of a test, so it records the order of their reconfigurations
+    private List<String> reconfigurations;
+    private List<Thread> reconfigurationThreads;
+    private List<Boolean> reconfigurationResults;
+    private ReconfigurationEngineRunner runner;
+
+    @Before
+    public void setUp() {
+        this.reconfigurations = Collections.synchronizedList(new ArrayList<>());
+        this.reconfigurationThreads = new ArrayList<>();
+        this.reconfigurationResults = new ArrayList<>();
+    }
+
+    @After
+    public void tearDown() {
+        if (this.runner != null) {
+            this.runner.shutdown();
+        }
+    }
+
+    @Test
+    public void testChecksRunConcurrentlyAndReconfigurationsSerially() {
+        // each check waits for the other one, so they fail unless run concurrently
+        final CyclicBarrier bothChecksRunning = new CyclicBarrier(2);
+        final FakeSeparableEngine first = new FakeSeparableEngine("first", createElement(), bothChecksRunning);
+        final FakeSeparableEngine second = new FakeSeparableEngine("second", createElement(), bothChecksRunning);
+
+        run(2, first, new FakeEngine("other"), second);
+
+        assertEquals(1, first.checks.get());
+        assertEquals(1, second.checks.get());
+        assertNotEquals(Thread.currentThread(), first.checkThread);
+        assertNotEquals(Thread.currentThread(), second.checkThread);
+        assertEquals(List.of("first", "other", "second"), this.reconfigurations);
+        assertEquals(Collections.nCopies(3, Thread.currentThread()), this.reconfigurationThreads);
+        assertEquals(List.of(true, true, true), this.reconfigurationResults);
+    }
+
+    @Test
+    public void testStaleMatchIsCheckedAgain() {
+        final ResourceContainer sharedElement = createElement();
+        final FakeSeparableEngine first = new FakeSeparableEngine("first", sharedElement, null);
+        first.onApply = () -> sharedElement.setEntityName("changed by first");
+        final FakeSeparableEngine second = new FakeSeparableEngine("second", sharedElement, null);
+        final FakeSeparableEngine unaffected = new FakeSeparableEngine("unaffected", createElement(), null);
+
+        run(2, first, second, unaffected);
+
+        assertEquals(1, first.checks.get());
+        assertEquals(2, second.checks.get());
+        assertEquals(1, unaffected.checks.get());
+        assertEquals(List.of("first", "second", "unaffected"), this.reconfigurations);
+        assertEquals(List.of(true, true, true), this.reconfigurationResults);
+    }
+
+    @Test
+    public void testStaleMatchWhichNoLongerHoldsIsNotApplied() {
+        final ResourceContainer sharedElement = createElement();
+        final FakeSeparableEngine first = new FakeSeparableEngine("first", sharedElement, null);
+        first.onApply = () -> sharedElement.setEntityName("changed by first");
+        final FakeSeparableEngine second = new FakeSeparableEngine("second", sharedElement, null);
+        second.matchesOnlyOnce = true;
+
+        run(2, first, second);
+
+        assertEquals(2, second.checks.get());
+        assertEquals(List.of("first"), this.reconfigurations);
+        assertEquals(List.of(true, false), this.reconfigurationResults);
+    }
+
+    @Test
+    public void testMatchIsCheckedAgainIfItsContentsChanged() {
+        final ResourceContainer sharedElement = createElement();
+        final ProcessingResourceSpecification nestedElement = ResourceenvironmentFactory.eINSTANCE
+                .createProcessingResourceSpecification();
+        sharedElement.getActiveResourceSpecifications_ResourceContainer().add(nestedElement);
+        final FakeSeparableEngine first = new FakeSeparableEngine("first", createElement(), null);
+        first.onApply = () -> nestedElement.setMTTF(1.0);
+        final FakeSeparableEngine second = new FakeSeparableEngine("second", sharedElement, null);
+        second.matchesOnlyOnce = true;
+
+        run(2, first, second);
+
+        assertEquals(2, second.checks.get());
+        assertEquals(List.of("first"), this.reconfigurations);
+        assertEquals(List.of(true, false), this.reconfigurationResults);
+    }
+
+    private void run(final int parallelism, final IReconfigurationEngine... engines) {
+        this.runner = new ReconfigurationEngineRunner(List.of(engines), parallelism);
+        this.runner.run(this.transformations, this.monitoredElement, reconfiguration -> {
+            this.reconfigurationThreads.add(Thread.currentThread());
+            this.reconfigurationResults.add(reconfiguration.getAsBoolean());
+        });
+    }
+
+    private static ResourceContainer createElement() {
+        return ResourceenvironmentFactory.eINSTANCE.createResourceContainer();
+    }
+
+    private class FakeEngine implements IReconfigurationEngine {
+
+        final String name;
+
+        private FakeEngine(final String name) {
+            this.name = name;
+        }
+
+        @Override
+        public boolean runCheck(final EList<? extends ModelTransformation<? extends Object>> checks,
+                final EObject monitoredElement) {
+            ReconfigurationEngineRunnerTest.this.reconfigurations.add(this.name);
+            return true;
+        }
+
+        @Override
+        public boolean runExecute(final EList<? extends ModelTransformation<? extends Object>> actions,
+                final EObject monitoredElement) {
+            return this.runCheck(actions, monitoredElement);
+        }
+
+        @Override
+        public void setConfiguration(final SimuLizarWorkflowConfiguration configuration) {
+        }
+
+        @Override
+        public void setPCMPartitionManager(final PCMPartitionManager pcmPartitionManager) {
+        }
+    }
+
+    private class FakeSeparableEngine extends FakeEngine implements ISeparableReconfigurationEngine {
+
+        private final EObject matchedElement;
+        private final CyclicBarrier firstCheckBarrier;
+        private final AtomicInteger checks = new AtomicInteger();
+        private volatile Thread checkThread;
+        private Runnable onApply = () -> {
+        };
+        private boolean matchesOnlyOnce = false;
+
+        private FakeSeparableEngine(final String name, final EObject matchedElement,
+                final CyclicBarrier firstCheckBarrier) {
+            super(name);
+            this.matchedElement = matchedElement;
+            this.firstCheckBarrier = firstCheckBarrier;
+        }
+
+        @Override
+        public boolean runCheck(final EList<? extends ModelTransformation<? extends Object>> checks,
+                final EObject monitoredElement) {
+            final Match match = this.findMatch(checks, monitoredElement);
+            return match != null && this.applyMatch(match, monitoredElement);
+        }
+
+        @Override
+        public Match findMatch(final EList<? extends ModelTransformation<? extends Object>> checks,
+                final EObject monitoredElement) {
+            final int check = this.checks.incrementAndGet();
+            this.checkThread = Thread.currentThread();
+            if (check == 1 && this.firstCheckBarrier != null) {
+                try {
+                    this.firstCheckBarrier.await(CHECK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                    throw new IllegalStateException("Checks were not run concurrently", e);
+                }
+            }
+            if (this.matchesOnlyOnce && check > 1) {
+                return null;
+            }
+            return () -> Collections.singletonList(this.matchedElement);
+        }
+
+        @Override
+        public boolean applyMatch(final Match match, final EObject monitoredElement) {
+            ReconfigurationEngineRunnerTest.this.reconfigurations.add(this.name);
+            this.onApply.run();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.palladiosimulator.simulizar.tests.benchmarks;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.junit.Test;
+import org.palladiosimulator.pcm.repository.OperationSignature;
+import org.palladiosimulator.pcm.repository.RepositoryFactory;
+import org.palladiosimulator.pcm.seff.SeffFactory;
+import org.palladiosimulator.pcm.usagemodel.EntryLevelSystemCall;
+import org.palladiosimulator.pcm.usagemodel.UsagemodelFactory;
+import org.palladiosimulator.simulizar.interpreter.EventNotificationHelper;
+import org.palladiosimulator.simulizar.interpreter.listener.AbstractInterpreterListener;
+import org.palladiosimulator.simulizar.interpreter.listener.EventType;
+import org.palladiosimulator.simulizar.interpreter.listener.ModelElementPassedEvent;
+
+/**
+ * Measures the cost of dispatching the BEGIN and END events of a single interpreted action through
+ * the {@link EventNotificationHelper}. The action mix resembles a typical RDSEFF, i.e. mostly
+ * actions without dedicated listener methods.
+ *
+ * Not part of the regular test run; execute it manually as JUnit test to print the results.
+ */
+public class EventDispatchBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASURED_ITERATIONS = 2_000_000;
+
+    private final List<EObject> actions = List.of(SeffFactory.eINSTANCE.createStartAction(),
+            SeffFactory.eINSTANCE.createInternalAction(), SeffFactory.eINSTANCE.createBranchAction(),
+            SeffFactory.eINSTANCE.createLoopAction(), SeffFactory.eINSTANCE.createInternalAction(),
+            RepositoryFactory.eINSTANCE.createOperationSignature(),
+            UsagemodelFactory.eINSTANCE.createEntryLevelSystemCall(), SeffFactory.eINSTANCE.createStopAction());
+
+    @Test
+    public void benchmarkWithoutListeners() {
+        runBenchmark("no listeners", new EventNotificationHelper(), null);
+    }
+
+    @Test
+    public void benchmarkWithListeners() {
+        final EventNotificationHelper helper = new EventNotificationHelper();
+        final CountingListener first = new CountingListener();
+        final CountingListener second = new CountingListener();
+        helper.addObserver(first);
+        helper.addObserver(second);
+
+        runBenchmark("two listeners", helper, first);
+        assertEquals(first.count, second.count);
+    }
+
+    private void runBenchmark(final String name, final EventNotificationHelper helper,
+            final CountingListener listener) {
+        dispatch(helper, WARMUP_ITERATIONS);
+        final long countBefore = listener == null ? 0 : listener.count;
+
+        final long start = System.nanoTime();
+        dispatch(helper, MEASURED_ITERATIONS);
+        final long duration = System.nanoTime() - start;
+
+        if (listener != null) {
+            assertEquals(2L * MEASURED_ITERATIONS, listener.count - countBefore);
+        }
+        System.out.println(String.format("Event dispatch (%s): %.1f ns per action", name,
+                (double) duration / MEASURED_ITERATIONS));
+    }
+
+    private void dispatch(final EventNotificationHelper helper, final int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            final EObject action = this.actions.get(i % this.actions.size());
+            helper.firePassedEvent(new ModelElementPassedEvent<EObject>(action, EventType.BEGIN, null, i));
+            helper.firePassedEvent(new ModelElementPassedEvent<EObject>(action, EventType.END, null, i));
+        }
+    }
+
+    private static class CountingListener extends AbstractInterpreterListener {
+
+        private long count = 0;
+
+        @Override
+        public <T extends EObject> void beginUnknownElementInterpretation(final ModelElementPassedEvent<T> event) {
+            this.count++;
+        }
+
+        @Override
+        public <T extends EObject> void endUnknownElementInterpretation(final ModelElementPassedEvent<T> event) {
+            this.count++;
+        }
+
+        @Override
+        public void beginSystemOperationCallInterpretation(final ModelElementPassedEvent<OperationSignature> event) {
+            this.count++;
+        }
+
+        @Override
+        public void endSystemOperationCallInterpretation(final ModelElementPassedEvent<OperationSignature> event) {
+            this.count++;
+        }
+
+        @Override
+        public void beginEntryLevelSystemCallInterpretation(
+                final ModelElementPassedEvent<EntryLevelSystemCall> event) {
+            this.count++;
+        }
+
+        @Override
+        public void endEntryLevelSystemCallInterpretation(
+                final ModelElementPassedEvent<EntryLevelSystemCall> event) {
+            this.count++;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.palladiosimulator.simulizar.tests.benchmarks;
+
+import java.util.Set;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.junit.Test;
+import org.palladiosimulator.pcm.allocation.Allocation;
+import org.palladiosimulator.pcm.allocation.AllocationContext;
+import org.palladiosimulator.pcm.allocation.AllocationFactory;
+import org.palladiosimulator.pcm.core.CoreFactory;
+import org.palladiosimulator.pcm.core.PCMRandomVariable;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.core.composition.CompositionFactory;
+import org.palladiosimulator.pcm.repository.BasicComponent;
+import org.palladiosimulator.pcm.repository.Repository;
+import org.palladiosimulator.pcm.repository.RepositoryFactory;
+import org.palladiosimulator.pcm.resourceenvironment.ProcessingResourceSpecification;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceContainer;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceenvironmentFactory;
+import org.palladiosimulator.pcm.system.System;
+import org.palladiosimulator.pcm.system.SystemFactory;
+import org.palladiosimulator.simulizar.utils.PCMPartitionCopier;
+
+/**
+ * Compares the cost of a full copy of the global PCM model with the cost of an incremental copy
+ * after a change of a single processing rate, for growing model sizes. The changed resource
+ * environment and the allocation referring to it are re-copied, the repository and the system are
+ * taken over from the previous copy.
+ *
+ * Not part of the regular test run; execute it manually as JUnit test to print the results.
+ */
+public class PartitionSnapshotBenchmark {
+
+    private static final int[] COMPONENT_COUNTS = { 100, 1_000, 10_000 };
+    private static final int CONTAINER_COUNT = 20;
+    private static final int ITERATIONS = 20;
+
+    @Test
+    public void benchmarkSnapshots() {
+        for (final int componentCount : COMPONENT_COUNTS) {
+            final ResourceSet resourceSet = new ResourceSetImpl();
+            final ResourceEnvironment resourceEnvironment = createModel(resourceSet, componentCount);
+            final PCMPartitionCopier copier = new PCMPartitionCopier(resourceSet);
+            final Set<Resource> changedResources = Set.of(resourceEnvironment.eResource());
+
+            // warm up
+            copier.copy();
+            copier.copy(changedResources);
+
+            long start = java.lang.System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                copier.copy();
+            }
+            final long fullCopy = (java.lang.System.nanoTime() - start) / ITERATIONS;
+
+            start = java.lang.System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                copier.copy(changedResources);
+            }
+            final long incrementalCopy = (java.lang.System.nanoTime() - start) / ITERATIONS;
+
+            java.lang.System.out.println(String.format(
+                    "Snapshot of %d components: full copy %.2f ms, incremental copy %.2f ms", componentCount,
+                    fullCopy / 1e6, incrementalCopy / 1e6));
+        }
+    }
+
+    private static ResourceEnvironment createModel(final ResourceSet resourceSet, final int componentCount) {
+        final Repository repository = RepositoryFactory.eINSTANCE.createRepository();
+        final System system = SystemFactory.eINSTANCE.createSystem();
+        final ResourceEnvironment resourceEnvironment = ResourceenvironmentFactory.eINSTANCE
+            .createResourceEnvironment();
+        final Allocation allocation = AllocationFactory.eINSTANCE.createAllocation();
+        allocation.setSystem_Allocation(system);
+        allocation.setTargetResourceEnvironment_Allocation(resourceEnvironment);
+
+        for (int i = 0; i < CONTAINER_COUNT; i++) {
+            final ResourceContainer container = ResourceenvironmentFactory.eINSTANCE.createResourceContainer();
+            container.setEntityName("Container" + i);
+            final ProcessingResourceSpecification specification = ResourceenvironmentFactory.eINSTANCE
+                .createProcessingResourceSpecification();
+            final PCMRandomVariable processingRate = CoreFactory.eINSTANCE.createPCMRandomVariable();
+            processingRate.setSpecification("1000");
+            specification.setProcessingRate_ProcessingResourceSpecification(processingRate);
+            container.getActiveResourceSpecifications_ResourceContainer().add(specification);
+            resourceEnvironment.getResourceContainer_ResourceEnvironment().add(container);
+        }
+
+        for (int i = 0; i < componentCount; i++) {
+            final BasicComponent component = RepositoryFactory.eINSTANCE.createBasicComponent();
+            component.setEntityName("Component" + i);
+            repository.getComponents__Repository().add(component);
+
+            final AssemblyContext assemblyContext = CompositionFactory.eINSTANCE.createAssemblyContext();
+            assemblyContext.setEncapsulatedComponent__AssemblyContext(component);
+            system.getAssemblyContexts__ComposedStructure().add(assemblyContext);
+
+            final AllocationContext allocationContext = AllocationFactory.eINSTANCE.createAllocationContext();
+            allocationContext.setAssemblyContext_AllocationContext(assemblyContext);
+            allocationContext.setResourceContainer_AllocationContext(
+                    resourceEnvironment.getResourceContainer_ResourceEnvironment().get(i % CONTAINER_COUNT));
+            allocation.getAllocationContexts_Allocation().add(allocationContext);
+        }
+
+        addResource(resourceSet, "benchmark.repository", repository);
+        addResource(resourceSet, "benchmark.system", system);
+        addResource(resourceSet, "benchmark.resourceenvironment", resourceEnvironment);
+        addResource(resourceSet, "benchmark.allocation", allocation);
+        return resourceEnvironment;
+    }
+
+    private static void addResource(final ResourceSet resourceSet, final String name, final EObject root) {
+        final Resource resource = new ResourceImpl(URI.createURI(name));
+        resource.getContents().add(root);
+        resourceSet.getResources().add(resource);
+    }
+}